@@ -6,16 +6,24 @@ import com.smartcoreinc.fphps.dto.DocumentReadResponse;
 import com.smartcoreinc.fphps.dto.FPHPSImage;
 import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.DevicePropertiesService;
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.DeviceTopicPublisher;
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.Services.DgReadProfileService;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.FPHPSService;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.PaApiSettingsService;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.PassiveAuthenticationService;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.ClientPaVerificationService;
+import com.smartcoreinc.fphps.example.fphps_web_example.Services.ContinuousReadService;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.FaceVerificationService;
+import com.smartcoreinc.fphps.example.fphps_web_example.Services.ReadResultStore;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceTimeoutPolicy;
 import com.smartcoreinc.fphps.example.fphps_web_example.forms.DevSettingsForm;
 import com.smartcoreinc.fphps.example.fphps_web_example.forms.EPassportSettingForm;
 import com.smartcoreinc.fphps.example.fphps_web_example.forms.ScanForm;
 import com.smartcoreinc.fphps.example.fphps_web_example.forms.SettingsForm;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.CertificateInfo;
+import com.smartcoreinc.fphps.example.fphps_web_example.entity.DgReadProfile;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.ParsedSODInfo;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.PaLookupResponse;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.ClientPaResult;
@@ -25,6 +33,7 @@ import com.smartcoreinc.fphps.example.fphps_web_example.dto.face.FaceVerificatio
 import com.smartcoreinc.fphps.helpers.DocumentDataExporter;
 import com.smartcoreinc.fphps.exception.DocumentExportException;
 
+import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -34,14 +43,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 
 @Slf4j
@@ -49,12 +62,24 @@ import java.util.HashMap;
 @RequestMapping("/")
 public class FPHPSController {
 
+    /** 검증/내보내기 대상 읽기를 지정하는 요청 헤더 (없으면 세션의 최근 읽기) */
+    private static final String READ_ID_HEADER = "X-Read-Id";
+    /** 검증 결과 (STOMP 판독기 검증 토픽) */
+    public static final String VERIFICATION_RESULT_EVENT = "VERIFICATION_RESULT";
+
     private final FPHPSService fphpsService;
     private final DevicePropertiesService devicePropertiesService;
     private final PassiveAuthenticationService paService;
     private final ClientPaVerificationService clientPaService;
     private final FaceVerificationService faceService;
     private final PaApiSettingsService paApiSettingsService;
+    private final ContinuousReadService continuousReadService;
+    private final DeviceStageMetrics deviceStageMetrics;
+    private final DeviceTimeoutPolicy deviceTimeoutPolicy;
+    private final DgReadProfileService dgReadProfileService;
+    private final ReadResultStore readResultStore;
+    private final FastPassWebSocketHandler fastPassWebSocketHandler;
+    private final DeviceTopicPublisher topicPublisher;
 
     @Value("${document-export.base-dir}")
     private String exportBaseDir;
@@ -62,13 +87,50 @@ public class FPHPSController {
     public FPHPSController(FPHPSService fphpsService, DevicePropertiesService devicePropertiesService,
                            PassiveAuthenticationService paService, ClientPaVerificationService clientPaService,
                            FaceVerificationService faceService,
-                           PaApiSettingsService paApiSettingsService) {
+                           PaApiSettingsService paApiSettingsService,
+                           ContinuousReadService continuousReadService,
+                           DeviceStageMetrics deviceStageMetrics,
+                           DeviceTimeoutPolicy deviceTimeoutPolicy,
+                           DgReadProfileService dgReadProfileService,
+                           ReadResultStore readResultStore,
+                           FastPassWebSocketHandler fastPassWebSocketHandler,
+                           DeviceTopicPublisher topicPublisher) {
         this.fphpsService = fphpsService;
         this.devicePropertiesService = devicePropertiesService;
         this.paService = paService;
         this.clientPaService = clientPaService;
         this.faceService = faceService;
         this.paApiSettingsService = paApiSettingsService;
+        this.continuousReadService = continuousReadService;
+        this.deviceStageMetrics = deviceStageMetrics;
+        this.deviceTimeoutPolicy = deviceTimeoutPolicy;
+        this.dgReadProfileService = dgReadProfileService;
+        this.readResultStore = readResultStore;
+        this.fastPassWebSocketHandler = fastPassWebSocketHandler;
+        this.topicPublisher = topicPublisher;
+    }
+
+    /**
+     * 검증/내보내기 대상 읽기 결과. readId가 있으면 해당 읽기, 없으면 이 세션의 최근 읽기
+     */
+    private DocumentReadResponse readResult(String readId, HttpSession session) {
+        return readResultStore.find(readId, session.getId());
+    }
+
+    /**
+     * 검증 결과를 읽은 판독기의 검증 토픽(/sub/devices/{deviceId}/verifications)으로 발행 (HTTP 응답과 같은 JSON)
+     */
+    private void publishVerification(String type, ReadResultStore.StoredRead read, Object result) {
+        if (read.deviceId() == null || !topicPublisher.hasSubscribers()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventCodeString", VERIFICATION_RESULT_EVENT);
+        payload.put("type", type);
+        payload.put("readId", read.readId());
+        payload.put("deviceId", read.deviceId());
+        payload.put("result", result);
+        topicPublisher.publish(DeviceTopicPublisher.deviceVerifications(read.deviceId()), payload);
     }
 
     @ModelAttribute("deviceProperties")
@@ -79,6 +141,8 @@ public class FPHPSController {
     @GetMapping({"", "/"})
     public String index(Model model) {
         model.addAttribute("deviceAvailable", fphpsService.isDeviceAvailable());
+        model.addAttribute("deviceInitializing",
+            fphpsService.getDeviceReadiness() == FPHPSService.DeviceReadiness.INITIALIZING);
         if (fphpsService.isDeviceAvailable()) {
             DeviceInfo deviceInfo = fphpsService.getDeviceInfo();
             model.addAttribute("device", deviceInfo);
@@ -97,6 +161,8 @@ public class FPHPSController {
     @GetMapping("/home")
     public String getHomeContent(Model model) {
         model.addAttribute("deviceAvailable", fphpsService.isDeviceAvailable());
+        model.addAttribute("deviceInitializing",
+            fphpsService.getDeviceReadiness() == FPHPSService.DeviceReadiness.INITIALIZING);
         if (fphpsService.isDeviceAvailable()) {
             DeviceInfo deviceInfo = fphpsService.getDeviceInfo();
             model.addAttribute("device", deviceInfo);
@@ -107,6 +173,8 @@ public class FPHPSController {
     @GetMapping("/device")
     public String getDevice(Model model) {
         model.addAttribute("deviceAvailable", fphpsService.isDeviceAvailable());
+        model.addAttribute("deviceInitializing",
+            fphpsService.getDeviceReadiness() == FPHPSService.DeviceReadiness.INITIALIZING);
         if (fphpsService.isDeviceAvailable()) {
             DeviceInfo deviceInfo = fphpsService.getDeviceInfo();
             model.addAttribute("deviceInfo", deviceInfo);
@@ -119,6 +187,13 @@ public class FPHPSController {
     public Map<String, Object> getDeviceStatus() {
         Map<String, Object> result = new HashMap<>();
         result.put("available", fphpsService.isDeviceAvailable());
+        // INITIALIZING: 시작 시 판독기 초기화 진행 중, READY, UNAVAILABLE
+        result.put("state", fphpsService.getDeviceReadiness().name());
+        result.put("initializing", fphpsService.getDeviceReadiness() == FPHPSService.DeviceReadiness.INITIALIZING);
+        if (fphpsService.getReadinessMessage() != null) {
+            result.put("message", fphpsService.getReadinessMessage());
+        }
+        result.put("devices", fphpsService.getDeviceIds());
         return result;
     }
 
@@ -161,7 +236,8 @@ public class FPHPSController {
 
     /**
      * 현재 디바이스 작업 상태 조회
-     * IDLE: 대기 중, RUNNING: 작업 중, TIMED_OUT: 타임아웃 발생
+     * IDLE: 대기 중, RUNNING: 작업 중, TIMED_OUT: 타임아웃 후 정리 중 (정리가 끝나면 IDLE로 돌아가 바로 다시 배정됨)
+     * status는 전체 판독기 기준, devices는 판독기별 상태
      */
     @GetMapping("/device-operation-status")
     @ResponseBody
@@ -169,19 +245,46 @@ public class FPHPSController {
         Map<String, Object> result = new HashMap<>();
         result.put("status", fphpsService.getOperationStatus().name());
         result.put("available", fphpsService.isDeviceAvailable());
+        Map<String, String> devices = new LinkedHashMap<>();
+        fphpsService.getOperationStatuses().forEach((id, status) -> devices.put(id, status.name()));
+        result.put("devices", devices);
+        result.put("abandonedThreads", fphpsService.getAbandonedThreadCount());
+        return result;
+    }
+
+    /**
+     * 타임아웃/취소 후 네이티브 호출에서 돌아오지 않은 디바이스 스레드 목록 (스택, 경과 시간)
+     */
+    @GetMapping("/device-threads/abandoned")
+    @ResponseBody
+    public Map<String, Object> getAbandonedDeviceThreads() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("threads", fphpsService.getAbandonedThreads());
+        return result;
+    }
+
+    /**
+     * fastpass WebSocket 세션별 송신 상태 (대기 메시지, 지연, 버림/건너뜀 수, 저하 모드)
+     */
+    @GetMapping("/websocket-sessions")
+    @ResponseBody
+    public Map<String, Object> getWebSocketSessions() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("sessions", fastPassWebSocketHandler.sessionSnapshot());
         return result;
     }
 
     /**
      * 현재 디바이스 작업 강제 취소
      * RF 통신이 멈춘 경우 디바이스를 강제 닫고 작업을 취소
+     * deviceId 미지정 시 작업 중인 모든 판독기 취소
      */
     @PostMapping("/device-operation-cancel")
     @ResponseBody
-    public Map<String, Object> cancelDeviceOperation(Locale locale) {
+    public Map<String, Object> cancelDeviceOperation(@RequestParam(required = false) String deviceId, Locale locale) {
         boolean isKo = locale != null && locale.getLanguage().equals("ko");
         Map<String, Object> result = new HashMap<>();
-        boolean cancelled = fphpsService.cancelCurrentOperation();
+        boolean cancelled = fphpsService.cancelCurrentOperation(deviceId);
         result.put("success", cancelled);
         if (cancelled) {
             result.put("message", isKo ? "작업이 취소되었습니다." : "Operation cancelled.");
@@ -198,12 +301,35 @@ public class FPHPSController {
     }
 
     @PostMapping("/scan-page")
-    public String runScanPage(@ModelAttribute ScanForm scanForm, Model model) {
-        FPHPSImage image = fphpsService.scanPage(scanForm.getLightType());
+    public String runScanPage(@ModelAttribute ScanForm scanForm,
+                              @RequestParam(required = false) String deviceId, Model model) {
+        FPHPSImage image = fphpsService.scanPage(scanForm.getLightType(), deviceId);
         model.addAttribute("image", image);
         return "fragments/scan_page";
     }
 
+    /**
+     * 디바이스 작업 단계별 지연 시간 요약 화면
+     */
+    @GetMapping("/device-metrics")
+    public String showDeviceMetrics(Model model) {
+        model.addAttribute("stages", deviceStageMetrics.summary());
+        return "fragments/device_metrics";
+    }
+
+    /**
+     * 디바이스 작업 단계별 지연 시간 요약 (JSON)
+     * 히스토그램 버킷 원본은 /actuator/prometheus 참조, timeouts는 작업 종류별 적응형 타임아웃 상태
+     */
+    @GetMapping("/device-metrics/data")
+    @ResponseBody
+    public Map<String, Object> getDeviceMetrics() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("stages", deviceStageMetrics.summary());
+        result.put("timeouts", deviceTimeoutPolicy.snapshot());
+        return result;
+    }
+
     @GetMapping("/device-setting")
     public String getDeviceSetting(Model model) {
         FPHPSDeviceProperties deviceProperties = devicePropertiesService.getProperties();
@@ -225,10 +351,15 @@ public class FPHPSController {
     }
 
     @GetMapping("/passport/manual-read")
-    public String manualReadPost(@ModelAttribute EPassportSettingForm formData, Model model) {
+    public String manualReadPost(@ModelAttribute EPassportSettingForm formData,
+                                 @RequestParam(required = false) String deviceId,
+                                 @RequestParam(required = false) String profile, Model model,
+                                 HttpSession session) {
         try {
             log.info("📖 Manual Read Started");
-            DocumentReadResponse response = fphpsService.read("PASSPORT", false);
+            String readId = readResultStore.reserve(session.getId());
+            DocumentReadResponse response = fphpsService.read("PASSPORT", false, deviceId, profile, readId);
+            model.addAttribute("readId", readId);
 
             // 응답 null 체크 및 로깅
             if (response == null) {
@@ -286,23 +417,122 @@ public class FPHPSController {
     }
 
     @GetMapping("/passport/auto-read")
-    public String showAutoReadPage() {
+    public String showAutoReadPage(Model model) {
+        model.addAttribute("dgProfiles", dgReadProfileService.getProfiles());
         return "fragments/epassport_auto_read :: e-passport-auto-read";
     }
 
     @PostMapping("/passport/run-auto-read")
     @ResponseBody
-    public void autoRead() {
-        log.debug("autoRead() Started - triggering async read");
+    public Map<String, Object> autoRead(@RequestParam(required = false) String deviceId,
+                                        @RequestParam(required = false) String profile,
+                                        HttpSession session) {
+        log.debug("autoRead() Started - triggering async read (DG profile: {})", profile);
+        // 프로필 이름 오류는 비동기 실행 전에 확인하여 요청 응답으로 전달
+        dgReadProfileService.resolve(profile);
         // 비동기로 실행하여 HTTP 요청을 즉시 반환
         // 실제 읽기 결과는 WebSocket을 통해 클라이언트에 전달됨
-        fphpsService.readAsync("PASSPORT");
-        log.debug("autoRead() - async read triggered, returning immediately");
+        String readId = readResultStore.reserve(session.getId());
+        fphpsService.readAsync("PASSPORT", deviceId, profile, readId);
+        log.debug("autoRead() - async read triggered, returning immediately (readId: {})", readId);
+        Map<String, Object> result = new HashMap<>();
+        result.put("readId", readId);
+        return result;
+    }
+
+    /**
+     * 연속 판독 레인 시작
+     * 문서 N의 PA/얼굴 검증과 문서 N+1 읽기를 겹쳐 수행, 결과는 WebSocket LANE_RESULT 이벤트로 전달
+     */
+    @PostMapping("/passport/lane/start")
+    @ResponseBody
+    public Map<String, Object> startLane(@RequestParam(required = false) String deviceId,
+                                         @RequestParam(required = false) String profile) {
+        dgReadProfileService.resolve(profile);
+        String laneDeviceId = continuousReadService.start(deviceId, profile);
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("deviceId", laneDeviceId);
+        return result;
+    }
+
+    /**
+     * DG 읽기 프로필 목록
+     */
+    @GetMapping("/dg-profiles")
+    @ResponseBody
+    public Map<String, Object> getDgProfiles() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("profiles", dgReadProfileService.getProfiles());
+        return result;
+    }
+
+    /**
+     * DG 읽기 프로필 저장 (같은 이름이면 갱신)
+     * 요청 본문: {"name": "gate", "description": "...", "dataGroups": [1, 2, 14]}
+     */
+    @PostMapping("/dg-profiles")
+    @ResponseBody
+    public Map<String, Object> saveDgProfile(@RequestBody Map<String, Object> profile) {
+        Map<String, Object> result = new HashMap<>();
+        try {
+            List<Integer> dataGroups = new ArrayList<>();
+            if (profile.get("dataGroups") instanceof List<?> values) {
+                for (Object value : values) {
+                    dataGroups.add(Integer.valueOf(String.valueOf(value)));
+                }
+            }
+            DgReadProfile saved = dgReadProfileService.saveProfile((String) profile.get("name"),
+                (String) profile.get("description"), dataGroups);
+            result.put("success", true);
+            result.put("profile", saved);
+        } catch (Exception e) {
+            log.error("Failed to save DG read profile: {}", e.getMessage());
+            result.put("success", false);
+            result.put("message", "Failed to save: " + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * DG 읽기 프로필 삭제
+     */
+    @PostMapping("/dg-profiles/delete")
+    @ResponseBody
+    public Map<String, Object> deleteDgProfile(@RequestParam String name) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", dgReadProfileService.deleteProfile(name));
+        return result;
+    }
+
+    /**
+     * 연속 판독 레인 중지 (deviceId 미지정 시 모든 레인)
+     */
+    @PostMapping("/passport/lane/stop")
+    @ResponseBody
+    public Map<String, Object> stopLane(@RequestParam(required = false) String deviceId) {
+        int stopped = continuousReadService.stop(deviceId);
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", stopped > 0);
+        result.put("stopped", stopped);
+        return result;
+    }
+
+    /**
+     * 연속 판독 레인 상태 (판독기별 처리량, 검증 대기 건수)
+     */
+    @GetMapping("/passport/lane/status")
+    @ResponseBody
+    public Map<String, Object> laneStatus() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("lanes", continuousReadService.getStatus());
+        return result;
     }
 
     @GetMapping("/passport/get-sod-info")
-    public String getAutoReadSODInfo(Model model) {
-        DocumentReadResponse lastResponse = fphpsService.getLastReadResponse();
+    public String getAutoReadSODInfo(@RequestParam(required = false) String readId, Model model,
+                                     HttpSession session) {
+        DocumentReadResponse lastResponse = readResult(readId, session);
 
         if (lastResponse != null && lastResponse.getParsedSOD() != null) {
             ParsedSODInfo sodInfo = ParsedSODInfo.from(lastResponse.getParsedSOD());
@@ -318,15 +548,17 @@ public class FPHPSController {
 
     /**
      * PA 검증 수행
-     * 마지막 읽기 결과를 사용하여 API Gateway를 통해 PA API 호출
+     * 이 세션의 최근 읽기 결과(또는 X-Read-Id로 지정한 읽기)를 사용하여 API Gateway를 통해 PA API 호출
      * MRZ 데이터와 Face 이미지도 함께 반환
      */
     @PostMapping("/passport/verify-pa-v2")
     @ResponseBody
-    public PaVerificationResultWithData verifyPassportPA() {
+    public PaVerificationResultWithData verifyPassportPA(@RequestHeader(value = READ_ID_HEADER, required = false) String readId,
+                                                         HttpSession session) {
         log.debug("PA verification requested");
 
-        DocumentReadResponse lastResponse = fphpsService.getLastReadResponse();
+        ReadResultStore.StoredRead read = readResultStore.findRead(readId, session.getId());
+        DocumentReadResponse lastResponse = read != null ? read.response() : null;
         if (lastResponse == null) {
             throw new PassiveAuthenticationService.PaVerificationException(
                 "No passport data available. Please read passport first.");
@@ -334,12 +566,13 @@ public class FPHPSController {
 
         // 디버그: 사용되는 데이터 확인
         if (lastResponse.getMrzInfo() != null) {
-            log.info("PA using lastReadResponse: passportNumber={}, SOD size={}",
-                lastResponse.getMrzInfo().getPassportNumber(),
+            log.info("PA using read result {}: passportNumber={}, SOD size={}",
+                readId != null ? readId : "latest", lastResponse.getMrzInfo().getPassportNumber(),
                 lastResponse.getSodDataBytes() != null ? lastResponse.getSodDataBytes().length : 0);
         }
 
         PaVerificationResponse paResult = paService.verifyFromDocumentResponse(lastResponse);
+        publishVerification("PA", read, paResult);
         return PaVerificationResultWithData.from(paResult, lastResponse);
     }
 
@@ -349,10 +582,11 @@ public class FPHPSController {
      */
     @PostMapping("/passport/pa-lookup")
     @ResponseBody
-    public Map<String, Object> paLookup() {
+    public Map<String, Object> paLookup(@RequestHeader(value = READ_ID_HEADER, required = false) String readId,
+                                        HttpSession session) {
         log.debug("PA Lookup requested");
 
-        DocumentReadResponse lastResponse = fphpsService.getLastReadResponse();
+        DocumentReadResponse lastResponse = readResult(readId, session);
         if (lastResponse == null) {
             throw new PassiveAuthenticationService.PaVerificationException(
                 "No passport data available. Please read passport first.");
@@ -389,16 +623,20 @@ public class FPHPSController {
      */
     @PostMapping("/passport/verify-pa-client")
     @ResponseBody
-    public ClientPaResult verifyPassportPAClient() {
+    public ClientPaResult verifyPassportPAClient(@RequestHeader(value = READ_ID_HEADER, required = false) String readId,
+                                                 HttpSession session) {
         log.debug("Client PA verification requested");
 
-        DocumentReadResponse lastResponse = fphpsService.getLastReadResponse();
+        ReadResultStore.StoredRead read = readResultStore.findRead(readId, session.getId());
+        DocumentReadResponse lastResponse = read != null ? read.response() : null;
         if (lastResponse == null) {
             throw new PassiveAuthenticationService.PaVerificationException(
                 "No passport data available. Please read passport first.");
         }
 
-        return clientPaService.verify(lastResponse);
+        ClientPaResult result = clientPaService.verify(lastResponse);
+        publishVerification("PA_CLIENT", read, result);
+        return result;
     }
 
     /**
@@ -545,9 +783,12 @@ public class FPHPSController {
     }
 
     @GetMapping("/idcard/manual-read")
-    public String idCardManualRead(Model model) {
-        DocumentReadResponse response = fphpsService.read("IDCARD", false);
+    public String idCardManualRead(@RequestParam(required = false) String deviceId, Model model,
+                                   HttpSession session) {
+        String readId = readResultStore.reserve(session.getId());
+        DocumentReadResponse response = fphpsService.read("IDCARD", false, deviceId, null, readId);
         model.addAttribute("response", response);
+        model.addAttribute("readId", readId);
         return "fragments/idcard_manual_read :: id-card-information";
     }
 
@@ -558,16 +799,19 @@ public class FPHPSController {
 
     @PostMapping("/idcard/run-auto-read")
     @ResponseBody
-    public void idCardAutoRead() {
+    public void idCardAutoRead(@RequestParam(required = false) String deviceId, HttpSession session) {
         log.debug("idCardAutoRead() Started!!");
-        fphpsService.read("IDCARD", true);
+        fphpsService.read("IDCARD", true, deviceId, null, readResultStore.reserve(session.getId()));
         log.debug("idCardAutoRead() Ended!!");
     }
 
     @GetMapping("/barcode/manual-read")
-    public String barcodeManualRead(Model model) {
-        DocumentReadResponse response = fphpsService.read("BARCODE", false);
+    public String barcodeManualRead(@RequestParam(required = false) String deviceId, Model model,
+                                   HttpSession session) {
+        String readId = readResultStore.reserve(session.getId());
+        DocumentReadResponse response = fphpsService.read("BARCODE", false, deviceId, null, readId);
         model.addAttribute("response", response);
+        model.addAttribute("readId", readId);
         return "fragments/barcode_manual_read :: barcode-information";
     }
 
@@ -578,9 +822,9 @@ public class FPHPSController {
 
     @PostMapping("/barcode/run-auto-read")
     @ResponseBody
-    public void barcodeAutoRead() {
+    public void barcodeAutoRead(@RequestParam(required = false) String deviceId, HttpSession session) {
         log.debug("barcodeAutoRead() Started!!");
-        fphpsService.read("BARCODE", true);
+        fphpsService.read("BARCODE", true, deviceId, null, readResultStore.reserve(session.getId()));
         log.debug("barcodeAutoRead() Ended!!");
     }
 
@@ -592,26 +836,30 @@ public class FPHPSController {
 
     /**
      * Face Verification 수행
-     * 마지막 읽기 결과를 사용하여 InsightFace API로 얼굴 검증 수행
+     * 이 세션의 최근 읽기 결과(또는 X-Read-Id로 지정한 읽기)를 사용하여 InsightFace API로 얼굴 검증 수행
      * Document photo (VIZ)와 Chip photo (DG2)를 비교
      */
     @PostMapping("/passport/verify-face")
     @ResponseBody
-    public FaceVerificationResponse verifyFace() {
+    public FaceVerificationResponse verifyFace(@RequestHeader(value = READ_ID_HEADER, required = false) String readId,
+                                               HttpSession session) {
         log.debug("Face verification requested");
 
-        DocumentReadResponse lastResponse = fphpsService.getLastReadResponse();
+        ReadResultStore.StoredRead read = readResultStore.findRead(readId, session.getId());
+        DocumentReadResponse lastResponse = read != null ? read.response() : null;
         if (lastResponse == null) {
             throw new FaceVerificationService.FaceVerificationException(
                 "No passport data available. Please read passport first.");
         }
 
-        return faceService.verifyFromDocumentResponse(lastResponse);
+        FaceVerificationResponse result = faceService.verifyFromDocumentResponse(lastResponse);
+        publishVerification("FACE", read, result);
+        return result;
     }
 
     /**
      * 여권 데이터 내보내기
-     * 마지막 읽기 결과를 파일 시스템에 저장
+     * 이 세션의 최근 읽기 결과(또는 X-Read-Id로 지정한 읽기)를 파일 시스템에 저장
      * - 이미지 파일 (VIZ, ePass, MRZ, IR, UV, WH)
      * - SOD 및 Data Group 바이너리 파일
      * - MRZ 텍스트 파일
@@ -620,14 +868,15 @@ public class FPHPSController {
      */
     @PostMapping(value = "/passport/export-data", produces = "application/json")
     @ResponseBody
-    public Map<String, Object> exportPassportData() {
+    public Map<String, Object> exportPassportData(@RequestHeader(value = READ_ID_HEADER, required = false) String readId,
+                                                  HttpSession session) {
         log.debug("Document data export requested");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 마지막 읽기 결과 확인
-            DocumentReadResponse lastResponse = fphpsService.getLastReadResponse();
+            // 대상 읽기 결과 확인
+            DocumentReadResponse lastResponse = readResult(readId, session);
             if (lastResponse == null) {
                 response.put("success", false);
                 response.put("message", "No passport data available. Please read passport first.");
@@ -7,6 +7,7 @@ import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.ClientPaReportReq
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.ClientPaResult;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsRequest;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse;
+import com.smartcoreinc.fphps.example.fphps_web_example.repository.TrustMaterialsSnapshotRepository;
 import com.smartcoreinc.fphps.sod.ParsedSOD;
 import com.smartcoreinc.fphps.sod.SODSignatureVerifier;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -23,14 +25,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.cert.CertificateFactory;
-import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
@@ -39,7 +41,10 @@ import java.util.concurrent.atomic.AtomicReference;
  * 클라이언트 모드 PA 검증 서비스 (v2.1.14+)
  *
  * 최적화:
- * - Trust Materials 캐시 (국가별, TTL 1시간)
+ * - Trust Materials 캐시 (국가별, TTL 1시간) - 다운로드 시 CSCA/Link/CRL을 한 번 파싱하여 보관 (문서별 ASN.1 파싱 없음)
+ * - CRL은 다운로드 시 발급자별 폐기 일련번호 해시 집합으로 색인 (문서별 폐기 확인은 해시 조회)
+ * - Trust Materials를 SQLite에 국가별로 저장하고 국가별 첫 요청 시 복원 (재시작 직후와 PKD 서버 장애 중에도 검증 가능)
+ * - DSC별 Trust Chain 판정 캐시 (DSC SHA-256 + Trust Materials 버전, 새 CSCA/CRL 집합 도착 또는 체인 인증서 만료 시 무효)
  * - 로컬 검증과 Trust Materials 다운로드 병렬 수행
  * - 결과 보고 비동기 수행
  */
@@ -50,16 +55,27 @@ public class ClientPaVerificationService {
     private final RestTemplate paApiRestTemplate;
     private final PaApiSettingsService paApiSettingsService;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TrustMaterialsStore trustMaterialsStore;
     private final ExecutorService executor = Executors.newFixedThreadPool(3);
 
     // Trust Materials 캐시 (국가코드 → 캐시 항목)
     private final ConcurrentHashMap<String, CachedTrustMaterials> tmCache = new ConcurrentHashMap<>();
     private static final long CACHE_TTL_MS = 60 * 60 * 1000; // 1시간
+    private static final int MAX_LINK_DEPTH = 4; // Trust Chain에서 허용하는 최대 Link Certificate 수
+
+    // 저장소 복원을 시도한 국가 (프로세스당 국가별 1회만 조회)
+    private final Set<String> restoreAttempted = ConcurrentHashMap.newKeySet();
+
+    // 받은 지 이 시간이 지난 Trust Materials는 서버 장애 시에도 사용하지 않음
+    @Value("${client-pa.trust-materials.max-age-hours:72}")
+    private long maxAgeHours;
 
     public ClientPaVerificationService(@Qualifier("paApiRestTemplate") RestTemplate paApiRestTemplate,
-                                       PaApiSettingsService paApiSettingsService) {
+                                       PaApiSettingsService paApiSettingsService,
+                                       TrustMaterialsSnapshotRepository snapshotRepository) {
         this.paApiRestTemplate = paApiRestTemplate;
         this.paApiSettingsService = paApiSettingsService;
+        this.trustMaterialsStore = new TrustMaterialsStore(snapshotRepository, objectMapper);
     }
 
     /**
@@ -96,7 +112,7 @@ public class ClientPaVerificationService {
         String countryCode = extractCountryCode(response);
 
         // ── 병렬 실행: Trust Materials 다운로드 + 로컬 검증 ──
-        Future<TrustMaterialsResponse> tmFuture = executor.submit(
+        Future<LoadedTrustMaterials> tmFuture = executor.submit(
             () -> getOrDownloadTrustMaterials(countryCode, parsedSOD));
 
         // 로컬 검증은 메인 스레드에서 즉시 시작 (네트워크 불필요)
@@ -110,10 +126,12 @@ public class ClientPaVerificationService {
 
         String requestId = null;
         TrustMaterialsResponse trustMaterials = null;
+        ParsedTrustMaterials parsedTrustMaterials = null;
         ClientPaResult.TrustMaterialsInfo tmInfo = null;
 
         try {
-            trustMaterials = tmFuture.get(15, TimeUnit.SECONDS);
+            LoadedTrustMaterials loaded = tmFuture.get(15, TimeUnit.SECONDS);
+            trustMaterials = loaded != null ? loaded.response() : null;
             if (trustMaterials != null) {
                 // success 여부와 관계없이 requestId 항상 추출
                 // (서버 v2.1.17+: 404 Not Found 시에도 requestId 반환 → 감사 보고 가능)
@@ -124,6 +142,7 @@ public class ClientPaVerificationService {
                         trustMaterials.topLevelRequestId(),
                         trustMaterials.data() != null ? trustMaterials.data().requestId() : "null",
                         cacheHit ? "HIT" : "MISS");
+                    parsedTrustMaterials = loaded.parsed();
                     var data = trustMaterials.data();
                     tmInfo = new ClientPaResult.TrustMaterialsInfo(
                         data != null && data.csca() != null ? data.csca().size() : 0,
@@ -144,9 +163,9 @@ public class ClientPaVerificationService {
 
         // Trust Chain 검증 + CRL 체크 (Trust Materials 필요)
         ClientPaResult.TrustChainResult trustChainResult = verifyTrustChainLocally(
-            parsedSOD, trustMaterials, errors);
+            parsedSOD, parsedTrustMaterials, errors);
         ClientPaResult.CrlCheckResult crlCheckResult = checkCrlLocally(
-            parsedSOD, trustMaterials, errors);
+            parsedSOD, parsedTrustMaterials, errors);
 
         String overallStatus = determineOverallStatus(
             sodSigResult, dgHashResult, trustChainResult, crlCheckResult);
@@ -226,10 +245,20 @@ public class ClientPaVerificationService {
     // Trust Materials 캐시
     // ================================================================
 
-    private TrustMaterialsResponse getOrDownloadTrustMaterials(
+    /**
+     * Trust Materials 응답과 파싱된 인증서/CRL 집합
+     * @param parsed 성공 응답일 때만 존재 (캐시 데이터 + 새 requestId 조합 시 캐시 항목의 파싱 결과 재사용)
+     */
+    private record LoadedTrustMaterials(TrustMaterialsResponse response, ParsedTrustMaterials parsed) {}
+
+    private LoadedTrustMaterials getOrDownloadTrustMaterials(
             String countryCode, ParsedSOD parsedSOD) {
 
         CachedTrustMaterials cached = tmCache.get(countryCode);
+        if (cached == null) {
+            // 재시작 후 첫 요청: 저장소에 남은 Trust Materials 복원
+            cached = restoreTrustMaterials(countryCode);
+        }
         if (cached != null && !cached.isExpired()) {
             log.debug("Trust Materials cache HIT for country={}", countryCode);
             // 캐시 히트 시에도 새 requestId 발급을 위해 서버에 요청
@@ -237,24 +266,15 @@ public class ClientPaVerificationService {
             try {
                 TrustMaterialsResponse fresh = downloadTrustMaterials(countryCode, parsedSOD);
                 if (fresh != null && fresh.success()) {
-                    // 200 OK: 최신 Trust Materials + 새 requestId
-                    tmCache.put(countryCode, new CachedTrustMaterials(fresh));
-                    return fresh;
+                    // 200 OK: 최신 Trust Materials + 새 requestId (변경 없는 인증서/CRL은 이전 파싱 결과 재사용)
+                    CachedTrustMaterials updated = cacheTrustMaterials(countryCode, fresh, cached);
+                    return new LoadedTrustMaterials(fresh, updated.parsed);
                 } else if (fresh != null && fresh.requestId() != null) {
                     // 404: Trust Materials 없지만 requestId는 발급됨
                     // 캐시된 CSCA/CRL 데이터 + 새 requestId 조합
                     log.info("Fresh download returned success=false for country={}, " +
                         "using cached data with new requestId={}", countryCode, fresh.requestId());
-                    var d = cached.response.data();
-                    return new TrustMaterialsResponse(
-                        true,
-                        new TrustMaterialsResponse.TrustMaterialsData(
-                            fresh.requestId(),  // 새 requestId 사용
-                            d.countryCode(), d.csca(), d.linkCertificates(),
-                            d.crl(), d.processingTimeMs(), d.timestamp()
-                        ),
-                        null
-                    );
+                    return withRequestId(cached, fresh.requestId());  // 새 requestId 사용
                 }
             } catch (Exception e) {
                 // 네트워크 오류 등 HTTP 응답 자체를 받지 못한 경우
@@ -262,25 +282,96 @@ public class ClientPaVerificationService {
                 log.warn("Fresh Trust Materials download failed for country={}: {}. " +
                     "Verification will proceed with cached data but result will NOT be reported.",
                     countryCode, e.getMessage());
-                var d = cached.response.data();
-                return new TrustMaterialsResponse(
-                    true,
-                    new TrustMaterialsResponse.TrustMaterialsData(
-                        null,  // requestId 없음 → 결과 보고 스킵
-                        d.countryCode(), d.csca(), d.linkCertificates(),
-                        d.crl(), d.processingTimeMs(), d.timestamp()
-                    ),
-                    null
-                );
+                return withRequestId(cached, null);  // requestId 없음 → 결과 보고 스킵
             }
         }
 
         log.debug("Trust Materials cache MISS for country={}, downloading...", countryCode);
-        TrustMaterialsResponse response = downloadTrustMaterials(countryCode, parsedSOD);
+        TrustMaterialsResponse response;
+        try {
+            response = downloadTrustMaterials(countryCode, parsedSOD);
+        } catch (RuntimeException e) {
+            // PKD 서버 장애: TTL이 지났어도 최대 보관 기간 안의 Trust Materials로 검증만 수행 (보고 불가)
+            if (cached != null && cached.isUsable()) {
+                log.warn("Trust Materials download failed for country={}: {}. " +
+                    "Verification will proceed with stale data downloaded at {} but result will NOT be reported.",
+                    countryCode, e.getMessage(), Instant.ofEpochMilli(cached.cachedAt));
+                return withRequestId(cached, null);
+            }
+            throw e;
+        }
         if (response != null && response.success()) {
-            tmCache.put(countryCode, new CachedTrustMaterials(response));
+            // 만료된 항목이 있으면 그 파싱 결과를 fingerprint 기준으로 재사용
+            CachedTrustMaterials updated = cacheTrustMaterials(countryCode, response, cached);
+            return new LoadedTrustMaterials(response, updated.parsed);
         }
-        return response;
+        return new LoadedTrustMaterials(response, null);
+    }
+
+    /**
+     * 캐시된 CSCA/CRL 데이터 + 지정한 requestId (파싱 결과는 캐시 항목 것을 그대로 사용)
+     */
+    private LoadedTrustMaterials withRequestId(CachedTrustMaterials cached, String requestId) {
+        var d = cached.response.data();
+        return new LoadedTrustMaterials(new TrustMaterialsResponse(
+            true,
+            new TrustMaterialsResponse.TrustMaterialsData(
+                requestId,
+                d.countryCode(), d.csca(), d.linkCertificates(),
+                d.crl(), d.processingTimeMs(), d.timestamp()
+            ),
+            null
+        ), cached.parsed);
+    }
+
+    /**
+     * 성공 응답을 파싱하여 캐시에 저장. 내용이 바뀌었거나 마지막 저장 후 TTL이 지났으면 저장소에도 기록
+     */
+    private CachedTrustMaterials cacheTrustMaterials(String countryCode, TrustMaterialsResponse response,
+                                                     CachedTrustMaterials previous) {
+        ParsedTrustMaterials parsed = response.data() != null
+            ? ParsedTrustMaterials.build(countryCode, response.data(),
+                previous != null ? previous.parsed : null, getCertificateFactory())
+            : null;
+        long now = System.currentTimeMillis();
+        long persistedAt = previous != null ? previous.persistedAt : 0;
+        if (parsed != null) {
+            boolean changed = previous == null || previous.parsed == null
+                || !previous.parsed.version().equals(parsed.version());
+            if (changed || now - persistedAt > CACHE_TTL_MS) {
+                persistedAt = now;
+                executor.submit(() -> trustMaterialsStore.save(countryCode, response.data(), parsed.version(), now, maxAgeMillis()));
+            }
+        }
+        CachedTrustMaterials entry = new CachedTrustMaterials(response, parsed, now, persistedAt, maxAgeMillis());
+        tmCache.put(countryCode, entry);
+        return entry;
+    }
+
+    /**
+     * 저장소에 보관된 Trust Materials 복원 (국가별 1회, 최대 보관 기간이 지났으면 사용하지 않음)
+     */
+    private CachedTrustMaterials restoreTrustMaterials(String countryCode) {
+        if (!restoreAttempted.add(countryCode)) {
+            return null;
+        }
+        TrustMaterialsStore.Restored restored =
+            trustMaterialsStore.load(countryCode, getCertificateFactory(), System.currentTimeMillis());
+        if (restored == null) {
+            return null;
+        }
+        CachedTrustMaterials entry = new CachedTrustMaterials(
+            new TrustMaterialsResponse(true, restored.data(), null), restored.parsed(),
+            restored.downloadedAt(), restored.downloadedAt(), restored.expiresAt() - restored.downloadedAt());
+        // 그 사이 다운로드로 채워졌으면 그 항목 사용
+        CachedTrustMaterials existing = tmCache.putIfAbsent(countryCode, entry);
+        log.info("Trust Materials restored from local store: country={}, version={}, downloadedAt={}",
+            countryCode, restored.parsed().version(), Instant.ofEpochMilli(restored.downloadedAt()));
+        return existing != null ? existing : entry;
+    }
+
+    private long maxAgeMillis() {
+        return TimeUnit.HOURS.toMillis(maxAgeHours);
     }
 
     private TrustMaterialsResponse downloadTrustMaterials(
@@ -325,16 +416,27 @@ public class ClientPaVerificationService {
 
     private static class CachedTrustMaterials {
         final TrustMaterialsResponse response;
-        final long cachedAt;
+        final ParsedTrustMaterials parsed;
+        final long cachedAt;     // PKD 서버에서 받은 시각
+        final long persistedAt;  // 마지막으로 저장소에 기록한 시각
+        final long maxAgeMs;     // 서버 장애 시 사용할 수 있는 최대 보관 기간
 
-        CachedTrustMaterials(TrustMaterialsResponse response) {
+        CachedTrustMaterials(TrustMaterialsResponse response, ParsedTrustMaterials parsed,
+                             long cachedAt, long persistedAt, long maxAgeMs) {
             this.response = response;
-            this.cachedAt = System.currentTimeMillis();
+            this.parsed = parsed;
+            this.cachedAt = cachedAt;
+            this.persistedAt = persistedAt;
+            this.maxAgeMs = maxAgeMs;
         }
 
         boolean isExpired() {
             return System.currentTimeMillis() - cachedAt > CACHE_TTL_MS;
         }
+
+        boolean isUsable() {
+            return parsed != null && System.currentTimeMillis() - cachedAt <= maxAgeMs;
+        }
     }
 
     // ================================================================
@@ -407,9 +509,9 @@ public class ClientPaVerificationService {
     // ================================================================
 
     private ClientPaResult.TrustChainResult verifyTrustChainLocally(
-            ParsedSOD parsedSOD, TrustMaterialsResponse trustMaterials, List<String> errors) {
+            ParsedSOD parsedSOD, ParsedTrustMaterials trustMaterials, List<String> errors) {
 
-        if (trustMaterials == null || !trustMaterials.success() || trustMaterials.data() == null) {
+        if (trustMaterials == null) {
             return new ClientPaResult.TrustChainResult(
                 false, false, false, null, null, "Trust Materials not available");
         }
@@ -420,57 +522,39 @@ public class ClientPaVerificationService {
                 true, false, false, null, null, "DSC certificate not found in SOD");
         }
 
-        var cscaList = trustMaterials.data().csca();
-        if (cscaList == null || cscaList.isEmpty()) {
+        if (trustMaterials.cscas().isEmpty()) {
             return new ClientPaResult.TrustChainResult(
                 true, false, false, null, null, "No CSCA certificates available");
         }
 
-        CertificateFactory cf = getCertificateFactory();
-
-        // DSC → CSCA 직접 서명 검증
-        for (var cscaEntry : cscaList) {
-            try {
-                byte[] cscaDer = Base64.getDecoder().decode(cscaEntry.derBase64());
-                X509Certificate cscaCert = (X509Certificate) cf.generateCertificate(
-                    new ByteArrayInputStream(cscaDer));
-                dscCert.verify(cscaCert.getPublicKey());
-
-                return new ClientPaResult.TrustChainResult(
-                    true, true, true,
-                    cscaCert.getSubjectX500Principal().getName(),
-                    "DSC → CSCA", null);
-            } catch (Exception e) {
-                log.debug("DSC not signed by CSCA {}: {}", cscaEntry.subjectDn(), e.getMessage());
+        // 같은 DSC + 같은 Trust Materials 버전의 판정이 있으면 재사용
+        long now = System.currentTimeMillis();
+        String dscFingerprint = null;
+        ParsedTrustMaterials.ChainVerdict verdict = null;
+        try {
+            dscFingerprint = ParsedTrustMaterials.fingerprint(dscCert.getEncoded());
+            verdict = trustMaterials.cachedVerdict(dscFingerprint, now);
+        } catch (Exception e) {
+            log.debug("DSC fingerprint failed: {}", e.getMessage());
+        }
+        if (verdict != null) {
+            log.debug("Trust chain verdict cache HIT: dsc={}, version={}", dscFingerprint, trustMaterials.version());
+        } else {
+            // 발급자 색인으로 후보만 서명 검증 (DSC → CSCA, 없으면 DSC → Link → ... → CSCA)
+            verdict = findChain(dscCert, trustMaterials, new HashSet<>(), 0);
+            if (verdict == null) {
+                verdict = new ParsedTrustMaterials.ChainVerdict(null, 0, dscCert.getNotAfter().getTime());
+            }
+            if (dscFingerprint != null && verdict.isValidAt(now)) {
+                trustMaterials.cacheVerdict(dscFingerprint, verdict);
             }
         }
 
-        // Link Certificate를 통한 검증
-        var linkCerts = trustMaterials.data().linkCert();
-        if (linkCerts != null && !linkCerts.isEmpty()) {
-            for (var linkEntry : linkCerts) {
-                try {
-                    byte[] linkDer = Base64.getDecoder().decode(linkEntry.derBase64());
-                    X509Certificate linkCert = (X509Certificate) cf.generateCertificate(
-                        new ByteArrayInputStream(linkDer));
-
-                    dscCert.verify(linkCert.getPublicKey());
-
-                    for (var cscaEntry : cscaList) {
-                        try {
-                            byte[] cscaDer = Base64.getDecoder().decode(cscaEntry.derBase64());
-                            X509Certificate cscaCert = (X509Certificate) cf.generateCertificate(
-                                new ByteArrayInputStream(cscaDer));
-                            linkCert.verify(cscaCert.getPublicKey());
-
-                            return new ClientPaResult.TrustChainResult(
-                                true, true, true,
-                                cscaCert.getSubjectX500Principal().getName(),
-                                "DSC → Link → CSCA", null);
-                        } catch (Exception ignored) {}
-                    }
-                } catch (Exception ignored) {}
-            }
+        if (verdict.csca() != null) {
+            return new ClientPaResult.TrustChainResult(
+                true, true, true,
+                verdict.csca().getSubjectX500Principal().getName(),
+                "DSC → " + "Link → ".repeat(verdict.links()) + "CSCA", null);
         }
 
         errors.add("Trust chain verification failed: DSC not signed by any available CSCA");
@@ -479,20 +563,57 @@ public class ClientPaVerificationService {
             "DSC not signed by any available CSCA");
     }
 
+    /**
+     * 인증서에서 CSCA까지의 체인 탐색. CSCA 후보를 먼저 확인하고, 없으면 Link Certificate 후보를 따라 재귀 탐색
+     * @return 찾은 체인 (판정 유효 시각은 체인 인증서 notAfter 중 가장 이른 시각), 없으면 null
+     */
+    private ParsedTrustMaterials.ChainVerdict findChain(X509Certificate cert, ParsedTrustMaterials trustMaterials,
+                                                        Set<X509Certificate> visited, int depth) {
+        for (X509Certificate cscaCert : trustMaterials.cscaCandidates(cert)) {
+            if (isSignedBy(cert, cscaCert)) {
+                return new ParsedTrustMaterials.ChainVerdict(cscaCert, depth,
+                    Math.min(cert.getNotAfter().getTime(), cscaCert.getNotAfter().getTime()));
+            }
+        }
+        if (depth >= MAX_LINK_DEPTH) {
+            return null;
+        }
+        for (X509Certificate linkCert : trustMaterials.linkCandidates(cert)) {
+            if (visited.add(linkCert) && isSignedBy(cert, linkCert)) {
+                ParsedTrustMaterials.ChainVerdict match = findChain(linkCert, trustMaterials, visited, depth + 1);
+                if (match != null) {
+                    return new ParsedTrustMaterials.ChainVerdict(match.csca(), match.links(),
+                        Math.min(cert.getNotAfter().getTime(), match.validUntil()));
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isSignedBy(X509Certificate cert, X509Certificate issuer) {
+        try {
+            cert.verify(issuer.getPublicKey());
+            return true;
+        } catch (Exception e) {
+            log.debug("{} not signed by {}: {}", cert.getSubjectX500Principal().getName(),
+                issuer.getSubjectX500Principal().getName(), e.getMessage());
+            return false;
+        }
+    }
+
     // ================================================================
     // CRL 체크 (로컬)
     // ================================================================
 
     private ClientPaResult.CrlCheckResult checkCrlLocally(
-            ParsedSOD parsedSOD, TrustMaterialsResponse trustMaterials, List<String> errors) {
+            ParsedSOD parsedSOD, ParsedTrustMaterials trustMaterials, List<String> errors) {
 
-        if (trustMaterials == null || !trustMaterials.success() || trustMaterials.data() == null) {
+        if (trustMaterials == null) {
             return new ClientPaResult.CrlCheckResult(false, true, false, null,
                 "Trust Materials not available");
         }
 
-        var crlList = trustMaterials.data().crl();
-        if (crlList == null || crlList.isEmpty()) {
+        if (trustMaterials.crls().isEmpty()) {
             return new ClientPaResult.CrlCheckResult(false, true, false, null, "No CRL available");
         }
 
@@ -501,25 +622,32 @@ public class ClientPaVerificationService {
             return new ClientPaResult.CrlCheckResult(false, true, false, null, "DSC not found");
         }
 
-        CertificateFactory cf = getCertificateFactory();
-
-        for (var crlEntry : crlList) {
-            try {
-                byte[] crlDer = Base64.getDecoder().decode(crlEntry.derBase64());
-                X509CRL crl = (X509CRL) cf.generateCRL(new ByteArrayInputStream(crlDer));
-                boolean isRevoked = crl.isRevoked(dscCert);
-
-                if (isRevoked) {
-                    errors.add("DSC certificate is REVOKED");
-                }
-                return new ClientPaResult.CrlCheckResult(
-                    true, !isRevoked, isRevoked, crlEntry.issuerDn(), null);
-            } catch (Exception e) {
-                log.debug("CRL check failed for {}: {}", crlEntry.issuerDn(), e.getMessage());
+        // 다운로드 시 만든 발급자별 폐기 일련번호 색인 조회 (CRL 파싱/선형 탐색 없음)
+        var crlList = trustMaterials.revocationLists(dscCert);
+        if (crlList.isEmpty()) {
+            return new ClientPaResult.CrlCheckResult(false, true, false, null, "No CRL for DSC issuer");
+        }
+        BigInteger serial = dscCert.getSerialNumber();
+        ParsedTrustMaterials.RevocationList matched = null;
+        for (var crl : crlList) {
+            if (crl.isRevoked(serial)) {
+                matched = crl;
+                break;
             }
         }
+        boolean isRevoked = matched != null;
+        if (!isRevoked) {
+            matched = crlList.iterator().next();
+        }
 
-        return new ClientPaResult.CrlCheckResult(false, true, false, null, "CRL parsing failed");
+        if (isRevoked) {
+            errors.add("DSC certificate is REVOKED");
+        }
+        String staleWarning = matched.isStale(System.currentTimeMillis())
+            ? "CRL nextUpdate passed (" + Instant.ofEpochMilli(matched.nextUpdate()) + ")"
+            : null;
+        return new ClientPaResult.CrlCheckResult(
+            true, !isRevoked, isRevoked, matched.issuerDn(), staleWarning);
     }
 
     // ================================================================
@@ -0,0 +1,382 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.smartcoreinc.fphps.dto.DocumentReadResponse;
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.DeviceTopicPublisher;
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.face.FaceVerificationResponse;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.ClientPaResult;
+import com.smartcoreinc.fphps.example.fphps_web_example.exceptions.DeviceOperationException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연속 판독 레인 (e-Gate 파이프라인 모드).
+ *
+ * 판독기별 읽기 스레드가 Auto Read를 반복하고, 읽은 문서의 클라이언트 PA(결과 보고 포함)와
+ * 얼굴 검증은 별도 검증 스테이지에서 수행하여 문서 N 검증과 문서 N+1 읽기를 겹쳐 실행.
+ * 검증 결과는 WebSocket LANE_RESULT 이벤트로 전송 (STOMP /sub/lanes/{deviceId}/results, 상태는 /status 토픽에도 발행).
+ *
+ * - 다음 읽기는 이전 읽기 직후 바로 시작 (판독기 Auto Read가 문서 제거 후 다음 문서를 대기)
+ * - 검증 대기 건수가 lane.max-pending에 도달하면 읽기 스레드가 대기 (검증 적체 시 배압)
+ */
+@Slf4j
+@Service
+public class ContinuousReadService {
+
+    public static final String LANE_RESULT_EVENT = "LANE_RESULT";
+    public static final String LANE_STATUS_EVENT = "LANE_STATUS";
+
+    /** 연속 실패 시 레인 자동 중지 기준 */
+    private static final int MAX_CONSECUTIVE_FAILURES = 5;
+    /** 읽기 실패 또는 빈 읽기 후 재시도 대기 (ms) */
+    private static final long FAILURE_BACKOFF_MS = 1000;
+
+    private final FPHPSService fphpsService;
+    private final ClientPaVerificationService clientPaService;
+    private final FaceVerificationService faceService;
+    private final FastPassWebSocketHandler fastPassWebSocketHandler;
+
+    @Value("${lane.verify-threads:2}")
+    private int verifyThreads;
+
+    @Value("${lane.max-pending:4}")
+    private int maxPending;
+
+    @Value("${lane.face-verification:true}")
+    private boolean faceVerificationEnabled;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private volatile ThreadPoolExecutor verifyExecutor;
+    private volatile ThreadPoolExecutor faceExecutor;
+
+    public ContinuousReadService(FPHPSService fphpsService,
+                                 ClientPaVerificationService clientPaService,
+                                 FaceVerificationService faceService,
+                                 FastPassWebSocketHandler fastPassWebSocketHandler) {
+        this.fphpsService = fphpsService;
+        this.clientPaService = clientPaService;
+        this.faceService = faceService;
+        this.fastPassWebSocketHandler = fastPassWebSocketHandler;
+    }
+
+    /**
+     * 레인 상태
+     */
+    private final class Lane {
+        final String deviceId;
+        final String dgProfile;
+        final ExecutorService readThread;
+        final Semaphore pendingPermits;
+        final AtomicLong sequence = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicInteger pending = new AtomicInteger();
+        final long startedAt = System.currentTimeMillis();
+        volatile boolean running = true;
+        volatile String lastError;
+
+        Lane(String deviceId, String dgProfile) {
+            this.deviceId = deviceId;
+            this.dgProfile = dgProfile;
+            this.pendingPermits = new Semaphore(Math.max(1, maxPending));
+            this.readThread = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "Lane-" + deviceId);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * 연속 판독 시작
+     * @param deviceId 판독기 시리얼 (null이면 첫 번째 판독기)
+     * @return 레인이 실행될 판독기 ID
+     */
+    public String start(String deviceId) {
+        return start(deviceId, null);
+    }
+
+    /**
+     * 연속 판독 시작 (DG 읽기 프로필 지정)
+     * @param dgProfile 레인에서 읽을 DG 프로필 이름 (null이면 전역 설정의 DG 선택)
+     */
+    public String start(String deviceId, String dgProfile) {
+        String resolvedId = fphpsService.getDeviceInfo(deviceId).getDeviceSerial();
+        Lane lane = new Lane(resolvedId, dgProfile);
+        Lane existing = lanes.putIfAbsent(resolvedId, lane);
+        if (existing != null) {
+            lane.readThread.shutdown();
+            throw new DeviceOperationException("Continuous read lane is already running on device " + resolvedId);
+        }
+        lane.readThread.submit(() -> runLane(lane));
+        log.info("Continuous read lane started on device {} (DG profile: {})", resolvedId,
+            dgProfile != null ? dgProfile : "global settings");
+        broadcastStatus(lane, "STARTED");
+        return resolvedId;
+    }
+
+    /**
+     * 연속 판독 중지. 진행 중인 Auto Read를 취소하고 이미 읽은 문서의 검증은 끝까지 수행
+     * @param deviceId 판독기 시리얼 (null이면 모든 레인)
+     * @return 중지한 레인 수
+     */
+    public int stop(String deviceId) {
+        List<Lane> targets = new ArrayList<>();
+        if (deviceId == null || deviceId.isBlank()) {
+            targets.addAll(lanes.values());
+        } else {
+            Lane lane = lanes.get(deviceId);
+            if (lane != null) {
+                targets.add(lane);
+            }
+        }
+        for (Lane lane : targets) {
+            stopLane(lane, "STOPPED");
+            fphpsService.cancelCurrentOperation(lane.deviceId);
+        }
+        return targets.size();
+    }
+
+    /**
+     * 레인별 상태 조회
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Lane lane : lanes.values()) {
+            result.put(lane.deviceId, laneStatus(lane));
+        }
+        return result;
+    }
+
+    private Map<String, Object> laneStatus(Lane lane) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", lane.running);
+        status.put("dgProfile", lane.dgProfile);
+        status.put("documentsRead", lane.sequence.get());
+        status.put("documentsVerified", lane.completed.get());
+        status.put("pendingVerifications", lane.pending.get());
+        long elapsedMs = System.currentTimeMillis() - lane.startedAt;
+        status.put("documentsPerMinute", elapsedMs > 0 ? lane.completed.get() * 60000.0 / elapsedMs : 0.0);
+        status.put("lastError", lane.lastError);
+        return status;
+    }
+
+    /**
+     * 읽기 스테이지: Auto Read 반복 후 검증 스테이지로 전달
+     */
+    private void runLane(Lane lane) {
+        int consecutiveFailures = 0;
+        while (lane.running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 검증 적체 시 대기
+                lane.pendingPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            boolean handedOff = false;
+            try {
+                long readStart = System.currentTimeMillis();
+                // 레인 읽기 결과는 결과 저장소에 보관하지 않아 운영자 화면의 결과를 밀어내지 않음
+                DocumentReadResponse response = fphpsService.read("PASSPORT", true, lane.deviceId, lane.dgProfile);
+                long readMillis = System.currentTimeMillis() - readStart;
+
+                if (response == null || response.getMrzInfo() == null) {
+                    // 문서 없이 Auto Read 종료. 문서 투입을 기다리다 끝난 경우는 정상이지만
+                    // 대기 없이 바로 끝났으면 판독기 이상으로 보고 실패로 집계 (어느 경우든 잠시 대기 후 재시도)
+                    if (readMillis < FAILURE_BACKOFF_MS) {
+                        consecutiveFailures++;
+                        lane.lastError = "Auto Read ended without a document after " + readMillis + " ms";
+                        log.warn("Lane {} read returned no document immediately ({}/{})", lane.deviceId,
+                            consecutiveFailures, MAX_CONSECUTIVE_FAILURES);
+                        if (consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                            log.error("Lane {} stopped after {} consecutive failures", lane.deviceId, consecutiveFailures);
+                            stopLane(lane, "FAILED");
+                            break;
+                        }
+                    }
+                    if (!backoff()) {
+                        break;
+                    }
+                    continue;
+                }
+                consecutiveFailures = 0;
+
+                long sequence = lane.sequence.incrementAndGet();
+                lane.pending.incrementAndGet();
+                submitVerification(lane, sequence, response, readMillis);
+                handedOff = true;
+            } catch (Exception e) {
+                if (!lane.running) {
+                    break;
+                }
+                consecutiveFailures++;
+                lane.lastError = e.getMessage();
+                log.warn("Lane {} read failed ({}/{}): {}", lane.deviceId, consecutiveFailures,
+                    MAX_CONSECUTIVE_FAILURES, e.getMessage());
+                if (consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                    log.error("Lane {} stopped after {} consecutive failures", lane.deviceId, consecutiveFailures);
+                    stopLane(lane, "FAILED");
+                    break;
+                }
+                if (!backoff()) {
+                    break;
+                }
+            } finally {
+                if (!handedOff) {
+                    lane.pendingPermits.release();
+                }
+            }
+        }
+        log.info("Continuous read lane on device {} finished (read={}, verified={})",
+            lane.deviceId, lane.sequence.get(), lane.completed.get());
+    }
+
+    /**
+     * 재시도 전 대기
+     * @return 인터럽트되었으면 false
+     */
+    private boolean backoff() {
+        try {
+            Thread.sleep(FAILURE_BACKOFF_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 검증 스테이지: 클라이언트 PA(결과 보고 포함)와 얼굴 검증을 병렬 수행 후 결과 전송
+     */
+    private void submitVerification(Lane lane, long sequence, DocumentReadResponse response, long readMillis) {
+        initExecutors();
+        verifyExecutor.execute(() -> {
+            long verifyStart = System.currentTimeMillis();
+            try {
+                CompletableFuture<Object> faceFuture = faceVerificationEnabled
+                    ? CompletableFuture.supplyAsync(() -> verifyFace(response), faceExecutor)
+                    : CompletableFuture.completedFuture(null);
+                Object paResult = verifyPa(response);
+                Object faceResult = faceFuture.join();
+
+                Map<String, Object> payload = new LinkedHashMap<>();
+                payload.put("deviceId", lane.deviceId);
+                payload.put("sequence", sequence);
+                payload.put("passportNumber", response.getMrzInfo().getPassportNumber());
+                payload.put("issuingState", response.getMrzInfo().getIssuingState());
+                payload.put("readMillis", readMillis);
+                payload.put("verifyMillis", System.currentTimeMillis() - verifyStart);
+                putResult(payload, "pa", paResult);
+                putResult(payload, "face", faceResult);
+                fastPassWebSocketHandler.broadcastEvent(LANE_RESULT_EVENT, payload, DeviceTopicPublisher.laneResults(lane.deviceId));
+            } catch (Exception e) {
+                log.error("Lane {} verification failed for document #{}: {}", lane.deviceId, sequence, e.getMessage(), e);
+            } finally {
+                lane.completed.incrementAndGet();
+                lane.pending.decrementAndGet();
+                lane.pendingPermits.release();
+            }
+        });
+    }
+
+    private Object verifyPa(DocumentReadResponse response) {
+        try {
+            return clientPaService.verify(response);
+        } catch (Exception e) {
+            log.warn("Lane PA verification failed: {}", e.getMessage());
+            return e;
+        }
+    }
+
+    private Object verifyFace(DocumentReadResponse response) {
+        try {
+            return faceService.verifyFromDocumentResponse(response);
+        } catch (Exception e) {
+            log.warn("Lane face verification failed: {}", e.getMessage());
+            return e;
+        }
+    }
+
+    private static void putResult(Map<String, Object> payload, String key, Object result) {
+        if (result instanceof Exception e) {
+            payload.put(key, null);
+            payload.put(key + "Error", e.getMessage());
+        } else if (result instanceof ClientPaResult || result instanceof FaceVerificationResponse) {
+            payload.put(key, result);
+        }
+    }
+
+    private void stopLane(Lane lane, String reason) {
+        if (!lane.running) {
+            return;
+        }
+        lane.running = false;
+        lanes.remove(lane.deviceId, lane);
+        lane.readThread.shutdown();
+        log.info("Continuous read lane on device {} {}", lane.deviceId, reason.toLowerCase());
+        broadcastStatus(lane, reason);
+    }
+
+    private void broadcastStatus(Lane lane, String state) {
+        Map<String, Object> payload = new LinkedHashMap<>(laneStatus(lane));
+        payload.put("deviceId", lane.deviceId);
+        payload.put("state", state);
+        fastPassWebSocketHandler.broadcastEvent(LANE_STATUS_EVENT, payload, DeviceTopicPublisher.laneStatus(lane.deviceId));
+    }
+
+    /**
+     * 검증 스테이지 스레드 풀 생성 (최초 사용 시, @Value 주입 이후).
+     * 얼굴 검증은 PA 작업이 기다리는 중에도 실행될 수 있도록 별도 풀 사용
+     */
+    private synchronized void initExecutors() {
+        if (verifyExecutor == null) {
+            int threads = Math.max(1, verifyThreads);
+            faceExecutor = newPool("LaneFace-", threads);
+            verifyExecutor = newPool("LaneVerify-", threads);
+        }
+    }
+
+    private static ThreadPoolExecutor newPool(String prefix, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, prefix + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Lane lane : new ArrayList<>(lanes.values())) {
+            stopLane(lane, "STOPPED");
+            lane.readThread.shutdownNow();
+        }
+        if (verifyExecutor != null) {
+            verifyExecutor.shutdown();
+            faceExecutor.shutdown();
+        }
+    }
+}
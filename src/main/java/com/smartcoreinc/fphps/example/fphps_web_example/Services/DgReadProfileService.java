@@ -0,0 +1,161 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
+import com.smartcoreinc.fphps.example.fphps_web_example.entity.DgReadProfile;
+import com.smartcoreinc.fphps.example.fphps_web_example.exceptions.DeviceOperationException;
+import com.smartcoreinc.fphps.example.fphps_web_example.repository.DgReadProfileRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 업무별 DG 읽기 프로필 관리 서비스
+ * - 읽기 요청마다 프로필을 지정하면 전역 DeviceSettings의 DG 선택 대신 프로필의 DG만 읽음 (전역 설정은 변경하지 않음)
+ * - 불필요한 DG(DG3/DG4/DG11/DG12 등)를 건너뛰어 RF 세션 시간 단축
+ * - SQLite에 영구 저장, 읽기 경로에서는 메모리 캐시 사용
+ */
+@Slf4j
+@Service
+public class DgReadProfileService {
+
+    private final DgReadProfileRepository repository;
+    private final Map<String, List<Integer>> cache = new ConcurrentHashMap<>();
+
+    public DgReadProfileService(DgReadProfileRepository repository) {
+        this.repository = repository;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (repository.count() == 0) {
+            // 기본 프로필: 출입국 게이트(MRZ, 얼굴, CA/PACE 정보)와 등록(전체)
+            repository.save(DgReadProfile.builder()
+                    .name("gate")
+                    .description("Border gate: DG1 + DG2 + DG14 (+ SOD)")
+                    .dataGroups("1,2,14")
+                    .build());
+            repository.save(DgReadProfile.builder()
+                    .name("enrolment")
+                    .description("Enrolment: all data groups")
+                    .dataGroups("1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16")
+                    .build());
+            log.info("Default DG read profiles created (gate, enrolment).");
+        }
+        reloadCache();
+    }
+
+    private void reloadCache() {
+        cache.clear();
+        for (DgReadProfile profile : repository.findAll()) {
+            cache.put(profile.getName(), parseDataGroups(profile.getDataGroups()));
+        }
+        log.info("Loaded {} DG read profile(s): {}", cache.size(), cache.keySet());
+    }
+
+    public List<DgReadProfile> getProfiles() {
+        return repository.findAllByOrderByNameAsc();
+    }
+
+    /**
+     * 프로필의 DG 선택 조회
+     * @param name 프로필 이름 (null/빈 값이면 전역 설정 사용)
+     * @return 프로필 DG 선택 (프로필 미지정 시 empty)
+     */
+    public Optional<EPassportDGProperties> resolve(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        List<Integer> dataGroups = cache.get(name.trim());
+        if (dataGroups == null) {
+            throw new DeviceOperationException("Unknown DG read profile: " + name);
+        }
+        return Optional.of(toDGProperties(dataGroups));
+    }
+
+    /**
+     * 프로필 저장 (같은 이름이 있으면 갱신)
+     */
+    public DgReadProfile saveProfile(String name, String description, List<Integer> dataGroups) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Profile name is required");
+        }
+        List<Integer> normalized = normalize(dataGroups);
+
+        DgReadProfile profile = repository.findByName(name.trim())
+                .orElseGet(() -> DgReadProfile.builder().name(name.trim()).build());
+        profile.setDescription(description);
+        profile.setDataGroups(normalized.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        DgReadProfile saved = repository.save(profile);
+
+        cache.put(saved.getName(), normalized);
+        log.info("DG read profile saved: {} -> DG{}", saved.getName(), normalized);
+        return saved;
+    }
+
+    public boolean deleteProfile(String name) {
+        Optional<DgReadProfile> profile = repository.findByName(name);
+        if (profile.isEmpty()) {
+            return false;
+        }
+        repository.delete(profile.get());
+        cache.remove(name);
+        log.info("DG read profile deleted: {}", name);
+        return true;
+    }
+
+    private static List<Integer> normalize(List<Integer> dataGroups) {
+        if (dataGroups == null || dataGroups.isEmpty()) {
+            throw new IllegalArgumentException("At least one data group is required");
+        }
+        for (Integer dg : dataGroups) {
+            if (dg == null || dg < 1 || dg > 16) {
+                throw new IllegalArgumentException("Invalid data group: " + dg);
+            }
+        }
+        return new ArrayList<>(new TreeSet<>(dataGroups));
+    }
+
+    private static List<Integer> parseDataGroups(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    /**
+     * DG 번호 목록을 판독기 DG 속성으로 변환
+     */
+    static EPassportDGProperties toDGProperties(List<Integer> dataGroups) {
+        return EPassportDGProperties.builder()
+                .dg1(dataGroups.contains(1) ? 1 : 0)
+                .dg2(dataGroups.contains(2) ? 1 : 0)
+                .dg3(dataGroups.contains(3) ? 1 : 0)
+                .dg4(dataGroups.contains(4) ? 1 : 0)
+                .dg5(dataGroups.contains(5) ? 1 : 0)
+                .dg6(dataGroups.contains(6) ? 1 : 0)
+                .dg7(dataGroups.contains(7) ? 1 : 0)
+                .dg8(dataGroups.contains(8) ? 1 : 0)
+                .dg9(dataGroups.contains(9) ? 1 : 0)
+                .dg10(dataGroups.contains(10) ? 1 : 0)
+                .dg11(dataGroups.contains(11) ? 1 : 0)
+                .dg12(dataGroups.contains(12) ? 1 : 0)
+                .dg13(dataGroups.contains(13) ? 1 : 0)
+                .dg14(dataGroups.contains(14) ? 1 : 0)
+                .dg15(dataGroups.contains(15) ? 1 : 0)
+                .dg16(dataGroups.contains(16) ? 1 : 0)
+                .build();
+    }
+}
@@ -1,24 +1,52 @@
 package com.smartcoreinc.fphps.example.fphps_web_example.Services;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.*;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import com.smartcoreinc.fphps.dto.DeviceInfo;
 import com.smartcoreinc.fphps.dto.DocumentReadResponse;
 import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
 import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.DeviceTopicPublisher;
 import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.AbandonedThreadRegistry;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceBackend;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DevicePropertyApplier;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics.Stage;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics.Trace;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceTimeoutPolicy;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceTimeoutPolicy.OperationTimeout;
 import com.smartcoreinc.fphps.manager.FPHPSDevice;
-import com.smartcoreinc.fphps.manager.FPHPSDeviceManager;
-import com.smartcoreinc.fphps.readers.PageScanner;
 import com.smartcoreinc.fphps.example.fphps_web_example.strategies.DocumentReadStrategy;
 import com.smartcoreinc.fphps.example.fphps_web_example.exceptions.DeviceOperationException;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_PROPERTY_TYPE;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -29,85 +57,302 @@ public class FPHPSService {
     public enum DeviceOperationStatus {
         IDLE,       // 대기 중
         RUNNING,    // 작업 진행 중
-        TIMED_OUT   // 타임아웃 발생 (스레드가 아직 멈춰있을 수 있음)
+        TIMED_OUT   // 타임아웃 발생, 정리 중 (정리 후 IDLE로 돌아감)
     }
 
-    /** 디바이스 작업 타임아웃 (초) - RF 통신 응답 대기 최대 시간 */
-    private static final int DEVICE_OPERATION_TIMEOUT_SECONDS = 60;
-    /** 디바이스 락 획득 대기 시간 (초) */
-    private static final int LOCK_ACQUIRE_TIMEOUT_SECONDS = 5;
+    /** 디바이스 작업 우선순위 (먼저 선언된 것이 먼저 처리됨) */
+    public enum OperationPriority {
+        MANUAL,     // 수동 읽기 (운영자가 화면 앞에서 대기 중)
+        AUTO,       // 자동 읽기
+        DIAGNOSTIC  // 페이지 스캔 등 진단 작업
+    }
+
+    /**
+     * 판독기 준비 상태
+     */
+    public enum DeviceReadiness {
+        INITIALIZING,   // 시작 시 백그라운드에서 판독기 열거/설정 동기화 중
+        READY,          // 판독기 사용 가능
+        UNAVAILABLE     // 판독기 없음 또는 초기화 실패 (재연결 필요)
+    }
+
+    /** 대기열 위치 알림 WebSocket 이벤트 코드 */
+    public static final String QUEUE_POSITION_EVENT = "DEVICE_QUEUE_POSITION";
+    /** 읽기 완료 요약 (STOMP 판독기 결과 토픽) */
+    public static final String READ_RESULT_EVENT = "READ_RESULT";
+
+    /** 유휴 세션 닫기 대기 시간 (초) */
+    private static final int SESSION_CLOSE_TIMEOUT_SECONDS = 5;
+    /** 유휴 세션 정리 주기 (초) */
+    private static final int SESSION_REAPER_INTERVAL_SECONDS = 10;
+    /** executor 교체 전 멈춘 스레드가 스스로 빠져나오기를 기다리는 시간 (ms) */
+    private static final long ABANDON_GRACE_MILLIS = 500;
 
-    private final FPHPSDeviceManager deviceManager;
+    private final DeviceBackend deviceBackend;
+    private final DevicePropertyApplier devicePropertyApplier;
+    private final DeviceStageMetrics stageMetrics;
+    private final DeviceTimeoutPolicy timeoutPolicy;
+    private final AbandonedThreadRegistry abandonedThreadRegistry;
+    private final DgReadProfileService dgReadProfileService;
+    private final ReadResultStore readResultStore;
     private final FastPassWebSocketHandler fastPassWebSocketHandler;
+    private final DeviceTopicPublisher topicPublisher;
     private final List<DocumentReadStrategy> strategies;
     private final DevicePropertiesService devicePropertiesService;
-    private FPHPSDevice device;
-    private boolean deviceAvailable = false;
-
-    // Auto-read의 마지막 읽기 결과 저장
-    private volatile DocumentReadResponse lastReadResponse;
-
-    // synchronized 대신 ReentrantLock 사용 (타임아웃 지원)
-    private final ReentrantLock deviceLock = new ReentrantLock();
-    // 디바이스 작업 전용 단일 스레드 (타임아웃 제어용, 멈추면 교체 가능)
-    private volatile ExecutorService deviceExecutor = createDeviceExecutor();
-    // 현재 작업 상태
-    private volatile DeviceOperationStatus operationStatus = DeviceOperationStatus.IDLE;
-    // 현재 실행 중인 Future (강제 취소용)
-    private volatile Future<?> currentOperation;
-    // 현재 작업을 실행 중인 스레드 (interrupt용)
-    private volatile Thread operationThread;
-
-    private static ExecutorService createDeviceExecutor() {
+    // 판독기 준비 상태. 시작 직후에는 INITIALIZING (초기화는 애플리케이션 기동 후 백그라운드에서 수행)
+    private volatile DeviceReadiness readiness = DeviceReadiness.INITIALIZING;
+    private volatile String readinessMessage;
+    // 시작 시 초기화와 재연결이 동시에 판독기를 열거하지 않도록 보호
+    private final Object initLock = new Object();
+
+    /**
+     * 진행 중인 읽기 1건. 같은 읽기 요청(single-flight 키 동일)은 새 칩 세션 대신 이 읽기의 결과를 공유
+     * @param readId 실제 읽기를 수행하는 요청의 readId
+     * @param followers 합류한 요청의 readId (완료 시 같은 결과를 각 readId로 저장)
+     */
+    private record InFlightRead(String readId, List<String> followers, CompletableFuture<DocumentReadResponse> future) {
+        InFlightRead(String readId) {
+            this(readId, new CopyOnWriteArrayList<>(), new CompletableFuture<>());
+        }
+    }
+
+    // single-flight 키(문서 종류/판독기/모드/DG 프로필/클라이언트) → 진행 중인 읽기
+    private final ConcurrentHashMap<String, InFlightRead> inFlightReads = new ConcurrentHashMap<>();
+    private final Counter coalescedReadCounter;
+    private final TaskExecutor taskExecutor;
+
+    // 연결된 모든 판독기 (시리얼 → 슬롯). 재연결 시 새 맵으로 교체
+    private volatile Map<String, DeviceSlot> deviceSlots = Collections.emptyMap();
+
+    // 세션 유지 모드: true이면 작업마다 open/close 하지 않고 디바이스를 열어둔 채 재사용
+    @Value("${device.session.persistent:false}")
+    private boolean persistentSession;
+
+    // 세션 유지 모드에서 이 시간 동안 작업이 없으면 디바이스를 닫음
+    @Value("${device.session.idle-close-seconds:300}")
+    private long sessionIdleCloseSeconds;
+
+    // 버려진 스레드가 상한(device.abandoned-threads.max)에 도달했을 때 조치
+    // shutdown: forceShutdown()으로 서비스 재시작 (네이티브 스레드/자원은 프로세스 재시작으로만 회수됨)
+    // reset: 버려진 스레드가 남은 판독기만 세션을 닫고 속성을 다시 적용, none: 기록만
+    @Value("${device.abandoned-threads.action:shutdown}")
+    private String abandonedThreadAction;
+
+    // 유휴 세션 정리용 스케줄러
+    private ScheduledExecutorService sessionReaper;
+
+    // 대기열 최대 길이. 초과 시 즉시 거절
+    @Value("${device.queue.capacity:32}")
+    private int queueCapacity;
+
+    // 대기열에서 판독기 배정을 기다리는 우선순위별 최대 시간 (초, 지정하지 않으면 device.queue.max-wait-seconds)
+    @Value("${device.queue.manual-max-wait-seconds:${device.queue.max-wait-seconds:30}}")
+    private long manualMaxWaitSeconds;
+
+    @Value("${device.queue.auto-max-wait-seconds:${device.queue.max-wait-seconds:30}}")
+    private long autoMaxWaitSeconds;
+
+    @Value("${device.queue.diagnostic-max-wait-seconds:${device.queue.max-wait-seconds:30}}")
+    private long diagnosticMaxWaitSeconds;
+
+    // 판독기 배정 대기열 (우선순위 → 도착 순). queueMonitor로 보호
+    private final Object queueMonitor = new Object();
+    private final TreeSet<PendingOperation> pendingOperations = new TreeSet<>(
+        Comparator.comparing((PendingOperation op) -> op.priority).thenComparingLong(op -> op.sequence));
+    private final AtomicLong operationSequence = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    // 세션 지표 (open/close 지연, 재사용 횟수, 재사용으로 절약된 시간)
+    private final Timer sessionOpenTimer;
+    private final Timer sessionCloseTimer;
+    private final Counter sessionReusedCounter;
+    private final Counter sessionSavedCounter;
+
+    /**
+     * 판독기 1대에 대한 작업 슬롯.
+     * 판독기마다 전용 실행 스레드와 작업 상태를 따로 가지므로
+     * 여러 대가 연결된 경우 서로 막지 않고 동시에 작업할 수 있음.
+     */
+    static final class DeviceSlot {
+        final String deviceId;
+        final FPHPSDevice device;
+        // 작업에 배정되어 사용 중인지 여부 (queueMonitor로 보호)
+        boolean reserved;
+        // 디바이스 작업 전용 단일 스레드 (타임아웃 제어용, 멈추면 교체 가능)
+        volatile ExecutorService executor;
+        // 현재 작업 상태
+        volatile DeviceOperationStatus status = DeviceOperationStatus.IDLE;
+        // 현재 실행 중인 Future (강제 취소용)
+        volatile Future<?> currentOperation;
+        // 현재 작업을 실행 중인 스레드 (interrupt용)
+        volatile Thread operationThread;
+        // 현재 실행 중인 작업 종류 (버려진 스레드 기록용)
+        volatile String operationName;
+        // 세션 유지 모드에서 마지막 작업 완료 시각 (유휴 판단용)
+        volatile long lastUsedAt;
+        // 이 판독기에서 진행 중인 Auto Read (완료 콜백이 결과를 전달할 위치)
+        volatile PendingAutoRead pendingAutoRead;
+
+        DeviceSlot(String deviceId, FPHPSDevice device) {
+            this.deviceId = deviceId;
+            this.device = device;
+            this.executor = createDeviceExecutor(deviceId);
+        }
+    }
+
+    /**
+     * 판독기에서 진행 중인 Auto Read 1건.
+     * 판독기 Auto Read는 결과를 완료 콜백으로 전달하므로 콜백이 이 객체에 결과를 넣고 읽기 요청이 꺼내 씀
+     */
+    private static final class PendingAutoRead {
+        final String readId;
+        volatile DocumentReadResponse response;
+
+        PendingAutoRead(String readId) {
+            this.readId = readId;
+        }
+    }
+
+    /**
+     * 판독기 배정을 기다리는 작업 요청.
+     * 판독기가 배정되면 assignment가 해당 슬롯으로 완료됨.
+     */
+    private static final class PendingOperation {
+        final long sequence;
+        final OperationPriority priority;
+        final String deviceId;  // null이면 아무 판독기나 가능
+        final long enqueuedAt = System.nanoTime();
+        final CompletableFuture<DeviceSlot> assignment = new CompletableFuture<>();
+
+        PendingOperation(long sequence, OperationPriority priority, String deviceId) {
+            this.sequence = sequence;
+            this.priority = priority;
+            this.deviceId = deviceId;
+        }
+    }
+
+    private static ExecutorService createDeviceExecutor(String deviceId) {
         return Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "DeviceOp");
+            Thread t = new Thread(r, "DeviceOp-" + deviceId);
             t.setDaemon(true);
             return t;
         });
     }
 
-    public FPHPSService(FastPassWebSocketHandler fastPassWebSocketHandler, List<DocumentReadStrategy> strategies, DevicePropertiesService devicePropertiesService) {
+    public FPHPSService(FastPassWebSocketHandler fastPassWebSocketHandler, List<DocumentReadStrategy> strategies,
+                        DevicePropertiesService devicePropertiesService, DeviceBackend deviceBackend,
+                        DevicePropertyApplier devicePropertyApplier, DeviceStageMetrics stageMetrics,
+                        DeviceTimeoutPolicy timeoutPolicy, AbandonedThreadRegistry abandonedThreadRegistry,
+                        DgReadProfileService dgReadProfileService, ReadResultStore readResultStore,
+                        TaskExecutor taskExecutor, DeviceTopicPublisher topicPublisher, MeterRegistry meterRegistry) {
         this.fastPassWebSocketHandler = fastPassWebSocketHandler;
+        this.topicPublisher = topicPublisher;
         this.strategies = strategies;
         this.devicePropertiesService = devicePropertiesService;
-        this.deviceManager = FPHPSDeviceManager.getInstance();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("fphps.device.queue.depth", pendingOperations, TreeSet::size)
+            .description("Device operations waiting for a reader")
+            .register(meterRegistry);
+        this.sessionOpenTimer = Timer.builder("fphps.device.session.open")
+            .description("Time spent in openDevice()")
+            .register(meterRegistry);
+        this.sessionCloseTimer = Timer.builder("fphps.device.session.close")
+            .description("Time spent in closeDevice()")
+            .register(meterRegistry);
+        this.sessionReusedCounter = Counter.builder("fphps.device.session.reused")
+            .description("Operations that reused an already opened device session")
+            .register(meterRegistry);
+        this.sessionSavedCounter = Counter.builder("fphps.device.session.saved")
+            .description("Estimated open/close latency avoided by reusing device sessions")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        this.deviceBackend = deviceBackend;
+        this.devicePropertyApplier = devicePropertyApplier;
+        this.stageMetrics = stageMetrics;
+        this.timeoutPolicy = timeoutPolicy;
+        this.abandonedThreadRegistry = abandonedThreadRegistry;
+        this.dgReadProfileService = dgReadProfileService;
+        this.readResultStore = readResultStore;
+        this.taskExecutor = taskExecutor;
+        this.coalescedReadCounter = Counter.builder("fphps.device.read.coalesced")
+            .description("Read requests that joined an identical read already in flight")
+            .register(meterRegistry);
 
-        // Auto Read 완료 시 결과를 lastReadResponse에 저장하는 콜백 등록
+        // Auto Read 완료 시 결과를 읽기 결과 저장소에 저장하는 콜백 등록
         this.fastPassWebSocketHandler.setOnReadCompleteCallback(this::saveAutoReadResponse);
-        try {
-            initDevices();
-            // DB에 저장된 설정이 있는지 확인
-            FPHPSDeviceProperties savedProperties = this.devicePropertiesService.getProperties();
-            boolean hasSavedSettings = savedProperties != null &&
-                (savedProperties.getBatchModeProperties() != null ||
-                 savedProperties.getEPassportDGProperties() != null ||
-                 savedProperties.getEPassportAuthProperties() != null);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 판독기 초기화를 백그라운드에서 시작.
+     * USB 판독기/네이티브 라이브러리 응답을 기다리지 않고 화면과 health 엔드포인트를 바로 제공하며,
+     * 초기화가 끝날 때까지 readiness는 INITIALIZING
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void startDeviceInitialization() {
+        Thread initThread = new Thread(this::initializeDevices, "DeviceInit");
+        initThread.setDaemon(true);
+        initThread.start();
+    }
 
+    private void initializeDevices() {
+        long start = System.nanoTime();
+        synchronized (initLock) {
+            if (readiness != DeviceReadiness.INITIALIZING) {
+                // 초기화 전에 재연결이 먼저 수행됨
+                return;
+            }
             try {
-                this.device.openDevice();
-                if (hasSavedSettings) {
-                    // DB에 저장된 설정이 있으면 디바이스에 적용
-                    this.device.setDeviceProperties(savedProperties);
-                    log.info("Applied saved settings from database to device.");
-                } else {
-                    // DB에 저장된 설정이 없으면 디바이스에서 가져와서 저장
-                    FPHPSDeviceProperties initialProperties = this.device.getDeviceProperties();
-                    this.devicePropertiesService.setProperties(initialProperties);
-                    log.info("No saved settings found. Loaded initial properties from device and saved to database.");
-                }
-            } finally {
-                if (this.device.isDeviceOpened()) {
-                    this.device.closeDevice();
+                initDevices();
+                syncDeviceProperties();
+                this.readinessMessage = null;
+                this.readiness = DeviceReadiness.READY;
+                log.info("FPHPS device pool initialized successfully in {} ms: {} reader(s) {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), deviceSlots.size(), deviceSlots.keySet());
+            } catch (com.smartcoreinc.fphps.exception.FPHPSException e) {
+                log.warn("FPHPS device not available: {}. Web application will run without device.", e.getMessage());
+                this.readinessMessage = e.getMessage();
+                this.readiness = DeviceReadiness.UNAVAILABLE;
+            } catch (Exception e) {
+                log.warn("FPHPS device initialization failed: {}. Web application will run without device.", e.getMessage());
+                this.readinessMessage = e.getMessage();
+                this.readiness = DeviceReadiness.UNAVAILABLE;
+            }
+        }
+        // 초기화 중 들어와 대기 중인 작업이 있으면 배정
+        dispatchAndNotify();
+    }
+
+    /**
+     * 세션 유지 모드일 때 유휴 세션 정리 스케줄러 시작
+     */
+    @PostConstruct
+    void startSessionReaper() {
+        if (!persistentSession) {
+            return;
+        }
+        sessionReaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "DeviceSessionReaper");
+            t.setDaemon(true);
+            return t;
+        });
+        sessionReaper.scheduleWithFixedDelay(this::closeIdleSessions,
+            SESSION_REAPER_INTERVAL_SECONDS, SESSION_REAPER_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        log.info("Persistent device session mode enabled (idle close after {}s)", sessionIdleCloseSeconds);
+    }
+
+    @PreDestroy
+    void stopSessionReaper() {
+        if (sessionReaper != null) {
+            sessionReaper.shutdownNow();
+        }
+        for (DeviceSlot slot : deviceSlots.values()) {
+            try {
+                if (slot.device.isDeviceOpened()) {
+                    slot.device.closeDevice();
                 }
+            } catch (Exception e) {
+                log.warn("Failed to close device {} on shutdown: {}", slot.deviceId, e.getMessage());
             }
-            this.deviceAvailable = true;
-            log.info("FPHPS device initialized successfully.");
-        } catch (com.smartcoreinc.fphps.exception.FPHPSException e) {
-            log.warn("FPHPS device not available: {}. Web application will start without device.", e.getMessage());
-            this.deviceAvailable = false;
-        } catch (Exception e) {
-            log.warn("FPHPS device initialization failed: {}. Web application will start without device.", e.getMessage());
-            this.deviceAvailable = false;
         }
     }
 
@@ -115,151 +360,602 @@ public class FPHPSService {
      * 디바이스 연결 상태 확인
      */
     public boolean isDeviceAvailable() {
-        return deviceAvailable;
+        return readiness == DeviceReadiness.READY;
+    }
+
+    /**
+     * 판독기 준비 상태 (초기화 중/사용 가능/사용 불가)
+     */
+    public DeviceReadiness getDeviceReadiness() {
+        return readiness;
+    }
+
+    /**
+     * 마지막 초기화/재연결 실패 사유 (없으면 null)
+     */
+    public String getReadinessMessage() {
+        return readinessMessage;
+    }
+
+    /**
+     * 판독기 사용 가능 여부 확인. 초기화 중이면 별도 메시지로 거절
+     */
+    private void requireDevice(String notConnectedMessage) {
+        if (readiness == DeviceReadiness.INITIALIZING) {
+            throw new DeviceOperationException("Device is initializing. Please try again in a moment.");
+        }
+        if (readiness != DeviceReadiness.READY || deviceSlots.isEmpty()) {
+            throw new DeviceOperationException(notConnectedMessage);
+        }
     }
 
     /**
      * 디바이스 재연결 시도
      */
     public void reconnectDevice() {
-        try {
-            initDevices();
-            FPHPSDeviceProperties savedProperties = this.devicePropertiesService.getProperties();
-            boolean hasSavedSettings = savedProperties != null &&
-                (savedProperties.getBatchModeProperties() != null ||
-                 savedProperties.getEPassportDGProperties() != null ||
-                 savedProperties.getEPassportAuthProperties() != null);
+        synchronized (initLock) {
+            try {
+                initDevices();
+                syncDeviceProperties();
+                this.readinessMessage = null;
+                this.readiness = DeviceReadiness.READY;
+                log.info("FPHPS device pool reconnected successfully: {} reader(s) {}",
+                    deviceSlots.size(), deviceSlots.keySet());
+            } catch (Exception e) {
+                log.warn("FPHPS device reconnect failed: {}", e.getMessage());
+                this.readinessMessage = e.getMessage();
+                this.readiness = DeviceReadiness.UNAVAILABLE;
+                throw new DeviceOperationException("Device not found. Please connect the FastPass device and try again.");
+            }
+        }
+        // 새로 연결된 판독기에 대기 중인 작업 배정
+        dispatchAndNotify();
+    }
+
+    /**
+     * 연결된 모든 판독기를 열거하여 슬롯 구성.
+     * 이미 알고 있는 판독기는 기존 슬롯(스레드/상태)을 그대로 유지.
+     */
+    private void initDevices() {
+        Map<String, FPHPSDevice> devices = this.deviceBackend.discoverDevices();
+        if (devices.isEmpty()) {
+            throw new DeviceOperationException("No FastPass device found.");
+        }
+
+        Map<String, DeviceSlot> previous = this.deviceSlots;
+        Map<String, DeviceSlot> slots = new LinkedHashMap<>();
+        devices.forEach((serial, device) -> {
+            DeviceSlot existing = previous.get(serial);
+            slots.put(serial, existing != null && existing.device == device ? existing : new DeviceSlot(serial, device));
+        });
+        this.deviceSlots = Collections.unmodifiableMap(slots);
+
+        // 교체되거나 분리된 판독기의 작업 스레드 정리 (재연결마다 스레드가 남지 않도록)
+        for (DeviceSlot old : previous.values()) {
+            if (slots.get(old.deviceId) != old) {
+                old.executor.shutdownNow();
+                log.info("Device executor for {} shut down ({}).", old.deviceId,
+                    slots.containsKey(old.deviceId) ? "replaced" : "removed");
+            }
+        }
+    }
 
+    /**
+     * DB에 저장된 설정을 모든 판독기에 적용.
+     * 저장된 설정이 없으면 첫 번째 판독기의 설정을 DB에 저장하고 나머지 판독기에도 적용.
+     */
+    private void syncDeviceProperties() {
+        // DB에 저장된 설정이 있는지 확인
+        FPHPSDeviceProperties savedProperties = this.devicePropertiesService.getProperties();
+        boolean hasSavedSettings = savedProperties != null &&
+            (savedProperties.getBatchModeProperties() != null ||
+             savedProperties.getEPassportDGProperties() != null ||
+             savedProperties.getEPassportAuthProperties() != null);
+
+        for (DeviceSlot slot : deviceSlots.values()) {
+            FPHPSDevice device = slot.device;
             try {
-                this.device.openDevice();
+                device.openDevice();
                 if (hasSavedSettings) {
-                    this.device.setDeviceProperties(savedProperties);
-                    log.info("Applied saved settings from database to reconnected device.");
+                    // DB에 저장된 설정이 있으면 디바이스에 적용
+                    devicePropertyApplier.apply(device, savedProperties);
+                    log.info("Applied saved settings from database to device {}.", slot.deviceId);
                 } else {
-                    FPHPSDeviceProperties initialProperties = this.device.getDeviceProperties();
+                    // DB에 저장된 설정이 없으면 디바이스에서 가져와서 저장
+                    FPHPSDeviceProperties initialProperties = device.getDeviceProperties();
                     this.devicePropertiesService.setProperties(initialProperties);
-                    log.info("Loaded initial properties from reconnected device.");
+                    savedProperties = initialProperties;
+                    hasSavedSettings = true;
+                    log.info("No saved settings found. Loaded initial properties from device {} and saved to database.",
+                        slot.deviceId);
                 }
             } finally {
-                if (this.device.isDeviceOpened()) {
-                    this.device.closeDevice();
+                if (device.isDeviceOpened()) {
+                    device.closeDevice();
                 }
             }
-            this.deviceAvailable = true;
-            log.info("FPHPS device reconnected successfully.");
-        } catch (Exception e) {
-            log.warn("FPHPS device reconnect failed: {}", e.getMessage());
-            this.deviceAvailable = false;
-            throw new DeviceOperationException("Device not found. Please connect the FastPass device and try again.");
         }
     }
 
-    private void initDevices() {
-        this.deviceManager.enumerateDevices();
-        this.device = this.deviceManager.getDevice();
+    /**
+     * 연결된 판독기 ID(시리얼) 목록
+     */
+    public List<String> getDeviceIds() {
+        return new ArrayList<>(deviceSlots.keySet());
     }
 
     public DeviceInfo getDeviceInfo() {
-        if (!deviceAvailable || device == null) {
-            throw new DeviceOperationException("Device not connected. Please connect the FastPass device.");
+        return getDeviceInfo(null);
+    }
+
+    /**
+     * 판독기 정보 조회
+     * @param deviceId 판독기 시리얼 (null이면 첫 번째 판독기)
+     */
+    public DeviceInfo getDeviceInfo(String deviceId) {
+        requireDevice("Device not connected. Please connect the FastPass device.");
+        DeviceSlot slot = deviceId != null ? getSlot(deviceId) : deviceSlots.values().iterator().next();
+        return slot.device.getDeviceInfo();
+    }
+
+    /**
+     * 연결된 모든 판독기 정보 조회
+     */
+    public List<DeviceInfo> getDeviceInfos() {
+        List<DeviceInfo> infos = new ArrayList<>();
+        for (DeviceSlot slot : deviceSlots.values()) {
+            infos.add(slot.device.getDeviceInfo());
+        }
+        return infos;
+    }
+
+    private DeviceSlot getSlot(String deviceId) {
+        DeviceSlot slot = deviceSlots.get(deviceId);
+        if (slot == null) {
+            throw new DeviceOperationException("Unknown device: " + deviceId);
         }
-        return device.getDeviceInfo();
+        return slot;
     }
 
     /**
-     * 디바이스 작업을 타임아웃 보호와 함께 실행.
-     * - ReentrantLock으로 동시 접근 방지 (tryLock 타임아웃)
-     * - 별도 스레드에서 실행하여 Future.get(timeout)으로 타임아웃 강제
-     * - 타임아웃 시 디바이스 강제 닫기 및 스레드 인터럽트
+     * 우선순위별 배정 대기 시간 (초). 운영자가 기다리는 수동 읽기와 백그라운드 작업의 마감을 따로 설정할 수 있음
      */
-    private <R> R executeWithDevice(Function<FPHPSDevice, R> action) {
-        if (!deviceAvailable || device == null) {
-            throw new DeviceOperationException("Device not connected. Please connect the FastPass device and try again.");
+    private long maxWaitSeconds(OperationPriority priority) {
+        return switch (priority) {
+            case MANUAL -> manualMaxWaitSeconds;
+            case AUTO -> autoMaxWaitSeconds;
+            case DIAGNOSTIC -> diagnosticMaxWaitSeconds;
+        };
+    }
+
+    /**
+     * 대기열에 작업을 등록하고 판독기가 배정될 때까지 대기.
+     * - 우선순위(MANUAL > AUTO > DIAGNOSTIC) 후 도착 순으로 배정
+     * - deviceId 지정 시 해당 판독기만, 미지정 시 비어 있는 아무 판독기
+     * - 대기열이 가득 차거나 우선순위별 대기 시간(maxWaitSeconds)을 넘기면 실패
+     */
+    private DeviceSlot acquireSlot(String deviceId, OperationPriority priority) {
+        if (deviceId != null) {
+            getSlot(deviceId); // 존재하지 않는 판독기면 즉시 실패
+        }
+        PendingOperation op = new PendingOperation(operationSequence.incrementAndGet(), priority, deviceId);
+        synchronized (queueMonitor) {
+            if (pendingOperations.size() >= queueCapacity) {
+                rejectedCounter("full").increment();
+                throw new DeviceOperationException(
+                    "Device queue is full (" + queueCapacity + " pending). Please try again later.");
+            }
+            pendingOperations.add(op);
+            dispatchPendingOperations();
+        }
+
+        boolean waited = !op.assignment.isDone();
+        if (waited) {
+            notifyQueuePositions();
         }
 
-        // 1. 락 획득 (다른 작업이 진행 중이면 짧게 대기 후 실패)
-        boolean locked;
+        long maxWaitSeconds = maxWaitSeconds(priority);
+        DeviceSlot slot;
         try {
-            locked = deviceLock.tryLock(LOCK_ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            slot = op.assignment.get(maxWaitSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            slot = withdraw(op);
+            if (slot == null) {
+                rejectedCounter("deadline").increment();
+                notifyQueuePositions();
+                throw new DeviceOperationException(
+                    "Timed out after " + maxWaitSeconds + "s waiting for a free device. Please try again.");
+            }
+        } catch (ExecutionException e) {
+            // 대기 중 취소됨
+            Throwable cause = e.getCause();
+            if (cause instanceof DeviceOperationException) {
+                throw (DeviceOperationException) cause;
+            }
+            throw new DeviceOperationException("Device queue wait failed: " + cause.getMessage(), cause);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            DeviceSlot assigned = withdraw(op);
+            if (assigned != null) {
+                releaseSlot(assigned);
+            } else {
+                notifyQueuePositions();
+            }
             throw new DeviceOperationException("Device operation interrupted while waiting.");
         }
-        if (!locked) {
-            if (operationStatus == DeviceOperationStatus.TIMED_OUT) {
-                throw new DeviceOperationException(
-                    "A previous device operation has timed out and the device may be unresponsive. " +
-                    "Please cancel the operation or restart the service.");
+
+        Timer.builder("fphps.device.queue.wait")
+            .description("Time spent waiting in the device queue")
+            .tag("priority", priority.name())
+            .register(meterRegistry)
+            .record(System.nanoTime() - op.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        if (waited) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("requestId", op.sequence);
+            payload.put("priority", priority.name());
+            payload.put("deviceId", slot.deviceId);
+            payload.put("position", 0);
+            fastPassWebSocketHandler.broadcastEvent(QUEUE_POSITION_EVENT, payload);
+        }
+        return slot;
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("fphps.device.queue.rejected")
+            .description("Device operations rejected by the queue")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 대기열에서 요청 제거. 제거 직전에 이미 배정되었다면 배정된 슬롯 반환
+     */
+    private DeviceSlot withdraw(PendingOperation op) {
+        synchronized (queueMonitor) {
+            if (pendingOperations.remove(op)) {
+                return null;
             }
-            throw new DeviceOperationException(
-                "Another device operation is in progress. Please wait for it to complete.");
         }
+        return op.assignment.isDone() && !op.assignment.isCompletedExceptionally() ? op.assignment.join() : null;
+    }
+
+    /**
+     * 비어 있는 판독기를 대기 중인 요청에 우선순위 순으로 배정. queueMonitor를 잡은 상태에서 호출
+     */
+    private void dispatchPendingOperations() {
+        Iterator<PendingOperation> it = pendingOperations.iterator();
+        while (it.hasNext()) {
+            PendingOperation op = it.next();
+            DeviceSlot slot = findFreeSlot(op.deviceId);
+            if (slot == null) {
+                continue;
+            }
+            slot.reserved = true;
+            it.remove();
+            op.assignment.complete(slot);
+        }
+    }
+
+    private DeviceSlot findFreeSlot(String deviceId) {
+        if (deviceId != null) {
+            DeviceSlot slot = deviceSlots.get(deviceId);
+            return slot != null && isFree(slot) ? slot : null;
+        }
+        for (DeviceSlot slot : deviceSlots.values()) {
+            if (isFree(slot)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private boolean isFree(DeviceSlot slot) {
+        // 타임아웃된 판독기는 정리(executor 교체)가 끝나 예약이 풀리면 바로 다시 배정
+        return !slot.reserved;
+    }
+
+    /**
+     * 비어 있는 판독기를 바로 예약 (대기열을 거치지 않는 내부 작업용)
+     */
+    private boolean tryReserve(DeviceSlot slot) {
+        synchronized (queueMonitor) {
+            if (!isFree(slot)) {
+                return false;
+            }
+            slot.reserved = true;
+            return true;
+        }
+    }
+
+    /**
+     * 판독기 반납 후 대기 중인 다음 요청에 배정
+     */
+    private void releaseSlot(DeviceSlot slot) {
+        synchronized (queueMonitor) {
+            slot.reserved = false;
+        }
+        dispatchAndNotify();
+    }
+
+    private void dispatchAndNotify() {
+        synchronized (queueMonitor) {
+            dispatchPendingOperations();
+        }
+        notifyQueuePositions();
+    }
+
+    /**
+     * 대기 중인 요청마다 현재 대기열 위치를 WebSocket으로 알림 (1부터 시작)
+     */
+    private void notifyQueuePositions() {
+        List<PendingOperation> snapshot;
+        synchronized (queueMonitor) {
+            if (pendingOperations.isEmpty()) {
+                return;
+            }
+            snapshot = new ArrayList<>(pendingOperations);
+        }
+        int position = 1;
+        for (PendingOperation op : snapshot) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("requestId", op.sequence);
+            payload.put("priority", op.priority.name());
+            payload.put("deviceId", op.deviceId);
+            payload.put("position", position++);
+            payload.put("queueDepth", snapshot.size());
+            fastPassWebSocketHandler.broadcastEvent(QUEUE_POSITION_EVENT, payload);
+        }
+    }
+
+    /**
+     * 대기 중인 요청 취소
+     * @param deviceId 판독기 시리얼 (null이면 모든 요청, 지정 시 해당 판독기를 지정한 요청만)
+     * @return 취소된 요청 수
+     */
+    private int cancelPendingOperations(String deviceId) {
+        List<PendingOperation> cancelled = new ArrayList<>();
+        synchronized (queueMonitor) {
+            Iterator<PendingOperation> it = pendingOperations.iterator();
+            while (it.hasNext()) {
+                PendingOperation op = it.next();
+                if (deviceId == null || deviceId.equals(op.deviceId)) {
+                    it.remove();
+                    cancelled.add(op);
+                }
+            }
+        }
+        for (PendingOperation op : cancelled) {
+            op.assignment.completeExceptionally(
+                new DeviceOperationException("Device operation was cancelled while waiting in queue."));
+        }
+        return cancelled.size();
+    }
+
+    /**
+     * 디바이스 작업을 타임아웃 보호와 함께 실행.
+     * - 우선순위 대기열에서 판독기를 배정받아 동시 접근 방지
+     * - 판독기별 별도 스레드에서 실행하여 Future.get(timeout)으로 타임아웃 강제
+     *   (타임아웃은 작업 종류별 관측 시간으로 계산 - DeviceTimeoutPolicy)
+     * - 타임아웃 시 디바이스 강제 닫기 및 스레드 인터럽트
+     * - 단계별 시간은 trace에 기록 (작업 스레드에 바인딩)
+     */
+    private <R> R executeWithDevice(String deviceId, OperationPriority priority, Trace trace,
+                                    Function<FPHPSDevice, R> action) {
+        return executeWithDevice(deviceId, priority, trace, devicePropertiesService.getProperties(), action);
+    }
+
+    /**
+     * @param properties 이번 작업에 적용될 속성 (작업 종류별 타임아웃 계산용)
+     */
+    private <R> R executeWithDevice(String deviceId, OperationPriority priority, Trace trace,
+                                    FPHPSDeviceProperties properties, Function<FPHPSDevice, R> action) {
+        requireDevice("Device not connected. Please connect the FastPass device and try again.");
+
+        // 1. 대기열에서 판독기 배정
+        long queuedAt = System.nanoTime();
+        DeviceSlot slot = acquireSlot(deviceId, priority);
+        stageMetrics.record(trace, Stage.QUEUE_WAIT, System.nanoTime() - queuedAt);
+        FPHPSDevice device = slot.device;
+        OperationTimeout timeout = timeoutPolicy.timeoutFor(trace.getDocType(), trace.getMode(), properties);
 
         // 2. 별도 스레드에서 디바이스 작업 실행 (타임아웃 제어)
-        operationStatus = DeviceOperationStatus.RUNNING;
+        slot.status = DeviceOperationStatus.RUNNING;
+        boolean abandonedLimitReached = false;
         try {
-            Future<R> future = deviceExecutor.submit(() -> {
-                operationThread = Thread.currentThread();
+            Future<R> future = slot.executor.submit(() -> {
+                slot.operationThread = Thread.currentThread();
+                slot.operationName = timeout.key();
+                stageMetrics.bind(trace);
+                long startedAt = System.nanoTime();
+                boolean keepOpen = persistentSession;
+                boolean succeeded = false;
                 try {
-                    device.openDevice();
+                    if (keepOpen) {
+                        ensureSessionOpen(slot);
+                    } else {
+                        openDeviceTimed(slot);
+                    }
                     try {
-                        return action.apply(device);
+                        R result = action.apply(device);
+                        succeeded = true;
+                        return result;
                     } catch (com.smartcoreinc.fphps.exception.FPHPSException e) {
-                        log.error("FPHPS device operation failed: {}", e.getMessage(), e);
+                        // 실패한 세션은 재사용하지 않고 다음 작업에서 다시 열도록 함
+                        keepOpen = false;
+                        log.error("FPHPS device operation failed on {}: {}", slot.deviceId, e.getMessage(), e);
                         throw new DeviceOperationException("FPHPS device error: " + e.getMessage(), e);
                     } catch (Exception e) {
-                        log.error("An unexpected error during device operation: {}", e.getMessage(), e);
+                        keepOpen = false;
+                        log.error("An unexpected error during device operation on {}: {}", slot.deviceId, e.getMessage(), e);
                         throw new DeviceOperationException(
                             "An unexpected error occurred during device operation: " + e.getMessage(), e);
                     }
                 } finally {
-                    try {
-                        if (device.isDeviceOpened()) {
-                            device.closeDevice();
+                    // 버려진 뒤 뒤늦게 빠져나온 스레드는 새 작업이 쓰는 디바이스/슬롯 상태를 건드리지 않음
+                    boolean owner = slot.operationThread == Thread.currentThread();
+                    if (!owner) {
+                        log.info("Abandoned device operation {} on {} returned after {} ms", timeout.key(),
+                            slot.deviceId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                    } else if (keepOpen) {
+                        slot.lastUsedAt = System.currentTimeMillis();
+                    } else {
+                        try {
+                            closeDeviceTimed(slot);
+                        } catch (Exception e) {
+                            log.warn("Failed to close device {} in finally block: {}", slot.deviceId, e.getMessage());
                         }
-                    } catch (Exception e) {
-                        log.warn("Failed to close device in finally block: {}", e.getMessage());
                     }
-                    operationThread = null;
+                    if (succeeded) {
+                        // 호출자가 이미 타임아웃으로 포기했더라도 끝까지 완료된 작업은 정상 시간으로 반영
+                        timeoutPolicy.recordSuccess(timeout.key(), System.nanoTime() - startedAt);
+                    }
+                    if (owner) {
+                        slot.operationThread = null;
+                        slot.operationName = null;
+                    }
+                    stageMetrics.unbind();
                 }
             });
-            currentOperation = future;
+            slot.currentOperation = future;
 
             // 3. 타임아웃 대기
             try {
-                R result = future.get(DEVICE_OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                operationStatus = DeviceOperationStatus.IDLE;
+                R result = future.get(timeout.millis(), TimeUnit.MILLISECONDS);
+                slot.status = DeviceOperationStatus.IDLE;
                 return result;
             } catch (TimeoutException e) {
-                operationStatus = DeviceOperationStatus.TIMED_OUT;
-                log.error("Device operation timed out after {} seconds. " +
-                          "RF communication may be stuck.", DEVICE_OPERATION_TIMEOUT_SECONDS);
-                // 타임아웃 시 강제 정리
-                forceAbortCurrentOperation();
+                slot.status = DeviceOperationStatus.TIMED_OUT;
+                timeoutPolicy.recordTimeout(timeout.key());
+                log.error("Device operation {} on {} timed out after {} ms ({}). " +
+                          "RF communication may be stuck.", timeout.key(), slot.deviceId, timeout.millis(),
+                          timeout.learned() ? "adaptive" : "ceiling");
+                // 타임아웃 시 강제 정리. 멈춘 작업 스레드는 버려진 스레드로 등록하고
+                // 새 executor로 교체하여 판독기를 다음 작업에 다시 배정 (취소 요청을 기다리지 않음)
+                forceAbortCurrentOperation(slot);
+                abandonedLimitReached = resetDeviceExecutorIfNeeded(slot);
+                slot.status = DeviceOperationStatus.IDLE;
                 throw new DeviceOperationException(
-                    "Device operation timed out (" + DEVICE_OPERATION_TIMEOUT_SECONDS +
+                    "Device operation timed out (" + formatSeconds(timeout.millis()) +
                     "s). The RF reader may be unresponsive. Please try again or restart the service.");
             } catch (ExecutionException e) {
-                operationStatus = DeviceOperationStatus.IDLE;
+                slot.status = DeviceOperationStatus.IDLE;
                 Throwable cause = e.getCause();
                 if (cause instanceof DeviceOperationException) {
                     throw (DeviceOperationException) cause;
                 }
                 throw new DeviceOperationException("Device operation failed: " + cause.getMessage(), cause);
+            } catch (CancellationException e) {
+                // cancelCurrentOperation()으로 취소됨
+                slot.status = DeviceOperationStatus.IDLE;
+                throw new DeviceOperationException("Device operation was cancelled.");
             } catch (InterruptedException e) {
-                operationStatus = DeviceOperationStatus.IDLE;
+                slot.status = DeviceOperationStatus.IDLE;
                 Thread.currentThread().interrupt();
                 future.cancel(true);
                 throw new DeviceOperationException("Device operation was interrupted.");
             }
         } finally {
-            currentOperation = null;
-            deviceLock.unlock();
+            slot.currentOperation = null;
+            releaseSlot(slot);
+            stageMetrics.complete(trace);
+            if (abandonedLimitReached) {
+                handleAbandonedThreadLimit();
+            }
+        }
+    }
+
+    private static String formatSeconds(long millis) {
+        return String.format(Locale.ROOT, "%.1f", millis / 1000.0);
+    }
+
+    private void openDeviceTimed(DeviceSlot slot) {
+        long start = System.nanoTime();
+        slot.device.openDevice();
+        long elapsed = System.nanoTime() - start;
+        sessionOpenTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        stageMetrics.record(Stage.OPEN, elapsed);
+    }
+
+    private void closeDeviceTimed(DeviceSlot slot) {
+        if (!slot.device.isDeviceOpened()) {
+            return;
+        }
+        long start = System.nanoTime();
+        slot.device.closeDevice();
+        long elapsed = System.nanoTime() - start;
+        sessionCloseTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        stageMetrics.record(Stage.CLOSE, elapsed);
+    }
+
+    /**
+     * 세션 유지 모드: 열려 있고 응답하는 세션이면 재사용, 아니면 (다시) 열기.
+     * 재사용 시 생략된 open/close 평균 시간을 절약 시간으로 기록.
+     */
+    private void ensureSessionOpen(DeviceSlot slot) {
+        if (slot.device.isDeviceOpened()) {
+            if (isSessionHealthy(slot)) {
+                sessionReusedCounter.increment();
+                sessionSavedCounter.increment(
+                    sessionOpenTimer.mean(TimeUnit.MILLISECONDS) + sessionCloseTimer.mean(TimeUnit.MILLISECONDS));
+                return;
+            }
+            log.warn("Device session on {} failed health probe. Reopening.", slot.deviceId);
+            try {
+                closeDeviceTimed(slot);
+            } catch (Exception e) {
+                log.warn("Failed to close unhealthy session on {}: {}", slot.deviceId, e.getMessage());
+            }
+        }
+        openDeviceTimed(slot);
+        log.debug("Device session opened on {}", slot.deviceId);
+    }
+
+    /**
+     * 세션 상태 점검: 가벼운 속성 조회가 성공하는지 확인
+     */
+    private boolean isSessionHealthy(DeviceSlot slot) {
+        try {
+            slot.device.getDeviceSetting().getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_TIMEOUT);
+            return true;
+        } catch (Exception e) {
+            log.debug("Health probe failed on {}: {}", slot.deviceId, e.getMessage());
+            return false;
         }
     }
 
-    private void executeWithDeviceVoid(Consumer<FPHPSDevice> action) {
-        executeWithDevice(device -> {
+    /**
+     * 세션 유지 모드에서 유휴 시간이 지난 세션 닫기.
+     * 작업 중인 판독기는 건너뛰며, 닫기는 해당 판독기 전용 스레드에서 수행.
+     */
+    private void closeIdleSessions() {
+        long idleLimitMillis = TimeUnit.SECONDS.toMillis(sessionIdleCloseSeconds);
+        long now = System.currentTimeMillis();
+        for (DeviceSlot slot : deviceSlots.values()) {
+            if (!slot.device.isDeviceOpened() || now - slot.lastUsedAt < idleLimitMillis) {
+                continue;
+            }
+            if (!tryReserve(slot)) {
+                continue; // 작업 중
+            }
+            try {
+                slot.executor.submit(() -> closeDeviceTimed(slot))
+                    .get(SESSION_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                log.info("Closed idle device session on {}", slot.deviceId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to close idle session on {}: {}", slot.deviceId, e.getMessage());
+            } finally {
+                releaseSlot(slot);
+            }
+        }
+    }
+
+    private void executeWithDeviceVoid(String deviceId, OperationPriority priority, Trace trace,
+                                       Consumer<FPHPSDevice> action) {
+        executeWithDevice(deviceId, priority, trace, device -> {
             action.accept(device);
             return null;
         });
@@ -271,63 +967,204 @@ public class FPHPSService {
      * - Future.cancel(true)로 인터럽트 시도
      * - device.closeDevice()로 네이티브 레벨 중단 시도
      */
-    private void forceAbortCurrentOperation() {
-        Future<?> op = currentOperation;
+    private void forceAbortCurrentOperation(DeviceSlot slot) {
+        Future<?> op = slot.currentOperation;
         if (op != null) {
             op.cancel(true);
         }
-        Thread t = operationThread;
+        Thread t = slot.operationThread;
         if (t != null) {
             t.interrupt();
         }
         // 디바이스 강제 닫기 (네이티브 라이브러리가 블로킹 해제될 수 있음)
+        // 세션 유지 모드에서도 세션이 닫히므로 다음 작업에서 새로 열림
         try {
-            if (device != null && device.isDeviceOpened()) {
-                log.warn("Force-closing device to abort stuck operation");
-                device.closeDevice();
+            if (slot.device.isDeviceOpened()) {
+                log.warn("Force-closing device {} to abort stuck operation", slot.deviceId);
+                slot.device.closeDevice();
             }
         } catch (Exception e) {
-            log.warn("Failed to force-close device: {}", e.getMessage());
+            log.warn("Failed to force-close device {}: {}", slot.deviceId, e.getMessage());
         }
     }
 
     /**
-     * 현재 디바이스 작업 상태 조회
+     * 현재 디바이스 작업 상태 조회 (전체 판독기 기준).
+     * 하나라도 타임아웃 후 정리 중이면 TIMED_OUT, 하나라도 작업 중이면 RUNNING
      */
     public DeviceOperationStatus getOperationStatus() {
-        return operationStatus;
+        DeviceOperationStatus aggregate = DeviceOperationStatus.IDLE;
+        for (DeviceSlot slot : deviceSlots.values()) {
+            if (slot.status == DeviceOperationStatus.TIMED_OUT) {
+                return DeviceOperationStatus.TIMED_OUT;
+            }
+            if (slot.status == DeviceOperationStatus.RUNNING) {
+                aggregate = DeviceOperationStatus.RUNNING;
+            }
+        }
+        return aggregate;
     }
 
     /**
-     * 사용자 또는 시스템에 의한 강제 작업 취소.
+     * 판독기별 작업 상태 조회
+     * @return 판독기 시리얼 → 작업 상태
+     */
+    public Map<String, DeviceOperationStatus> getOperationStatuses() {
+        Map<String, DeviceOperationStatus> statuses = new LinkedHashMap<>();
+        for (DeviceSlot slot : deviceSlots.values()) {
+            statuses.put(slot.deviceId, slot.status);
+        }
+        return statuses;
+    }
+
+    /**
+     * 사용자 또는 시스템에 의한 강제 작업 취소 (모든 판독기).
      * UI에서 "Cancel Operation" 버튼 클릭 시 호출.
      * @return 취소 시도 결과
      */
     public boolean cancelCurrentOperation() {
-        if (operationStatus == DeviceOperationStatus.IDLE) {
-            return false; // 취소할 작업 없음
+        return cancelCurrentOperation(null);
+    }
+
+    /**
+     * 강제 작업 취소. 대기열에서 기다리는 요청도 함께 취소
+     * @param deviceId 판독기 시리얼 (null이면 작업 중인 모든 판독기와 모든 대기 요청)
+     * @return 취소 시도 결과
+     */
+    public boolean cancelCurrentOperation(String deviceId) {
+        int drained = cancelPendingOperations(deviceId);
+        if (drained > 0) {
+            log.warn("Cancel requested by user - dropped {} queued device operation(s)", drained);
         }
-        log.warn("Cancel requested by user - aborting current device operation");
-        forceAbortCurrentOperation();
+        boolean cancelled = drained > 0;
+        boolean abandonedLimitReached = false;
+        for (DeviceSlot slot : deviceSlots.values()) {
+            if (deviceId != null && !deviceId.equals(slot.deviceId)) {
+                continue;
+            }
+            if (slot.status == DeviceOperationStatus.IDLE) {
+                continue; // 취소할 작업 없음
+            }
+            log.warn("Cancel requested by user - aborting current device operation on {}", slot.deviceId);
+            forceAbortCurrentOperation(slot);
 
-        // deviceExecutor가 타임아웃 후에도 멈춰있을 수 있으므로
-        // 새 executor로 교체하여 다음 작업이 가능하도록 함
-        resetDeviceExecutorIfNeeded();
-        operationStatus = DeviceOperationStatus.IDLE;
-        return true;
+            // executor가 타임아웃 후에도 멈춰있을 수 있으므로
+            // 새 executor로 교체하여 다음 작업이 가능하도록 함
+            abandonedLimitReached |= resetDeviceExecutorIfNeeded(slot);
+            slot.status = DeviceOperationStatus.IDLE;
+            cancelled = true;
+        }
+        // 취소로 풀린 판독기에 남은 요청 배정
+        dispatchAndNotify();
+        if (abandonedLimitReached) {
+            handleAbandonedThreadLimit();
+        }
+        return cancelled;
     }
 
     /**
      * 타임아웃으로 멈춘 executor를 새 것으로 교체.
      * 기존 스레드는 daemon이므로 JVM 종료 시 정리됨.
      * 새 executor로 교체하여 다음 작업이 즉시 가능하도록 함.
+     * 잠시 기다려도 빠져나오지 않는 작업 스레드는 AbandonedThreadRegistry에 등록.
+     * @return 버려진 스레드 수가 상한에 도달했으면 true
      */
-    private void resetDeviceExecutorIfNeeded() {
-        ExecutorService oldExecutor = deviceExecutor;
-        deviceExecutor = createDeviceExecutor();
+    private boolean resetDeviceExecutorIfNeeded(DeviceSlot slot) {
+        Thread worker = slot.operationThread;
+        String operation = slot.operationName;
+        slot.operationThread = null;
+        slot.operationName = null;
+        ExecutorService oldExecutor = slot.executor;
+        slot.executor = createDeviceExecutor(slot.deviceId);
         // 기존 executor는 shutdownNow로 정리 시도 (daemon 스레드이므로 멈춘 채로 남아도 JVM에는 영향 없음)
         oldExecutor.shutdownNow();
-        log.info("Device executor replaced with a fresh instance.");
+        log.info("Device executor for {} replaced with a fresh instance.", slot.deviceId);
+
+        if (worker == null) {
+            return false;
+        }
+        try {
+            worker.join(ABANDON_GRACE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!worker.isAlive()) {
+            return false;
+        }
+        return abandonedThreadRegistry.register(slot.deviceId, operation != null ? operation : "unknown", worker);
+    }
+
+    /**
+     * 버려진 스레드가 상한에 도달했을 때 조치.
+     * 네이티브 호출에 묶인 스레드는 강제로 종료할 수 없고 벤더 라이브러리에 판독기별 리셋이 없으므로
+     * 기본 조치는 프로세스 재시작(shutdown). reset은 버려진 스레드가 남은 판독기만 세션을 정리하며
+     * 조치 후에는 기준 수를 갱신하여 남은 스레드로 상한이 바로 다시 차지 않도록 함
+     */
+    private void handleAbandonedThreadLimit() {
+        int leaked = abandonedThreadRegistry.aliveCount();
+        log.error("{} device thread(s) are still blocked in native code (limit {}). Action: {}",
+            leaked, abandonedThreadRegistry.getMaxAbandoned(), abandonedThreadAction);
+        Counter.builder("fphps.device.threads.limit")
+            .description("Times the abandoned device thread limit was reached")
+            .tag("action", abandonedThreadAction)
+            .register(meterRegistry)
+            .increment();
+
+        if ("shutdown".equalsIgnoreCase(abandonedThreadAction)) {
+            forceShutdown();
+        } else if ("reset".equalsIgnoreCase(abandonedThreadAction)) {
+            // 판독기 예약을 기다려야 하므로 타임아웃된 요청 스레드를 붙잡지 않음
+            taskExecutor.execute(this::resetBlockedDevices);
+        }
+        abandonedThreadRegistry.acknowledge();
+    }
+
+    /**
+     * 버려진 스레드가 남은 판독기만 리셋.
+     * 다른 작업과 겹치지 않도록 대기열로 판독기를 예약한 뒤 해당 판독기 전용 스레드에서 세션을 닫고
+     * 속성 캐시를 비워 다음 작업이 새 세션에 전체 속성을 다시 적용하도록 함 (다른 판독기의 작업은 건드리지 않음)
+     */
+    private void resetBlockedDevices() {
+        for (String deviceId : abandonedThreadRegistry.blockedDeviceIds()) {
+            if (!deviceSlots.containsKey(deviceId)) {
+                continue; // 분리된 판독기
+            }
+            DeviceSlot slot;
+            try {
+                slot = acquireSlot(deviceId, OperationPriority.DIAGNOSTIC);
+            } catch (DeviceOperationException e) {
+                log.warn("Could not reserve device {} for reset: {}", deviceId, e.getMessage());
+                continue;
+            }
+            try {
+                slot.executor.submit(() -> {
+                    closeDeviceTimed(slot);
+                    devicePropertyApplier.invalidate(slot.deviceId);
+                }).get(SESSION_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                log.info("Device {} reset after leaked threads", deviceId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Device reset on {} failed: {}. Restart the service to recover.", deviceId, e.getMessage());
+            } finally {
+                releaseSlot(slot);
+            }
+        }
+    }
+
+    /**
+     * 아직 네이티브 호출에 묶여 있는 버려진 디바이스 스레드 수
+     */
+    public int getAbandonedThreadCount() {
+        return abandonedThreadRegistry.aliveCount();
+    }
+
+    /**
+     * 버려진 디바이스 스레드 상세 (판독기, 작업 종류, 경과 시간, 스택)
+     */
+    public List<Map<String, Object>> getAbandonedThreads() {
+        return abandonedThreadRegistry.snapshot();
     }
 
     /**
@@ -338,7 +1175,9 @@ public class FPHPSService {
     public void forceShutdown() {
         log.warn("Force shutdown requested");
         // 진행 중인 작업 정리 시도
-        forceAbortCurrentOperation();
+        for (DeviceSlot slot : deviceSlots.values()) {
+            forceAbortCurrentOperation(slot);
+        }
 
         new Thread(() -> {
             try {
@@ -370,103 +1209,327 @@ public class FPHPSService {
     }
 
     public DocumentReadResponse read(String docType, boolean isAuto) {
-        log.debug("read() called: docType={}, isAuto={}", docType, isAuto);
+        return read(docType, isAuto, null);
+    }
+
+    /**
+     * 문서 읽기
+     * @param deviceId 판독기 시리얼 (null이면 유휴 판독기 자동 선택)
+     */
+    public DocumentReadResponse read(String docType, boolean isAuto, String deviceId) {
+        return read(docType, isAuto, deviceId, null);
+    }
+
+    /**
+     * 문서 읽기 (DG 읽기 프로필 지정)
+     * @param deviceId 판독기 시리얼 (null이면 유휴 판독기 자동 선택)
+     * @param dgProfile DG 읽기 프로필 이름 (null이면 전역 설정의 DG 선택)
+     */
+    public DocumentReadResponse read(String docType, boolean isAuto, String deviceId, String dgProfile) {
+        return read(docType, isAuto, deviceId, dgProfile, anonymousReadId());
+    }
+
+    /**
+     * 클라이언트가 없는 읽기(연속 읽기 레인 등)의 readId.
+     * 이벤트/DG 스트림 구분용으로만 쓰며 결과 저장소에는 예약하지 않음 (운영자 결과를 밀어내지 않도록)
+     */
+    private static String anonymousReadId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 문서 읽기 (결과 저장 위치 지정)
+     * @param deviceId 판독기 시리얼 (null이면 유휴 판독기 자동 선택)
+     * @param dgProfile DG 읽기 프로필 이름 (null이면 전역 설정의 DG 선택)
+     * @param readId ReadResultStore.reserve()로 발급한 readId. 결과는 이 readId로 저장되며 결과 없이 끝나면 예약이 제거됨
+     * @return 읽기 결과 (Auto Read는 완료 콜백으로 저장된 결과)
+     */
+    public DocumentReadResponse read(String docType, boolean isAuto, String deviceId, String dgProfile, String readId) {
+        // 같은 읽기가 진행 중이면 합류하여 결과를 기다림, 아니면 호출 스레드에서 직접 수행
+        CompletableFuture<DocumentReadResponse> future =
+            singleFlight(docType, isAuto, deviceId, dgProfile, readId, Runnable::run);
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DeviceOperationException("Read failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 읽기 single-flight 처리.
+     * 같은 클라이언트(HTTP 세션)의 문서 종류/판독기/모드/DG 프로필이 같은 읽기가 진행 중이면
+     * 새 작업을 대기열에 넣지 않고 그 결과 future를 반환 (더블 클릭, 같은 세션의 여러 탭의 동시 요청).
+     * 다른 클라이언트의 읽기에는 합류하지 않으므로 한 클라이언트의 문서가 다른 클라이언트의 readId로 저장되지 않음.
+     * 클라이언트가 없는 읽기(연속 읽기 레인 등)는 판독기를 지정한 경우에만 같은 판독기의 읽기와 합류
+     * @param executor 새 읽기를 수행할 executor
+     */
+    private CompletableFuture<DocumentReadResponse> singleFlight(String docType, boolean isAuto, String deviceId,
+                                                                 String dgProfile, String readId, Executor executor) {
+        boolean anyDevice = deviceId == null || deviceId.isBlank();
+        String clientId = readResultStore.clientOf(readId);
+        if (clientId == null && anyDevice) {
+            // 어느 판독기에서 누구의 문서를 읽을지 정해지지 않은 읽기는 합류 대상이 아님
+            CompletableFuture<DocumentReadResponse> future = new CompletableFuture<>();
+            try {
+                executor.execute(() -> {
+                    try {
+                        future.complete(executeRead(docType, isAuto, deviceId, dgProfile, readId));
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(new DeviceOperationException("Read could not be started: " + e.getMessage(), e));
+            }
+            return future;
+        }
+        String key = String.join("/", docType == null ? "" : docType.toUpperCase(Locale.ROOT),
+            anyDevice ? "*" : deviceId,
+            isAuto ? DeviceStageMetrics.MODE_AUTO : DeviceStageMetrics.MODE_MANUAL,
+            dgProfile == null ? "" : dgProfile.trim(),
+            clientId == null ? "" : clientId);
+
+        InFlightRead created = new InFlightRead(readId);
+        InFlightRead flight = inFlightReads.compute(key, (k, existing) -> {
+            if (existing != null) {
+                existing.followers().add(readId);
+                return existing;
+            }
+            return created;
+        });
+        if (flight != created) {
+            coalescedReadCounter.increment();
+            // 키의 클라이언트(세션 ID)는 로그에 남기지 않음
+            log.info("Read {} joined in-flight read {} ({}/{})", readId, flight.readId(), docType, anyDevice ? "*" : deviceId);
+            return flight.future();
+        }
+
+        try {
+            executor.execute(() -> {
+                DocumentReadResponse response = null;
+                Throwable failure = null;
+                try {
+                    response = executeRead(docType, isAuto, deviceId, dgProfile, readId);
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    // 제거 이후 도착한 요청은 새 읽기를 시작
+                    inFlightReads.remove(key, flight);
+                }
+                // 합류한 요청도 같은 판독기의 결과로 저장 (결과 없이 끝났으면 모든 예약 제거)
+                ReadResultStore.StoredRead leader = response != null ? readResultStore.findRead(readId, null) : null;
+                for (String follower : flight.followers()) {
+                    if (response != null) {
+                        readResultStore.complete(follower, response, leader != null ? leader.deviceId() : null);
+                    } else {
+                        readResultStore.release(follower);
+                    }
+                }
+                if (response == null) {
+                    readResultStore.release(readId);
+                }
+                if (failure != null) {
+                    flight.future().completeExceptionally(failure);
+                } else {
+                    flight.future().complete(response);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightReads.remove(key, flight);
+            readResultStore.release(readId);
+            flight.followers().forEach(readResultStore::release);
+            flight.future().completeExceptionally(new DeviceOperationException("Read could not be started: " + e.getMessage(), e));
+        }
+        return flight.future();
+    }
+
+    private DocumentReadResponse executeRead(String docType, boolean isAuto, String deviceId, String dgProfile, String readId) {
+        log.debug("read() called: docType={}, isAuto={}, deviceId={}, dgProfile={}, readId={}",
+            docType, isAuto, deviceId, dgProfile, readId);
 
-        DocumentReadResponse response = executeWithDevice(openedDevice -> {
+        // 프로필의 DG 선택은 이번 읽기에만 적용 (전역 설정은 변경하지 않음)
+        EPassportDGProperties dataGroups = dgReadProfileService.resolve(dgProfile).orElse(null);
+        FPHPSDeviceProperties readProperties = devicePropertiesService.getProperties();
+        if (dataGroups != null) {
+            readProperties = DevicePropertyApplier.copyOf(readProperties);
+            readProperties.setEPassportDGProperties(dataGroups);
+        }
+
+        OperationPriority priority = isAuto ? OperationPriority.AUTO : OperationPriority.MANUAL;
+        Trace trace = stageMetrics.newTrace(docType,
+            isAuto ? DeviceStageMetrics.MODE_AUTO : DeviceStageMetrics.MODE_MANUAL);
+        // 실제로 읽은 판독기 (deviceId 미지정 시 유휴 판독기 자동 선택)
+        AtomicReference<String> servedBy = new AtomicReference<>(deviceId);
+        DocumentReadResponse response = executeWithDevice(deviceId, priority, trace, readProperties, openedDevice -> {
+            servedBy.set(openedDevice.getDeviceInfo().getDeviceSerial());
             for (DocumentReadStrategy strategy : strategies) {
                 if (strategy.supports(docType)) {
-                    return strategy.read(openedDevice, fastPassWebSocketHandler, isAuto);
+                    if (!isAuto) {
+                        return strategy.read(openedDevice, fastPassWebSocketHandler, false, dataGroups, readId);
+                    }
+                    // 완료 콜백은 판독기 이벤트 스레드에서 호출되므로 이 판독기의 결과 전달 위치를 미리 지정
+                    DeviceSlot slot = deviceSlots.get(servedBy.get());
+                    PendingAutoRead pending = new PendingAutoRead(readId);
+                    if (slot != null) {
+                        slot.pendingAutoRead = pending;
+                    }
+                    try {
+                        DocumentReadResponse result =
+                            strategy.read(openedDevice, fastPassWebSocketHandler, true, dataGroups, readId);
+                        // 판독기 Auto Read는 read()가 null을 반환하고 결과를 완료 콜백으로 전달
+                        return result != null ? result : pending.response;
+                    } finally {
+                        if (slot != null && slot.pendingAutoRead == pending) {
+                            slot.pendingAutoRead = null;
+                        }
+                    }
                 }
             }
             log.warn("No strategy found for document type: {}", docType);
             return null;
         });
 
-        // 읽기 결과 저장 (Manual/Auto 모두)
+        // 읽기 결과 저장 (Manual/Auto 모두, 클라이언트가 없는 읽기는 저장하지 않음)
         if (response != null) {
-            this.lastReadResponse = response;
+            boolean stored = readResultStore.complete(readId, response, servedBy.get());
             // 디버그: 저장된 데이터 확인
             if (response.getMrzInfo() != null && response.getMrzInfo().getPassportNumber() != null) {
-                log.info("✓ Read response saved - Passport: {}, SOD: {} bytes, Mode: {}",
+                log.info("✓ Read response {} - Passport: {}, SOD: {} bytes, Mode: {}, readId: {}",
+                    stored ? "saved" : "returned",
                     response.getMrzInfo().getPassportNumber(),
                     response.getSodDataBytes() != null ? response.getSodDataBytes().length : 0,
-                    isAuto ? "AUTO" : "MANUAL");
+                    isAuto ? "AUTO" : "MANUAL", readId);
             } else {
-                log.warn("⚠ Read response saved but NO MRZ DATA - Mode: {}", isAuto ? "AUTO" : "MANUAL");
+                log.warn("⚠ Read response {} but NO MRZ DATA - Mode: {}", stored ? "saved" : "returned",
+                    isAuto ? "AUTO" : "MANUAL");
             }
+        } else if (isAuto) {
+            log.debug("Auto Read: no result from read() or completion callback, readId={}", readId);
         } else {
-            if (isAuto) {
-                log.debug("Auto Read: read() returned null (expected - data will be retrieved via callback)");
-            } else {
-                log.warn("⚠ Manual Read: read() returned null response - Passport may not have been detected");
-            }
+            log.warn("⚠ Manual Read: read() returned null response - Passport may not have been detected");
         }
 
+        if (response != null) {
+            publishReadResult(readId, docType, isAuto, servedBy.get(), response);
+        }
         return response;
     }
 
+    /**
+     * 읽기 완료 요약을 판독기 결과 토픽(/sub/devices/{deviceId}/results)으로 발행.
+     * 문서 데이터는 포함하지 않으며 구독자는 readId(X-Read-Id)로 검증/내보내기 API를 호출
+     */
+    private void publishReadResult(String readId, String docType, boolean isAuto, String deviceId,
+                                   DocumentReadResponse response) {
+        if (deviceId == null || !topicPublisher.hasSubscribers()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventCodeString", READ_RESULT_EVENT);
+        payload.put("readId", readId);
+        payload.put("deviceId", deviceId);
+        payload.put("docType", docType);
+        payload.put("mode", isAuto ? DeviceStageMetrics.MODE_AUTO : DeviceStageMetrics.MODE_MANUAL);
+        payload.put("mrzAvailable", response.getMrzInfo() != null && response.getMrzInfo().getPassportNumber() != null);
+        payload.put("sodBytes", response.getSodDataBytes() != null ? response.getSodDataBytes().length : 0);
+        topicPublisher.publish(DeviceTopicPublisher.deviceResults(deviceId), payload);
+    }
+
     /**
      * 비동기 Auto Read 실행
-     * HTTP 요청은 즉시 반환하고, 실제 읽기는 별도 스레드에서 수행
+     * HTTP 요청은 즉시 반환하고, 실제 읽기는 별도 스레드(AutoRead- executor)에서 수행
      * 결과는 WebSocket을 통해 클라이언트에 전달됨
      */
-    @Async
     public CompletableFuture<DocumentReadResponse> readAsync(String docType) {
-        log.debug("readAsync() started: docType={}", docType);
-        try {
-            DocumentReadResponse response = read(docType, true);
-            log.debug("readAsync() completed");
-            return CompletableFuture.completedFuture(response);
-        } catch (Exception e) {
-            log.error("readAsync() failed: {}", e.getMessage(), e);
-            return CompletableFuture.failedFuture(e);
-        }
+        return readAsync(docType, null);
     }
 
     /**
-     * Auto-read의 마지막 읽기 결과 반환
-     * @return 마지막 DocumentReadResponse 또는 null
+     * 비동기 Auto Read 실행 (판독기 지정)
+     * @param deviceId 판독기 시리얼 (null이면 유휴 판독기 자동 선택)
      */
-    public DocumentReadResponse getLastReadResponse() {
-        return lastReadResponse;
+    public CompletableFuture<DocumentReadResponse> readAsync(String docType, String deviceId) {
+        return readAsync(docType, deviceId, null);
+    }
+
+    /**
+     * 비동기 Auto Read 실행 (판독기, DG 읽기 프로필 지정)
+     * @param dgProfile DG 읽기 프로필 이름 (null이면 전역 설정의 DG 선택)
+     */
+    public CompletableFuture<DocumentReadResponse> readAsync(String docType, String deviceId, String dgProfile) {
+        return readAsync(docType, deviceId, dgProfile, anonymousReadId());
+    }
+
+    /**
+     * 비동기 Auto Read 실행 (결과 저장 위치 지정).
+     * 같은 판독기/문서 종류/DG 프로필의 Auto Read가 진행 중이면 새로 대기열에 넣지 않고 그 읽기의 future를 반환
+     * @param readId ReadResultStore.reserve()로 발급한 readId (합류한 경우에도 결과가 이 readId로 저장됨)
+     */
+    public CompletableFuture<DocumentReadResponse> readAsync(String docType, String deviceId, String dgProfile, String readId) {
+        log.debug("readAsync() started: docType={}, deviceId={}, dgProfile={}, readId={}", docType, deviceId, dgProfile, readId);
+        return singleFlight(docType, true, deviceId, dgProfile, readId, taskExecutor)
+            .whenComplete((response, e) -> {
+                if (e != null) {
+                    log.error("readAsync() failed: {}", e.getMessage(), e);
+                } else {
+                    log.debug("readAsync() completed: readId={}", readId);
+                }
+            });
     }
 
     /**
      * Auto Read 완료 시 호출되는 콜백 메서드
      * WebSocketHandler에서 FPHPS_EV_EPASS_READ_DONE 이벤트 수신 시 호출됨
+     * @param deviceId 완료 이벤트를 보낸 판독기 시리얼
      * @param response Auto Read 결과
      */
-    private void saveAutoReadResponse(DocumentReadResponse response) {
+    private void saveAutoReadResponse(String deviceId, DocumentReadResponse response) {
         if (response != null) {
-            this.lastReadResponse = response;
+            DeviceSlot slot = deviceId != null ? deviceSlots.get(deviceId) : null;
+            PendingAutoRead pending = slot != null ? slot.pendingAutoRead : null;
+            if (pending == null) {
+                // 이 판독기에서 결과를 기다리는 읽기가 없음 (타임아웃/취소 후 도착) - 다른 요청의 결과로 저장하지 않음
+                log.warn("Auto Read result from device {} has no pending read, discarding", deviceId);
+                return;
+            }
+            // 읽기 요청에 전달하고, 클라이언트 읽기이면 read()가 반환되기 전에 검증할 수 있도록 바로 저장
+            pending.response = response;
+            boolean stored = readResultStore.complete(pending.readId, response, deviceId);
             if (response.getMrzInfo() != null && response.getMrzInfo().getPassportNumber() != null) {
-                log.info("✓ Auto Read callback saved - Passport: {}, SOD: {} bytes",
+                log.info("✓ Auto Read callback {} - Passport: {}, SOD: {} bytes", stored ? "saved" : "delivered",
                     response.getMrzInfo().getPassportNumber(),
                     response.getSodDataBytes() != null ? response.getSodDataBytes().length : 0);
             } else {
-                log.warn("⚠ Auto Read callback saved but NO MRZ DATA - Passport was not detected during Auto Read");
+                log.warn("⚠ Auto Read callback {} but NO MRZ DATA - Passport was not detected during Auto Read",
+                    stored ? "saved" : "delivered");
             }
         } else {
             log.warn("⚠ Auto Read callback called with NULL response - No passport data available");
         }
     }
 
-    /**
-     * 저장된 마지막 읽기 결과 초기화
-     */
-    public void clearLastReadResponse() {
-        this.lastReadResponse = null;
-        log.debug("Cleared last read response");
-    }
-
     public void closeDevice() {
-        device.closeDevice();
+        for (DeviceSlot slot : deviceSlots.values()) {
+            if (slot.device.isDeviceOpened()) {
+                slot.device.closeDevice();
+            }
+        }
     }
 
     public FPHPSImage scanPage(int lightType) {
-        return executeWithDevice(openedDevice -> {
-            PageScanner scanner = new PageScanner(openedDevice);
-            return scanner.scan(lightType);
-        });
+        return scanPage(lightType, null);
+    }
+
+    /**
+     * 페이지 스캔
+     * @param deviceId 판독기 시리얼 (null이면 유휴 판독기 자동 선택)
+     */
+    public FPHPSImage scanPage(int lightType, String deviceId) {
+        Trace trace = stageMetrics.newTrace("PAGE", DeviceStageMetrics.MODE_DIAGNOSTIC);
+        return executeWithDevice(deviceId, OperationPriority.DIAGNOSTIC, trace,
+            openedDevice -> deviceBackend.scanPage(openedDevice, lightType));
     }
-}
\ No newline at end of file
+}
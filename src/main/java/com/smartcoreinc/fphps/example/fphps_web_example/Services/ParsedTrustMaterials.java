@@ -0,0 +1,357 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 국가별 Trust Materials의 파싱된 인증서/CRL 집합.
+ * 다운로드가 도착할 때 한 번 만들어 캐시에 보관하며, 문서별 Trust Chain/CRL 검증은 ASN.1 파싱 없이 이 객체를 사용.
+ *
+ * - CSCA, Link Certificate, CRL을 DER SHA-256 fingerprint로 보관 (중복 제거)
+ * - 이전 집합에 같은 fingerprint가 있으면 파싱하지 않고 재사용 (캐시 히트 시에도 매번 받는 갱신 다운로드 대비)
+ * - 파싱 실패 항목은 로그만 남기고 제외
+ * - CSCA/Link Certificate를 SubjectKeyIdentifier와 subject DN으로 색인하여 발급자 후보를 바로 찾음
+ *   (AuthorityKeyIdentifier → SKI, 없으면 발급자 DN → subject DN, 둘 다 일치하지 않을 때만 전체 목록)
+ * - CRL은 다운로드 시 발급자별 폐기 일련번호 해시 집합(RevocationList)으로 변환하여 문서별 폐기 확인은 해시 조회 1회
+ * - version: CSCA/Link/CRL fingerprint 전체의 해시. DSC별 Trust Chain 판정 캐시는 version이 같은 갱신 다운로드 사이에서만
+ *   이어받으므로 새 CSCA/CRL 집합이 도착하면 해당 국가의 판정은 모두 무효화됨
+ */
+@Slf4j
+final class ParsedTrustMaterials {
+
+    /**
+     * CRL 폐기 색인
+     * @param issuerDn Trust Materials 응답의 발급자 DN (결과 표시용)
+     * @param issuer CRL 발급자 (DSC 발급자 DN과 비교)
+     * @param revokedSerials 폐기된 인증서 일련번호
+     * @param nextUpdate 다음 갱신 예정 시각 (epoch ms, 없으면 0)
+     */
+    record RevocationList(String issuerDn, X500Principal issuer, Set<BigInteger> revokedSerials, long nextUpdate) {
+
+        static RevocationList from(String issuerDn, X509CRL crl) {
+            Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+            Set<BigInteger> serials;
+            if (entries == null || entries.isEmpty()) {
+                serials = Set.of();
+            } else {
+                serials = new HashSet<>((int) (entries.size() / 0.75f) + 1);
+                for (X509CRLEntry entry : entries) {
+                    serials.add(entry.getSerialNumber());
+                }
+                serials = Collections.unmodifiableSet(serials);
+            }
+            return new RevocationList(issuerDn, crl.getIssuerX500Principal(), serials,
+                crl.getNextUpdate() != null ? crl.getNextUpdate().getTime() : 0);
+        }
+
+        /** 이 목록의 재사용 (응답의 발급자 DN만 갱신) */
+        RevocationList withIssuerDn(String issuerDn) {
+            return new RevocationList(issuerDn, issuer, revokedSerials, nextUpdate);
+        }
+
+        boolean isRevoked(BigInteger serial) {
+            return revokedSerials.contains(serial);
+        }
+
+        /** nextUpdate가 지나 새 CRL이 발행되었을 수 있음 */
+        boolean isStale(long now) {
+            return nextUpdate > 0 && now > nextUpdate;
+        }
+    }
+
+    /**
+     * DSC Trust Chain 판정
+     * @param csca 체인 끝 CSCA (null이면 체인 없음)
+     * @param links 거친 Link Certificate 수
+     * @param validUntil 판정 유효 시각 (체인 인증서 notAfter 중 가장 이른 시각, epoch ms)
+     */
+    record ChainVerdict(X509Certificate csca, int links, long validUntil) {
+        boolean isValidAt(long now) {
+            return now <= validUntil;
+        }
+    }
+
+    // 국가별 DSC 수는 적으므로 상한을 넘으면 더 저장하지 않음
+    private static final int MAX_VERDICTS = 1024;
+
+    /**
+     * 발급자 색인. 색인 키가 하나도 일치하지 않으면 전체 목록을 후보로 반환 (SKI/AKI 누락, DN 인코딩 차이 대비)
+     */
+    private static final class IssuerIndex {
+        private final Collection<X509Certificate> all;
+        private final Map<String, List<X509Certificate>> byKeyId = new HashMap<>();
+        private final Map<X500Principal, List<X509Certificate>> bySubject = new HashMap<>();
+
+        IssuerIndex(Collection<X509Certificate> certs) {
+            this.all = certs;
+            for (X509Certificate cert : certs) {
+                String keyId = subjectKeyId(cert);
+                if (keyId != null) {
+                    byKeyId.computeIfAbsent(keyId, k -> new ArrayList<>(1)).add(cert);
+                }
+                bySubject.computeIfAbsent(cert.getSubjectX500Principal(), k -> new ArrayList<>(1)).add(cert);
+            }
+        }
+
+        Collection<X509Certificate> candidates(X509Certificate cert) {
+            String authorityKeyId = authorityKeyId(cert);
+            if (authorityKeyId != null) {
+                List<X509Certificate> byKey = byKeyId.get(authorityKeyId);
+                if (byKey != null) {
+                    return byKey;
+                }
+            }
+            List<X509Certificate> byDn = bySubject.get(cert.getIssuerX500Principal());
+            return byDn != null ? byDn : all;
+        }
+    }
+
+    private final String countryCode;
+    private final Map<String, X509Certificate> cscas;
+    private final Map<String, X509Certificate> linkCertificates;
+    private final Map<String, RevocationList> crls;
+    private final Map<X500Principal, List<RevocationList>> crlsByIssuer = new HashMap<>();
+    private final IssuerIndex cscaIndex;
+    private final IssuerIndex linkIndex;
+    private final String version;
+    private final ConcurrentHashMap<String, ChainVerdict> verdicts;
+    private final int parsedCount;
+    private final int reusedCount;
+
+    private ParsedTrustMaterials(String countryCode, Map<String, X509Certificate> cscas,
+                                 Map<String, X509Certificate> linkCertificates, Map<String, RevocationList> crls,
+                                 int parsedCount, int reusedCount, ParsedTrustMaterials previous) {
+        this.countryCode = countryCode;
+        this.cscas = cscas;
+        this.linkCertificates = linkCertificates;
+        this.crls = crls;
+        this.cscaIndex = new IssuerIndex(cscas.values());
+        this.linkIndex = new IssuerIndex(linkCertificates.values());
+        for (RevocationList crl : crls.values()) {
+            crlsByIssuer.computeIfAbsent(crl.issuer(), k -> new ArrayList<>(1)).add(crl);
+        }
+        this.version = contentVersion(cscas.keySet(), linkCertificates.keySet(), crls.keySet());
+        if (previous != null && previous.version.equals(version)) {
+            this.verdicts = previous.verdicts;
+        } else {
+            this.verdicts = new ConcurrentHashMap<>();
+            if (previous != null && !previous.verdicts.isEmpty()) {
+                log.info("Trust Materials changed for country={}, dropping {} cached trust chain verdicts",
+                    countryCode, previous.verdicts.size());
+            }
+        }
+        this.parsedCount = parsedCount;
+        this.reusedCount = reusedCount;
+    }
+
+    /**
+     * 다운로드한 Trust Materials 파싱
+     * @param previous 같은 국가의 이전 집합 (없으면 null) - 같은 fingerprint 항목은 재사용
+     */
+    static ParsedTrustMaterials build(String countryCode, TrustMaterialsResponse.TrustMaterialsData data,
+                                      ParsedTrustMaterials previous, CertificateFactory cf) {
+        int[] counts = new int[2]; // [parsed, reused]
+        Map<String, X509Certificate> cscas = new LinkedHashMap<>();
+        Map<String, X509Certificate> links = new LinkedHashMap<>();
+        Map<String, RevocationList> crls = new LinkedHashMap<>();
+
+        if (data.csca() != null) {
+            for (var entry : data.csca()) {
+                putCertificate(cscas, entry.derBase64(), entry.subjectDn(),
+                    previous != null ? previous.cscas::get : fp -> null, cf, counts);
+            }
+        }
+        if (data.linkCert() != null) {
+            for (var entry : data.linkCert()) {
+                putCertificate(links, entry.derBase64(), entry.subjectDn(),
+                    previous != null ? previous.linkCertificates::get : fp -> null, cf, counts);
+            }
+        }
+        if (data.crl() != null) {
+            for (var entry : data.crl()) {
+                try {
+                    byte[] der = Base64.getDecoder().decode(entry.derBase64());
+                    String fingerprint = fingerprint(der);
+                    RevocationList reused = previous != null ? previous.crls.get(fingerprint) : null;
+                    if (reused != null) {
+                        crls.put(fingerprint, reused.withIssuerDn(entry.issuerDn()));
+                        counts[1]++;
+                    } else {
+                        X509CRL crl = (X509CRL) cf.generateCRL(new ByteArrayInputStream(der));
+                        crls.put(fingerprint, RevocationList.from(entry.issuerDn(), crl));
+                        counts[0]++;
+                    }
+                } catch (Exception e) {
+                    log.debug("CRL parsing failed for {}: {}", entry.issuerDn(), e.getMessage());
+                }
+            }
+        }
+
+        ParsedTrustMaterials parsed = new ParsedTrustMaterials(countryCode,
+            Collections.unmodifiableMap(cscas), Collections.unmodifiableMap(links), Collections.unmodifiableMap(crls),
+            counts[0], counts[1], previous);
+        log.debug("Trust Materials parsed for country={}: csca={}, link={}, crl={} ({} parsed, {} reused), version={}",
+            countryCode, cscas.size(), links.size(), crls.size(), counts[0], counts[1], parsed.version);
+        return parsed;
+    }
+
+    private static void putCertificate(Map<String, X509Certificate> target, String derBase64, String subjectDn,
+                                       Function<String, X509Certificate> previous, CertificateFactory cf, int[] counts) {
+        try {
+            byte[] der = Base64.getDecoder().decode(derBase64);
+            String fingerprint = fingerprint(der);
+            X509Certificate cert = previous.apply(fingerprint);
+            if (cert != null) {
+                counts[1]++;
+            } else {
+                cert = (X509Certificate) cf.generateCertificate(new ByteArrayInputStream(der));
+                counts[0]++;
+            }
+            target.put(fingerprint, cert);
+        } catch (Exception e) {
+            log.debug("Certificate parsing failed for {}: {}", subjectDn, e.getMessage());
+        }
+    }
+
+    static String fingerprint(byte[] der) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(der));
+    }
+
+    /**
+     * 종류별 fingerprint를 정렬하여 해시 (응답 내 순서와 무관)
+     */
+    private static String contentVersion(Set<String> cscas, Set<String> links, Set<String> crls) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (var section : List.of(Map.entry("csca", cscas), Map.entry("link", links), Map.entry("crl", crls))) {
+                for (String fingerprint : new TreeSet<>(section.getValue())) {
+                    digest.update((section.getKey() + ":" + fingerprint + "\n").getBytes(StandardCharsets.US_ASCII));
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * SubjectKeyIdentifier (hex, 없으면 null)
+     */
+    static String subjectKeyId(X509Certificate cert) {
+        byte[] ext = cert.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+        if (ext == null) {
+            return null;
+        }
+        try {
+            return HexFormat.of().formatHex(
+                SubjectKeyIdentifier.getInstance(ASN1OctetString.getInstance(ext).getOctets()).getKeyIdentifier());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * AuthorityKeyIdentifier의 keyIdentifier (hex, 없으면 null)
+     */
+    static String authorityKeyId(X509Certificate cert) {
+        byte[] ext = cert.getExtensionValue(Extension.authorityKeyIdentifier.getId());
+        if (ext == null) {
+            return null;
+        }
+        try {
+            byte[] keyId = AuthorityKeyIdentifier.getInstance(ASN1OctetString.getInstance(ext).getOctets())
+                .getKeyIdentifier();
+            return keyId != null ? HexFormat.of().formatHex(keyId) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 인증서를 발급했을 수 있는 CSCA
+     */
+    Collection<X509Certificate> cscaCandidates(X509Certificate cert) {
+        return cscaIndex.candidates(cert);
+    }
+
+    /**
+     * 인증서를 발급했을 수 있는 Link Certificate
+     */
+    Collection<X509Certificate> linkCandidates(X509Certificate cert) {
+        return linkIndex.candidates(cert);
+    }
+
+    /**
+     * Trust Materials 내용 버전 (CSCA/Link/CRL 집합이 같으면 같은 값)
+     */
+    String version() {
+        return version;
+    }
+
+    /**
+     * 캐시된 Trust Chain 판정 (없거나 유효 시각이 지났으면 null)
+     */
+    ChainVerdict cachedVerdict(String dscFingerprint, long now) {
+        ChainVerdict verdict = verdicts.get(dscFingerprint);
+        if (verdict != null && !verdict.isValidAt(now)) {
+            verdicts.remove(dscFingerprint, verdict);
+            return null;
+        }
+        return verdict;
+    }
+
+    void cacheVerdict(String dscFingerprint, ChainVerdict verdict) {
+        if (verdicts.size() < MAX_VERDICTS) {
+            verdicts.put(dscFingerprint, verdict);
+        }
+    }
+
+    String countryCode() {
+        return countryCode;
+    }
+
+    Collection<X509Certificate> cscas() {
+        return cscas.values();
+    }
+
+    Collection<X509Certificate> linkCertificates() {
+        return linkCertificates.values();
+    }
+
+    Collection<RevocationList> crls() {
+        return crls.values();
+    }
+
+    /**
+     * 인증서 발급자의 CRL (발급자 DN이 일치하는 CRL이 없으면 빈 목록).
+     * 일련번호는 발급자 안에서만 고유하므로 다른 발급자의 CRL로는 판정하지 않음
+     */
+    Collection<RevocationList> revocationLists(X509Certificate cert) {
+        return crlsByIssuer.getOrDefault(cert.getIssuerX500Principal(), List.of());
+    }
+
+    int parsedCount() {
+        return parsedCount;
+    }
+
+    int reusedCount() {
+        return reusedCount;
+    }
+}
@@ -0,0 +1,242 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.smartcoreinc.fphps.dto.DocumentReadResponse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 결과 저장소.
+ * 전역 lastReadResponse 하나를 모든 브라우저가 공유하던 방식 대신, 읽기마다 readId를 발급하고
+ * 결과를 readId와 클라이언트(HTTP 세션)별로 보관하여 검증/내보내기가 시작한 문서를 정확히 참조하도록 함.
+ *
+ * - 읽기 시작 전에 reserve()로 readId를 발급, 읽기 완료 시 complete()로 결과 저장, 결과 없이 끝나면 release()로 제거
+ * - 클라이언트별 최근 결과는 readId 없이 조회 가능 (clientId가 null인 읽기는 readId로만 조회)
+ * - 읽은 판독기를 함께 보관하여 검증 결과를 판독기별 토픽으로 발행
+ * - 완료된 결과가 read-results.max-entries를 넘으면 오래 전에 완료된 것부터 제거 (진행 중인 읽기는 개수에 포함/제거하지 않음),
+ *   예약 또는 완료 후 read-results.max-age-minutes 경과 시 진행 중인 읽기도 제거
+ * - 클라이언트가 없는 읽기(연속 읽기 레인 등)는 저장하지 않음 (FPHPSService가 저장소 밖에서 readId 발급)
+ */
+@Slf4j
+@Service
+public class ReadResultStore {
+
+    /**
+     * 조회한 읽기 결과
+     * @param deviceId 읽은 판독기 시리얼 (알 수 없으면 null)
+     */
+    public record StoredRead(String readId, String deviceId, DocumentReadResponse response) {}
+
+    /**
+     * 읽기 1건
+     * @param response 읽기 결과 (읽기 진행 중이면 null)
+     */
+    private static final class Entry {
+        private final String readId;
+        private final String clientId;
+        // 예약 또는 결과 저장 시각
+        private long updatedAt;
+        private volatile String deviceId;
+        private volatile DocumentReadResponse response;
+
+        private Entry(String readId, String clientId) {
+            this.readId = readId;
+            this.clientId = clientId;
+            this.updatedAt = System.currentTimeMillis();
+        }
+    }
+
+    @Value("${read-results.max-entries:32}")
+    private int maxEntries;
+
+    @Value("${read-results.max-age-minutes:30}")
+    private long maxAgeMinutes;
+
+    // readId → 항목 (updatedAt 순 = 오래된 순)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    // clientId → 가장 최근에 완료된 readId
+    private final Map<String, String> latestByClient = new HashMap<>();
+
+    public ReadResultStore(MeterRegistry meterRegistry) {
+        Gauge.builder("fphps.read-results.stored", this, ReadResultStore::size)
+            .description("Document read results currently held for verification and export")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 읽기 시작 전 readId 발급
+     * @param clientId 읽기를 요청한 클라이언트 (HTTP 세션 ID, 없으면 null)
+     */
+    public synchronized String reserve(String clientId) {
+        String readId = UUID.randomUUID().toString();
+        entries.put(readId, new Entry(readId, clientId));
+        evict();
+        return readId;
+    }
+
+    /**
+     * 읽기 결과 저장. 발급하지 않았거나 이미 제거된 readId이면 저장하지 않음
+     * @return 저장했으면 true
+     */
+    public synchronized boolean complete(String readId, DocumentReadResponse response) {
+        return complete(readId, response, null);
+    }
+
+    /**
+     * 읽기 결과 저장 (읽은 판독기 포함, 이미 저장된 결과에 판독기만 추가할 때도 사용)
+     * @param deviceId 읽은 판독기 시리얼 (null이면 기존 값 유지)
+     * @return 저장했으면 true (저장소에서 발급하지 않은 readId이거나 만료로 제거되었으면 false)
+     */
+    public synchronized boolean complete(String readId, DocumentReadResponse response, String deviceId) {
+        if (readId == null || response == null) {
+            return false;
+        }
+        Entry entry = entries.get(readId);
+        if (entry == null) {
+            // 소유 클라이언트를 알 수 없는 항목을 새로 만들지 않음 (저장하지 않는 읽기, 만료로 제거된 읽기의 늦은 완료)
+            log.debug("Read result for unknown readId {} discarded", readId);
+            return false;
+        }
+        if (entry.response == null) {
+            // 결과를 받은 항목은 맨 뒤로 옮겨 오래 진행된 읽기의 결과가 저장 직후 상한으로 제거되지 않도록 함
+            entries.remove(readId);
+            entry.updatedAt = System.currentTimeMillis();
+            entries.put(readId, entry);
+        }
+        entry.response = response;
+        if (deviceId != null) {
+            entry.deviceId = deviceId;
+        }
+        if (entry.clientId != null) {
+            latestByClient.put(entry.clientId, readId);
+        }
+        evict();
+        log.debug("Read result stored: readId={}, client={}, {} result(s) held", readId, entry.clientId, entries.size());
+        return true;
+    }
+
+    /**
+     * 결과 없이 끝난 읽기의 예약 제거 (실패, 문서 없이 끝난 Auto Read). 이미 결과가 저장된 읽기는 유지
+     */
+    public synchronized void release(String readId) {
+        Entry entry = readId != null ? entries.get(readId) : null;
+        if (entry != null && entry.response == null) {
+            entries.remove(readId);
+        }
+    }
+
+    /**
+     * readId를 발급받은 클라이언트 조회
+     * @return 클라이언트 (HTTP 세션 ID, 없거나 제거된 readId이면 null)
+     */
+    public synchronized String clientOf(String readId) {
+        Entry entry = readId != null ? entries.get(readId) : null;
+        return entry != null ? entry.clientId : null;
+    }
+
+    /**
+     * readId로 결과 조회
+     * @return 결과 (없거나 만료되었거나 아직 읽는 중이면 null)
+     */
+    public synchronized DocumentReadResponse get(String readId) {
+        if (readId == null) {
+            return null;
+        }
+        evict();
+        Entry entry = entries.get(readId);
+        return entry != null ? entry.response : null;
+    }
+
+    /**
+     * 검증/내보내기 대상 결과 조회
+     * @param readId 지정한 읽기 (null/빈 값이면 클라이언트의 최근 결과)
+     * @param clientId 요청한 클라이언트 (HTTP 세션 ID)
+     */
+    public synchronized DocumentReadResponse find(String readId, String clientId) {
+        StoredRead read = findRead(readId, clientId);
+        return read != null ? read.response() : null;
+    }
+
+    /**
+     * 검증/내보내기 대상 결과와 readId/판독기 조회
+     * @return 결과 (없거나 만료되었거나 아직 읽는 중이면 null)
+     */
+    public synchronized StoredRead findRead(String readId, String clientId) {
+        String target = readId != null && !readId.isBlank() ? readId.trim() : null;
+        if (target == null) {
+            if (clientId == null) {
+                return null;
+            }
+            evict();
+            target = latestByClient.get(clientId);
+            if (target == null) {
+                return null;
+            }
+        }
+        evict();
+        Entry entry = entries.get(target);
+        if (entry == null || entry.response == null) {
+            return null;
+        }
+        return new StoredRead(entry.readId, entry.deviceId, entry.response);
+    }
+
+    /**
+     * 클라이언트의 최근 결과 참조 제거 (readId로 조회하는 결과는 유지)
+     */
+    public synchronized void clearClient(String clientId) {
+        if (clientId != null) {
+            latestByClient.remove(clientId);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료 항목과 상한 초과 항목 제거 (호출자가 동기화).
+     * 상한 초과분은 완료된 항목에서만 제거하여 진행 중인 읽기의 readId가 완료 전에 사라지지 않도록 함
+     */
+    private void evict() {
+        long expireBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(maxAgeMinutes);
+        // 상한은 완료된 결과에만 적용 (진행 중인 읽기 수는 판독기 대기열이 제한)
+        int completed = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.response != null) {
+                completed++;
+            }
+        }
+        int excess = completed - Math.max(1, maxEntries);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            boolean expired = entry.updatedAt < expireBefore;
+            if (excess <= 0 && !expired) {
+                // updatedAt 순이므로 이후 항목은 더 최근
+                break;
+            }
+            if (!expired && entry.response == null) {
+                continue; // 진행 중인 읽기
+            }
+            iterator.remove();
+            if (entry.response != null) {
+                excess--;
+            }
+            if (entry.clientId != null) {
+                latestByClient.remove(entry.clientId, entry.readId);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse;
+import com.smartcoreinc.fphps.example.fphps_web_example.entity.TrustMaterialsSnapshot;
+import com.smartcoreinc.fphps.example.fphps_web_example.repository.TrustMaterialsSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.cert.CertificateFactory;
+import java.time.Instant;
+
+/**
+ * 국가별 Trust Materials의 SQLite 저장/복원.
+ *
+ * - 저장: requestId를 뺀 응답 data(JSON)와 내용 버전, 받은 시각, 최대 보관 시각. 더 최근 다운로드가 이미 저장되어 있으면 덮어쓰지 않음
+ * - 복원: 최대 보관 시각이 지났거나, 다시 파싱한 내용 버전이 저장된 버전과 다르면 사용하지 않음
+ * - 저장소 오류는 로그만 남김 (저장소 없이도 검증은 계속)
+ */
+@Slf4j
+final class TrustMaterialsStore {
+
+    /**
+     * 복원한 Trust Materials
+     * @param downloadedAt PKD 서버에서 받은 시각 (epoch ms)
+     * @param expiresAt 서버 장애 시에도 사용하지 않는 시각 (epoch ms)
+     */
+    record Restored(TrustMaterialsResponse.TrustMaterialsData data, ParsedTrustMaterials parsed,
+                    long downloadedAt, long expiresAt) {}
+
+    private final TrustMaterialsSnapshotRepository repository;
+    private final ObjectMapper objectMapper;
+
+    TrustMaterialsStore(TrustMaterialsSnapshotRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 저장된 Trust Materials 복원
+     * @return 복원 결과 (없거나 만료되었거나 내용이 버전과 다르면 null)
+     */
+    Restored load(String countryCode, CertificateFactory cf, long now) {
+        try {
+            TrustMaterialsSnapshot snapshot = repository.findByCountryCode(countryCode).orElse(null);
+            if (snapshot == null) {
+                return null;
+            }
+            if (now > snapshot.getExpiresAt()) {
+                log.info("Stored Trust Materials for country={} expired at {}, ignoring",
+                    countryCode, Instant.ofEpochMilli(snapshot.getExpiresAt()));
+                return null;
+            }
+            var data = objectMapper.readValue(snapshot.getPayload(), TrustMaterialsResponse.TrustMaterialsData.class);
+            ParsedTrustMaterials parsed = ParsedTrustMaterials.build(countryCode, data, null, cf);
+            if (!parsed.version().equals(snapshot.getVersion())) {
+                log.warn("Stored Trust Materials for country={} do not match their version ({} != {}), ignoring",
+                    countryCode, parsed.version(), snapshot.getVersion());
+                return null;
+            }
+            return new Restored(data, parsed, snapshot.getDownloadedAt(), snapshot.getExpiresAt());
+        } catch (Exception e) {
+            log.warn("Failed to restore stored Trust Materials for country={}: {}", countryCode, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Trust Materials 저장
+     * @param version ParsedTrustMaterials 내용 버전
+     * @param maxAgeMillis 받은 시각부터 사용할 수 있는 최대 기간
+     */
+    void save(String countryCode, TrustMaterialsResponse.TrustMaterialsData data, String version,
+              long downloadedAt, long maxAgeMillis) {
+        try {
+            TrustMaterialsSnapshot snapshot = repository.findByCountryCode(countryCode)
+                .orElseGet(() -> TrustMaterialsSnapshot.builder().countryCode(countryCode).build());
+            if (snapshot.getDownloadedAt() > downloadedAt) {
+                return; // 더 최근 다운로드가 이미 저장됨
+            }
+            // requestId는 요청마다 새로 발급되므로 저장하지 않음
+            var stored = new TrustMaterialsResponse.TrustMaterialsData(
+                null, data.countryCode(), data.csca(), data.linkCertificates(),
+                data.crl(), data.processingTimeMs(), data.timestamp());
+            snapshot.setVersion(version);
+            snapshot.setPayload(objectMapper.writeValueAsString(stored));
+            snapshot.setDownloadedAt(downloadedAt);
+            snapshot.setExpiresAt(downloadedAt + maxAgeMillis);
+            repository.save(snapshot);
+            log.debug("Trust Materials stored: country={}, version={}", countryCode, version);
+        } catch (Exception e) {
+            log.warn("Failed to store Trust Materials for country={}: {}", countryCode, e.getMessage());
+        }
+    }
+}
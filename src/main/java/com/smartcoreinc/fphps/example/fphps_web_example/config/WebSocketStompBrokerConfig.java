@@ -19,6 +19,10 @@ public class WebSocketStompBrokerConfig implements WebSocketMessageBrokerConfigu
         // 발행(pub) : 접두사로 시작하는 메시지는 @MessageMapping이 달린 메서드로 라우팅됩니다. 클라이언트가 서버로 메시지를 보낼 때 이 접두사를 사용합니다.
         // 예를 들어, 소켓 통신에서 사용자가 특정 메시지를 전송하기 위해 "/pub"라는 prefix 기반 메시지 전송을 위해 Publish 합니다.
         registry.setApplicationDestinationPrefixes("/pub");
+
+        // 판독기/lane 토픽(DeviceTopicPublisher)의 이벤트 순서 유지 : 세션별 전송 스레드 풀에서 메시지 순서가 바뀌지 않도록 합니다.
+        // 브로커는 /sub/devices/{deviceId}/..., /sub/lanes/{deviceId}/... 토픽 단위이므로 다중 노드 구성 시 enableStompBrokerRelay로 교체할 수 있습니다.
+        registry.setPreservePublishOrder(true);
     }
 
     /**
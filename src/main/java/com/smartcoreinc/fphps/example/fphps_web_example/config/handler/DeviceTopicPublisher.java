@@ -0,0 +1,124 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 브로커(/sub) 판독기/연속 읽기 lane별 토픽 발행.
+ * 원시 WebSocket(/fastpass)은 모든 이벤트를 모든 세션에 보내지만, STOMP 클라이언트(SockJS /fastpass)는
+ * 필요한 판독기/lane 토픽만 구독하여 해당 트래픽만 받음.
+ *
+ * - /sub/devices/{deviceId}/events: 판독기 이벤트와 해당 판독기의 서버 이벤트 (대기열 위치, DG 스트리밍)
+ * - /sub/devices/{deviceId}/results: 읽기 완료 요약 (readId로 검증/내보내기 API 조회)
+ * - /sub/devices/{deviceId}/verifications: PA/얼굴 검증 결과
+ * - /sub/lanes/{deviceId}/results, /sub/lanes/{deviceId}/status: 연속 읽기 결과/상태
+ * - 목적지는 판독기/lane 단위이므로 다중 노드 구성 시 simple broker 대신 broker relay로 바꿔도 그대로 사용 가능
+ * - 연결된 STOMP 세션이 없으면 직렬화/발행하지 않음
+ */
+@Slf4j
+@Component
+public class DeviceTopicPublisher {
+
+    private static final String DEVICE_PREFIX = "/sub/devices/";
+    private static final String LANE_PREFIX = "/sub/lanes/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    // 연결된 STOMP 세션 ID (같은 세션의 종료 이벤트가 여러 번 와도 한 번만 제거됨)
+    private final Set<String> stompSessions = ConcurrentHashMap.newKeySet();
+
+    public DeviceTopicPublisher(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    public static String deviceEvents(String deviceId) {
+        return DEVICE_PREFIX + deviceId + "/events";
+    }
+
+    public static String deviceResults(String deviceId) {
+        return DEVICE_PREFIX + deviceId + "/results";
+    }
+
+    public static String deviceVerifications(String deviceId) {
+        return DEVICE_PREFIX + deviceId + "/verifications";
+    }
+
+    public static String laneResults(String deviceId) {
+        return LANE_PREFIX + deviceId + "/results";
+    }
+
+    public static String laneStatus(String deviceId) {
+        return LANE_PREFIX + deviceId + "/status";
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            stompSessions.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        stompSessions.remove(event.getSessionId());
+    }
+
+    /**
+     * 발행할 STOMP 세션이 있는지 (없으면 호출자가 직렬화를 생략)
+     */
+    public boolean hasSubscribers() {
+        return !stompSessions.isEmpty();
+    }
+
+    /**
+     * 이미 직렬화한 JSON 발행 (원시 WebSocket과 같은 텍스트 프레임 내용)
+     */
+    public void publishJson(String topic, byte[] json) {
+        if (topic == null || !hasSubscribers()) {
+            return;
+        }
+        try {
+            // 변환기를 거치지 않고 그대로 전송 (byte[]는 변환기가 base64 JSON 문자열로 바꿈)
+            messagingTemplate.send(topic, MessageBuilder.createMessage(json, jsonHeaders()));
+        } catch (Exception e) {
+            log.warn("Failed to publish to {}: {}", topic, e.getMessage());
+        }
+    }
+
+    /**
+     * JSON content-type 메시지 헤더. application/octet-stream이면 STOMP가 바이너리 프레임으로 보내는데 SockJS는 텍스트 프레임만 지원
+     */
+    private static MessageHeaders jsonHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 객체를 JSON으로 변환하여 발행 (HTTP 응답과 같은 Jackson 직렬화)
+     */
+    public void publish(String topic, Object payload) {
+        if (topic == null || !hasSubscribers()) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(topic, payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish to {}: {}", topic, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.smartcoreinc.fphps.dto.EventMessageData;
+
+/**
+ * 이벤트 1건의 전송 프레임.
+ * 이미지/칩 데이터 같은 큰 바이트 필드(첨부)를 JSON 헤더에서 분리해 두고 세션 형식에 맞게 프레임을 만듦.
+ *
+ * - 텍스트 형식(기존): 첨부를 원래 표현(이미지/서버 이벤트는 base64 문자열, 칩 데이터는 숫자 배열)으로 원래 위치에 넣은 JSON TextMessage 1개
+ * - 바이너리 형식(fastpass.binary 하위 프로토콜): binaryAttachments 목록을 담은 JSON 헤더 TextMessage 다음에
+ *   첨부마다 원본 바이트 BinaryMessage (목록 순서)
+ * - 형식별 프레임은 처음 필요할 때 한 번만 만들고 모든 세션이 공유 (핸들러의 전송 잠금 안에서만 호출)
+ * - 재연결 재전송을 위해 헤더에 스트림 순번(streamSeq) 포함 (EventLog, DG 스트리밍의 읽기별 seq와 별개)
+ * - 진행 이벤트(합치기 대상) 여부를 함께 보관하여 송신 버퍼가 가득 찼을 때 버릴 수 있는 이벤트만 버림 (SessionOutbound)
+ */
+final class EventFrames {
+
+    /**
+     * 첨부 1개. 벤더 이미지는 base64 문자열, 서버 이벤트와 칩 데이터는 바이트 배열로 들어오므로 필요한 형식만 변환
+     * @param path JSON 내 위치 (예: image.imageData, dgDataMap.2)
+     * @param numericText 텍스트 형식에서 base64 대신 Gson 기본 표현(숫자 배열)으로 넣을지 (벤더 DTO의 byte[] 필드)
+     */
+    static final class Attachment {
+        private final String path;
+        private final boolean numericText;
+        private String base64;
+        private byte[] bytes;
+
+        private Attachment(String path, String base64, byte[] bytes, boolean numericText) {
+            this.path = path;
+            this.base64 = base64;
+            this.bytes = bytes;
+            this.numericText = numericText;
+        }
+
+        static Attachment ofBase64(String path, String base64) {
+            return new Attachment(path, base64, null, false);
+        }
+
+        static Attachment ofBytes(String path, byte[] bytes) {
+            return new Attachment(path, null, bytes, false);
+        }
+
+        static Attachment ofByteArrayField(String path, byte[] bytes) {
+            return new Attachment(path, null, bytes, true);
+        }
+
+        String base64() {
+            if (base64 == null) {
+                base64 = Base64.getEncoder().encodeToString(bytes);
+            }
+            return base64;
+        }
+
+        byte[] bytes() {
+            if (bytes == null) {
+                bytes = Base64.getMimeDecoder().decode(base64);
+            }
+            return bytes;
+        }
+    }
+
+    private final Gson gson;
+    private final JsonObject header;
+    private final List<Attachment> attachments;
+    private TextMessage textFrame;
+    private List<WebSocketMessage<?>> binaryFrames;
+    private volatile boolean progress;
+
+    private EventFrames(Gson gson, JsonObject header, List<Attachment> attachments) {
+        this.gson = gson;
+        this.header = header;
+        this.attachments = attachments;
+    }
+
+    /**
+     * 판독기 이벤트: image.imageData(base64), sodDataBytes, dgDataMap.{DG 번호}를 첨부로 분리.
+     * 칩 데이터는 JSON 트리(숫자 배열)로 만들지 않고 바이트 배열 그대로 첨부하며, 텍스트 형식 프레임에서만 원래 표현으로 넣음
+     * @param message 호출자가 소유한 이벤트 복사본 (칩 데이터 필드를 비운 뒤 직렬화)
+     */
+    static EventFrames ofDeviceEvent(Gson gson, EventMessageData message) {
+        List<Attachment> attachments = new ArrayList<>();
+        byte[] sod = message.getSodDataBytes();
+        if (sod != null) {
+            attachments.add(Attachment.ofByteArrayField("sodDataBytes", sod));
+            message.setSodDataBytes(null);
+        }
+        Map<Integer, byte[]> dataGroups = message.getDgDataMap();
+        if (dataGroups != null && !dataGroups.isEmpty()) {
+            new TreeMap<>(dataGroups).forEach((dg, bytes) -> {
+                if (dg != null && bytes != null) {
+                    attachments.add(Attachment.ofByteArrayField("dgDataMap." + dg, bytes));
+                }
+            });
+            message.setDgDataMap(null);
+        }
+        JsonObject json = gson.toJsonTree(message).getAsJsonObject();
+        JsonElement image = json.get("image");
+        if (image != null && image.isJsonObject()) {
+            JsonElement imageData = image.getAsJsonObject().remove("imageData");
+            if (imageData != null && imageData.isJsonPrimitive()) {
+                attachments.add(Attachment.ofBase64("image.imageData", imageData.getAsString()));
+            }
+        }
+        return new EventFrames(gson, json, attachments);
+    }
+
+    /**
+     * 서버 이벤트: 값이 byte[]인 최상위 필드를 첨부로 분리
+     */
+    static EventFrames ofServerEvent(Gson gson, String eventCodeString, Map<String, Object> payload) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        List<Attachment> attachments = new ArrayList<>();
+        payload.forEach((key, value) -> {
+            if (value instanceof byte[] bytes) {
+                attachments.add(Attachment.ofBytes(key, bytes));
+            } else {
+                fields.put(key, value);
+            }
+        });
+        JsonObject json = gson.toJsonTree(fields).getAsJsonObject();
+        json.addProperty("eventCodeString", eventCodeString);
+        return new EventFrames(gson, json, attachments);
+    }
+
+    /**
+     * 뒤에 오는 같은 종류의 이벤트로 대체되는 진행 이벤트로 표시 (송신 버퍼가 가득 차면 버릴 수 있음)
+     */
+    void markProgress() {
+        progress = true;
+    }
+
+    boolean isProgress() {
+        return progress;
+    }
+
+    /**
+     * 순번 설정. 프레임을 만들기 전에 호출
+     */
+    void sequence(long seq) {
+        header.addProperty("streamSeq", seq);
+    }
+
+    /**
+     * 첨부 크기 합 (재전송 버퍼 크기 제한용, base64 첨부는 근사값)
+     */
+    long attachmentBytes() {
+        long total = 0;
+        for (Attachment attachment : attachments) {
+            total += attachment.bytes != null ? attachment.bytes.length : attachment.base64.length() * 3L / 4;
+        }
+        return total;
+    }
+
+    /**
+     * 기존 형식 프레임 (첨부를 원래 표현으로 포함)
+     */
+    TextMessage textFrame() {
+        if (textFrame == null) {
+            JsonObject json = attachments.isEmpty() ? header : header.deepCopy();
+            for (Attachment attachment : attachments) {
+                put(json, attachment.path, attachment.numericText
+                    ? gson.toJsonTree(attachment.bytes)
+                    : new JsonPrimitive(attachment.base64()));
+            }
+            textFrame = new TextMessage(gson.toJson(json));
+        }
+        return textFrame;
+    }
+
+    /**
+     * 바이너리 형식 프레임 (JSON 헤더 + 첨부별 BinaryMessage)
+     */
+    List<WebSocketMessage<?>> binaryFrames() {
+        if (binaryFrames == null) {
+            if (attachments.isEmpty()) {
+                binaryFrames = List.of(textFrame());
+                return binaryFrames;
+            }
+            JsonObject json = header.deepCopy();
+            JsonArray descriptors = new JsonArray();
+            List<WebSocketMessage<?>> frames = new ArrayList<>(attachments.size() + 1);
+            frames.add(null);
+            for (Attachment attachment : attachments) {
+                byte[] bytes = attachment.bytes();
+                JsonObject descriptor = new JsonObject();
+                descriptor.addProperty("field", attachment.path);
+                descriptor.addProperty("length", bytes.length);
+                descriptor.addProperty("mimeType", mimeType(bytes));
+                descriptors.add(descriptor);
+                frames.add(new BinaryMessage(bytes));
+            }
+            json.add("binaryAttachments", descriptors);
+            frames.set(0, new TextMessage(gson.toJson(json)));
+            binaryFrames = List.copyOf(frames);
+        }
+        return binaryFrames;
+    }
+
+    /**
+     * 점(.)으로 구분한 위치에 값 설정 (중간 객체가 없으면 생성)
+     */
+    private static void put(JsonObject json, String path, JsonElement value) {
+        String[] names = path.split("\\.");
+        JsonObject target = json;
+        for (int i = 0; i < names.length - 1; i++) {
+            JsonElement child = target.get(names[i]);
+            if (child == null || !child.isJsonObject()) {
+                child = new JsonObject();
+                target.add(names[i], child);
+            }
+            target = child.getAsJsonObject();
+        }
+        target.add(names[names.length - 1], value);
+    }
+
+    private static String mimeType(byte[] bytes) {
+        if (bytes.length >= 4 && (bytes[0] & 0xFF) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return "image/png";
+        }
+        if (bytes.length >= 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8) {
+            return "image/jpeg";
+        }
+        if (bytes.length >= 2 && bytes[0] == 'B' && bytes[1] == 'M') {
+            return "image/bmp";
+        }
+        return "application/octet-stream";
+    }
+}
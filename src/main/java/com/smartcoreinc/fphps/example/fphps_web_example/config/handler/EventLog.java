@@ -0,0 +1,93 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 전송한 이벤트 기록 (재연결 시 놓친 이벤트 재전송용).
+ * 이벤트마다 단조 증가하는 순번(streamSeq)을 붙이고 최근 이벤트를 고정 크기 링 버퍼에 보관함.
+ *
+ * - 이벤트 수가 maxEvents, 첨부 크기 합이 maxBytes를 넘으면 오래된 이벤트부터 제거
+ * - streamId는 서버 시작마다 새로 발급 (재시작 전 순번으로 재개 요청 시 구분)
+ * - 호출자가 동기화 (FastPassWebSocketHandler의 전송 잠금 안에서만 호출)
+ */
+final class EventLog {
+
+    /** 기록된 이벤트 */
+    record Entry(long seq, EventFrames frames) {}
+
+    /**
+     * 재개 요청 결과
+     * @param events 재전송할 이벤트 (순번 순)
+     * @param gap 요청한 순번 이후 이벤트 중 버퍼에서 이미 제거되었거나 다른 스트림이라 재전송할 수 없는 이벤트가 있음
+     */
+    record Replay(List<Entry> events, boolean gap) {}
+
+    private final String streamId = UUID.randomUUID().toString();
+    private final int maxEvents;
+    private final long maxBytes;
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private long bufferedBytes;
+    private long lastSeq;
+
+    EventLog(int maxEvents, long maxBytes) {
+        this.maxEvents = maxEvents;
+        this.maxBytes = maxBytes;
+    }
+
+    String streamId() {
+        return streamId;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEnabled() {
+        return maxEvents > 0;
+    }
+
+    /**
+     * 순번을 붙여 기록 (기록을 사용하지 않아도 순번은 붙임)
+     */
+    long append(EventFrames frames) {
+        long seq = ++lastSeq;
+        frames.sequence(seq);
+        if (!isEnabled()) {
+            return seq;
+        }
+        entries.addLast(new Entry(seq, frames));
+        bufferedBytes += frames.attachmentBytes();
+        while (entries.size() > maxEvents || (bufferedBytes > maxBytes && entries.size() > 1)) {
+            bufferedBytes -= entries.removeFirst().frames().attachmentBytes();
+        }
+        return seq;
+    }
+
+    /**
+     * 클라이언트가 마지막으로 받은 순번 이후 이벤트
+     * @param clientStreamId 클라이언트가 받던 스트림 (다르면 서버가 재시작된 것)
+     * @param afterSeq 클라이언트가 마지막으로 받은 순번
+     */
+    Replay since(String clientStreamId, long afterSeq) {
+        if (!streamId.equals(clientStreamId)) {
+            // 재시작 전 스트림: 순번이 이어지지 않으므로 현재 버퍼 전체를 보내지 않고 누락만 알림
+            return new Replay(List.of(), true);
+        }
+        List<Entry> events = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.seq() > afterSeq) {
+                events.add(entry);
+            }
+        }
+        long firstAvailable = entries.isEmpty() ? lastSeq + 1 : entries.peekFirst().seq();
+        boolean gap = afterSeq < lastSeq && afterSeq + 1 < firstAvailable;
+        return new Replay(events, gap);
+    }
+}
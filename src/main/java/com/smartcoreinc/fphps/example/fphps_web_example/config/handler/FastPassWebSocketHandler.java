@@ -1,16 +1,29 @@
 package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
 
-import java.io.IOException;
 import java.lang.reflect.Type;
-import java.security.cert.X509Certificate;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.Consumer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
-import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -21,45 +34,187 @@ import com.google.gson.JsonSerializer;
 import com.smartcoreinc.fphps.dto.DocumentReadResponse;
 import com.smartcoreinc.fphps.dto.EventMessageData;
 import com.smartcoreinc.fphps.sod.ParsedSOD;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
 import com.smartcoreinc.fphps.example.fphps_web_example.dto.ParsedSODInfo;
 import com.smartcoreinc.fphps.interfaces.MessageBroadcastable;
 import com.smartcoreinc.fphps.readers.EPassportReader;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * fastpass WebSocket 엔드포인트.
+ * 판독기 이벤트는 FPHPS 라이브러리의 콜백 스레드에서 들어오므로 broadcast()는 이벤트를 대기열에 넣고 바로 반환하고,
+ * 전용 전송 스레드(WsDispatch)가 이벤트당 한 번만 직렬화한 프레임을 세션별 송신 버퍼(SessionOutbound)로 나누어 전달함.
+ * 느린 브라우저는 자신의 송신 버퍼만 채우며 판독기 RF 읽기나 다른 세션을 지연시키지 않고,
+ * 계속 뒤처지면 큰 메시지를 건너뛰는 저하 모드를 거쳐 연결이 끊김 (세션별 지연은 sessionSnapshot()으로 조회).
+ * fastpass.binary 하위 프로토콜을 협상한 세션은 이미지/칩 데이터를 base64 JSON 대신 BinaryMessage로 받음 (EventFrames).
+ * 진행 이벤트(coalesce-event-codes)는 coalesce-window-ms 동안 같은 키의 최신 이벤트 하나로 합쳐 전송하고,
+ * 그 밖의 이벤트(READ_DONE 등 완료 이벤트)는 대기 중인 진행 이벤트를 먼저 내보낸 뒤 바로 전송하여 순서를 유지함.
+ * 전송하는 이벤트에는 스트림 순번(streamSeq)을 붙여 최근 이벤트를 보관(EventLog)하고, 연결이 잠시 끊겼던 브라우저가
+ * /fastpass?streamId=...&lastSeq=... 로 재연결하면 놓친 이벤트를 먼저 보낸 뒤 실시간 이벤트를 이어서 보냄.
+ * 판독기가 정해진 이벤트는 같은 전송 스레드에서 STOMP 판독기/lane 토픽으로도 발행함 (DeviceTopicPublisher)
+ */
 @Slf4j
 @Component
-public class FastPassWebSocketHandler extends TextWebSocketHandler implements MessageBroadcastable {
+public class FastPassWebSocketHandler extends TextWebSocketHandler implements MessageBroadcastable, SubProtocolCapable {
 
-    private static final CopyOnWriteArrayList<WebSocketSession> sessions = new CopyOnWriteArrayList<>();
+    /** 바이너리 프레임 하위 프로토콜. 협상하지 않은 클라이언트는 기존 JSON 텍스트 형식 유지 */
+    public static final String BINARY_SUBPROTOCOL = "fastpass.binary";
 
-    // Auto Read 완료 시 DocumentReadResponse를 저장할 콜백
-    private volatile Consumer<DocumentReadResponse> onReadCompleteCallback;
+    /** 연결 직후 보내는 스트림 정보 이벤트 (streamId, 현재 순번, 재전송 결과) */
+    public static final String STREAM_EVENT = "EVENT_STREAM";
 
-    // 현재 사용 중인 EPassportReader 인스턴스 (Auto Read 시 결과 조회용)
-    private volatile EPassportReader currentReader;
+    /**
+     * 전송 대기 이벤트. 프레임 생성(텍스트/바이너리 직렬화)은 전송 스레드에서 수행 (합쳐져 버려진 이벤트는 프레임을 만들지 않음).
+     * 판독기 이벤트는 벤더 객체가 콜백 이후 재사용/변경될 수 있으므로 JSON 트리를 콜백 스레드에서 미리 만들어 넘김
+     * @param coalesceKey 합치기 키 (이벤트 코드 + 판독기, 서버 이벤트는 요청/판독기별로 구분)
+     * @param topic STOMP 토픽 (판독기를 알 수 없으면 null)
+     */
+    private record OutboundEvent(String eventCodeString, String coalesceKey, String topic,
+                                 Supplier<EventFrames> frames) {}
+
+    @Value("${websocket.outbound.event-queue-capacity:1024}")
+    private int eventQueueCapacity;
+
+    @Value("${websocket.outbound.session-buffer:256}")
+    private int sessionBufferSize;
+
+    @Value("${websocket.outbound.send-time-limit-ms:5000}")
+    private long sendTimeLimitMillis;
+
+    @Value("${websocket.outbound.buffer-size-limit-bytes:8388608}")
+    private long bufferSizeLimitBytes;
+
+    @Value("${websocket.outbound.downgrade-max-message-bytes:65536}")
+    private int downgradeMaxMessageBytes;
+
+    @Value("${websocket.outbound.coalesce-window-ms:150}")
+    private long coalesceWindowMillis;
+
+    @Value("${websocket.outbound.coalesce-event-codes:}")
+    private Set<String> coalesceEventCodes;
+
+    @Value("${websocket.replay.buffer-size:256}")
+    private int replayBufferSize;
+
+    @Value("${websocket.replay.max-bytes:33554432}")
+    private long replayMaxBytes;
+
+    // 세션 ID → 송신 버퍼
+    private final Map<String, SessionOutbound> outbounds = new ConcurrentHashMap<>();
+    private BlockingQueue<OutboundEvent> events;
+    // 순번 부여/기록/세션 전달과 재연결 재전송을 같은 잠금에서 수행하여 누락·중복 없이 이어지게 함
+    private final Object streamLock = new Object();
+    private EventLog eventLog;
+    private Thread dispatcher;
+    private ExecutorService senders;
+    private final Counter droppedEventCounter;
+    private final Counter droppedSessionMessageCounter;
+    private final Counter evictedSessionCounter;
+    private final Counter coalescedEventCounter;
+    private final MeterRegistry meterRegistry;
+
+    // Auto Read 완료 시 (판독기 시리얼, DocumentReadResponse)를 저장할 콜백
+    private volatile BiConsumer<String, DocumentReadResponse> onReadCompleteCallback;
+
+    // 판독기 시리얼 → Auto Read 중인 EPassportReader (완료 이벤트를 보낸 판독기의 결과 조회용)
+    private final Map<String, EPassportReader> currentReaders = new ConcurrentHashMap<>();
+
+    private final DeviceStageMetrics stageMetrics;
+    private final DeviceTopicPublisher topicPublisher;
+
+    public FastPassWebSocketHandler(DeviceStageMetrics stageMetrics, DeviceTopicPublisher topicPublisher,
+                                    MeterRegistry meterRegistry) {
+        this.stageMetrics = stageMetrics;
+        this.topicPublisher = topicPublisher;
+        this.meterRegistry = meterRegistry;
+        this.droppedEventCounter = Counter.builder("fphps.websocket.events.dropped")
+            .description("Events dropped because the broadcast queue was full")
+            .register(meterRegistry);
+        this.droppedSessionMessageCounter = Counter.builder("fphps.websocket.session.dropped")
+            .description("Messages dropped from a full per-session outbound buffer")
+            .register(meterRegistry);
+        Gauge.builder("fphps.websocket.events.queued", this, h -> h.events != null ? h.events.size() : 0)
+            .description("Events waiting to be serialized and fanned out")
+            .register(meterRegistry);
+        this.evictedSessionCounter = Counter.builder("fphps.websocket.session.evicted")
+            .description("Sessions disconnected for falling behind the broadcast stream")
+            .register(meterRegistry);
+        this.coalescedEventCounter = Counter.builder("fphps.websocket.events.coalesced")
+            .description("Progress events superseded by a later event of the same kind before being sent")
+            .register(meterRegistry);
+        Gauge.builder("fphps.websocket.sessions", outbounds, Map::size)
+            .description("Connected fastpass WebSocket sessions")
+            .register(meterRegistry);
+        Gauge.builder("fphps.websocket.replay.buffered", this, h -> h.eventLog != null ? h.eventLog.size() : 0)
+            .description("Recent events kept for clients resuming after a reconnect")
+            .register(meterRegistry);
+        Gauge.builder("fphps.websocket.session.lag.max", outbounds,
+                m -> m.values().stream().mapToLong(SessionOutbound::lagMillis).max().orElse(0))
+            .description("Largest delivery lag among connected sessions")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startDispatcher() {
+        events = new LinkedBlockingQueue<>(Math.max(1, eventQueueCapacity));
+        eventLog = new EventLog(Math.max(0, replayBufferSize), replayMaxBytes);
+        AtomicInteger senderIndex = new AtomicInteger();
+        senders = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "WsSend-" + senderIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher = new Thread(this::dispatchLoop, "WsDispatch");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stopDispatcher() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (senders != null) {
+            senders.shutdown();
+            try {
+                senders.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 
     /**
      * Auto Read 완료 시 호출될 콜백 설정
-     * @param callback DocumentReadResponse를 받아 처리할 Consumer
+     * @param callback 완료 이벤트를 보낸 판독기 시리얼과 DocumentReadResponse를 받아 처리할 BiConsumer
      */
-    public void setOnReadCompleteCallback(Consumer<DocumentReadResponse> callback) {
+    public void setOnReadCompleteCallback(BiConsumer<String, DocumentReadResponse> callback) {
         this.onReadCompleteCallback = callback;
     }
 
     /**
-     * 현재 사용 중인 Reader 설정 (Auto Read 결과 조회용)
+     * 판독기에서 Auto Read 중인 Reader 설정 (Auto Read 결과 조회용)
+     * @param deviceId 판독기 시리얼
      * @param reader EPassportReader 인스턴스
      */
-    public void setCurrentReader(EPassportReader reader) {
-        this.currentReader = reader;
+    public void setCurrentReader(String deviceId, EPassportReader reader) {
+        currentReaders.put(deviceId, reader);
     }
 
     /**
      * Reader 정리 (Auto Read 완료 또는 취소 시)
+     * @param deviceId 판독기 시리얼
+     * @param reader 정리할 Reader (그 사이 다른 읽기가 등록한 Reader는 유지)
      */
-    public void clearCurrentReader() {
-        this.currentReader = null;
+    public void clearCurrentReader(String deviceId, EPassportReader reader) {
+        currentReaders.remove(deviceId, reader);
     }
 
     // Gson with custom serializer for ParsedSOD to convert X509Certificate to DTO
@@ -77,50 +232,301 @@ public class FastPassWebSocketHandler extends TextWebSocketHandler implements Me
         })
         .create();
 
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(BINARY_SUBPROTOCOL);
+    }
+
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.debug("[+] a new client connected with session id [{}]", session.getId());
-        sessions.add(session);
+        // 재연결 재전송(버릴 수 없는 이벤트)만으로 송신 버퍼가 가득 차 곧바로 끊기지 않도록 재전송 보관 수 이상으로 잡음
+        int capacity = Math.max(sessionBufferSize, replayBufferSize + 1);
+        SessionOutbound outbound = new SessionOutbound(session,
+            new SessionOutbound.Limits(capacity, sendTimeLimitMillis, bufferSizeLimitBytes, downgradeMaxMessageBytes),
+            senders, BINARY_SUBPROTOCOL.equals(session.getAcceptedProtocol()));
+
+        Map<String, String> resume = session.getUri() != null
+            ? UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().toSingleValueMap()
+            : Map.of();
+        String clientStreamId = resume.get("streamId");
+        Long lastSeq = parseSeq(resume.get("lastSeq"));
+
+        synchronized (streamLock) {
+            EventLog.Replay replay = null;
+            if (clientStreamId != null && lastSeq != null) {
+                replay = eventLog.since(clientStreamId, lastSeq);
+            }
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("streamId", eventLog.streamId());
+            info.put("streamSeq", eventLog.lastSeq());
+            info.put("resumed", replay != null);
+            info.put("replayed", replay != null ? replay.events().size() : 0);
+            info.put("gap", replay != null && replay.gap());
+            send(outbound, EventFrames.ofServerEvent(gson, STREAM_EVENT, info));
+            if (replay != null) {
+                for (EventLog.Entry entry : replay.events()) {
+                    send(outbound, entry.frames());
+                }
+                meterRegistry.counter("fphps.websocket.replay.resumed", "outcome", replay.gap() ? "gap" : "complete").increment();
+                log.info("Session {} resumed after seq {}: {} event(s) replayed{}", session.getId(), lastSeq,
+                    replay.events().size(), replay.gap() ? ", some events no longer available" : "");
+            }
+            // 재전송 뒤에 등록하여 실시간 이벤트가 재전송 이벤트보다 앞서지 않게 함
+            if (!outbound.isEvicted()) {
+                outbounds.put(session.getId(), outbound);
+            }
+        }
+    }
+
+    private static Long parseSeq(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         log.debug("[+] a client disconnected with session id [{}], close status: [{}]", session.getId(), status.toString());
-        sessions.remove(session);
+        outbounds.remove(session.getId());
     }
 
+    /**
+     * 판독기 이벤트 전달 (FPHPS 라이브러리 콜백 스레드에서 호출).
+     * Auto Read 완료 처리와 이벤트 필드의 얕은 복사만 이 스레드에서 수행하고, 직렬화/프레임 생성/전송은 대기열에 넘긴 뒤 바로 반환
+     */
     @Override
     public void broadcast(EventMessageData message) {
-        // Auto Read 완료 이벤트 감지 및 결과 저장
+        broadcast(message, null, null);
+    }
+
+    /**
+     * 판독기 지정 이벤트 전달기. 판독기에 넘기면 이벤트가 /sub/devices/{deviceId}/events 토픽으로도 발행됨
+     * @param deviceId 판독기 시리얼
+     */
+    public MessageBroadcastable forDevice(String deviceId) {
+        String topic = deviceId != null ? DeviceTopicPublisher.deviceEvents(deviceId) : null;
+        return message -> broadcast(message, deviceId, topic);
+    }
+
+    private void broadcast(EventMessageData message, String deviceId, String topic) {
+        // Auto Read 완료 이벤트 감지 및 결과 저장 (이벤트를 보낸 판독기의 읽기에만 연결)
         if ("FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DONE".equals(message.getEventCodeString())) {
-            handleAutoReadComplete();
+            handleAutoReadComplete(deviceId);
         }
 
-        for (WebSocketSession session : sessions) {
+        if (message.getParsedSOD() != null) {
+            log.debug("Broadcasting message with ParsedSOD data");
+        }
+        if (!hasAudience(topic)) {
+            return;
+        }
+        // 콜백 스레드(판독기 이벤트 루프)에서는 필드 참조만 복사하고 직렬화는 전송 스레드에서 수행 (합쳐져 버려지는 진행 이벤트는 직렬화하지 않음)
+        EventMessageData snapshot = snapshot(message);
+        // 판독기마다 진행 상태가 따로이므로 다른 판독기의 이벤트끼리는 합치지 않음
+        String coalesceKey = deviceId != null ? message.getEventCodeString() + "/" + deviceId : message.getEventCodeString();
+        enqueue(new OutboundEvent(message.getEventCodeString(), coalesceKey, topic,
+            () -> EventFrames.ofDeviceEvent(gson, snapshot)));
+    }
+
+    /**
+     * 이벤트 필드의 얕은 복사.
+     * 벤더 라이브러리는 이벤트마다 EventMessageData와 이미지/바이트 배열/DG 맵을 새로 만들고 broadcast() 이후 변경하지 않으므로
+     * 참조만 복사함 (DG 맵은 컨테이너만 복사, 바이트 배열은 복제하지 않음)
+     */
+    static EventMessageData snapshot(EventMessageData message) {
+        EventMessageData copy = new EventMessageData();
+        copy.setEventId(message.getEventId());
+        copy.setEventCodeString(message.getEventCodeString());
+        copy.setLParam(message.getLParam());
+        copy.setImage(message.getImage());
+        copy.setMrzLines(message.getMrzLines());
+        copy.setMrzInfo(message.getMrzInfo());
+        copy.setIdCardInfoFrance(message.getIdCardInfoFrance());
+        copy.setEPassResults(message.getEPassResults());
+        copy.setBarCode(message.getBarCode());
+        copy.setSodDataBytes(message.getSodDataBytes());
+        copy.setDgDataMap(message.getDgDataMap() != null ? new LinkedHashMap<>(message.getDgDataMap()) : null);
+        copy.setParsedSOD(message.getParsedSOD());
+        copy.setSodVerificationFailed(message.isSodVerificationFailed());
+        copy.setDgHashVerificationFailed(message.isDgHashVerificationFailed());
+        copy.setChipReadFailed(message.isChipReadFailed());
+        copy.setChipReadErrorMessage(message.getChipReadErrorMessage());
+        copy.setMrzValidationResult(message.getMrzValidationResult());
+        copy.setEPassMrzLines(message.getEPassMrzLines());
+        return copy;
+    }
+
+    /**
+     * 디바이스 이벤트가 아닌 서버 이벤트 전송 (대기열 위치 등).
+     * 클라이언트가 기존 메시지와 같은 방식으로 분기할 수 있도록 eventCodeString 필드를 포함
+     * @param eventCodeString 이벤트 코드 문자열
+     * @param payload 추가 필드
+     */
+    public void broadcastEvent(String eventCodeString, Map<String, Object> payload) {
+        Object deviceId = payload.get("deviceId");
+        broadcastEvent(eventCodeString, payload, deviceId != null ? DeviceTopicPublisher.deviceEvents(deviceId.toString()) : null);
+    }
+
+    /**
+     * 서버 이벤트 전송 (STOMP 토픽 지정)
+     * @param topic STOMP 토픽 (null이면 원시 WebSocket 세션에만 전송)
+     */
+    public void broadcastEvent(String eventCodeString, Map<String, Object> payload, String topic) {
+        // 대기열 위치는 요청별, 연속 읽기 상태는 판독기별로 최신 값이 의미 있으므로 키에 포함
+        Object discriminator = payload.containsKey("requestId") ? payload.get("requestId") : payload.get("deviceId");
+        String coalesceKey = discriminator != null ? eventCodeString + "/" + discriminator : eventCodeString;
+        enqueue(new OutboundEvent(eventCodeString, coalesceKey, topic,
+            () -> EventFrames.ofServerEvent(gson, eventCodeString, payload)));
+    }
+
+    /**
+     * 이벤트를 받을 대상이 있는지. 연결된 세션/구독자가 없고 재연결 재전송도 사용하지 않으면 직렬화할 필요 없음
+     */
+    private boolean hasAudience(String topic) {
+        return !outbounds.isEmpty() || eventLog.isEnabled() || (topic != null && topicPublisher.hasSubscribers());
+    }
+
+    private void enqueue(OutboundEvent event) {
+        if (!hasAudience(event.topic())) {
+            return;
+        }
+        if (!events.offer(event)) {
+            droppedEventCounter.increment();
+            log.warn("Broadcast queue full ({}), dropped event {}", eventQueueCapacity, event.eventCodeString());
+        }
+    }
+
+    /**
+     * 전송 스레드: 진행 이벤트를 합친 뒤 이벤트를 한 번 직렬화하여 모든 세션의 송신 버퍼에 넣음 (이벤트 순서 유지)
+     */
+    private void dispatchLoop() {
+        // 합치기 키 → 창 안에서 가장 최근 진행 이벤트 (마지막으로 갱신된 순서)
+        Map<String, OutboundEvent> coalescing = new LinkedHashMap<>();
+        long flushAt = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            OutboundEvent event;
             try {
-                if (session.isOpen()) {
-                    // ParsedSOD 존재 여부 로깅
-                    if (message.getParsedSOD() != null) {
-                        log.debug("Broadcasting message with ParsedSOD data");
-                    }
+                if (coalescing.isEmpty()) {
+                    event = events.take();
+                } else {
+                    event = events.poll(Math.max(0, flushAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (event == null) {
+                // 창 종료
+                flush(coalescing);
+                continue;
+            }
+            if (isCoalescable(event)) {
+                if (coalescing.isEmpty()) {
+                    flushAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceWindowMillis);
+                }
+                if (coalescing.remove(event.coalesceKey()) != null) {
+                    coalescedEventCounter.increment();
+                }
+                coalescing.put(event.coalesceKey(), event);
+                if (System.nanoTime() - flushAt >= 0) {
+                    flush(coalescing);
+                }
+                continue;
+            }
+            // 완료 이벤트 등은 앞선 진행 이벤트 다음에 바로 전송
+            flush(coalescing);
+            fanOut(event);
+        }
+    }
 
-                    String jsonMessage = gson.toJson(message);
-                    session.sendMessage(new TextMessage(jsonMessage));
-                    log.debug("Sent message to session :: {}, event message code string :: {}", session.getId(), message.getEventCodeString());
+    private boolean isCoalescable(OutboundEvent event) {
+        return coalesceWindowMillis > 0 && coalesceEventCodes.contains(event.eventCodeString());
+    }
+
+    private void flush(Map<String, OutboundEvent> coalescing) {
+        for (OutboundEvent pending : coalescing.values()) {
+            fanOut(pending);
+        }
+        coalescing.clear();
+    }
+
+    private void fanOut(OutboundEvent event) {
+        try {
+            EventFrames frames = event.frames().get();
+            if (isCoalescable(event)) {
+                frames.markProgress();
+            }
+            byte[] topicPayload = null;
+            synchronized (streamLock) {
+                long seq = eventLog.append(frames);
+                // 형식별로 한 번 만든 프레임을 모든 세션이 공유
+                for (SessionOutbound outbound : outbounds.values()) {
+                    send(outbound, frames);
+                }
+                if (event.topic() != null && topicPublisher.hasSubscribers()) {
+                    topicPayload = frames.textFrame().asBytes();
+                }
+                log.debug("Queued event {} (seq {}) for {} session(s)", event.eventCodeString(), seq, outbounds.size());
+            }
+            if (topicPayload != null) {
+                topicPublisher.publishJson(event.topic(), topicPayload);
+            }
+        } catch (Exception e) {
+            log.error("Failed to broadcast event {}: {}", event.eventCodeString(), e.getMessage(), e);
+        }
+    }
+
+    private void send(SessionOutbound outbound, EventFrames frames) {
+        // 바이너리 형식은 헤더와 첨부 프레임을 한 단위로 넣어 일부만 건너뛰지 않도록 함
+        offer(outbound, outbound.isBinary() ? frames.binaryFrames() : List.of(frames.textFrame()), frames.isProgress());
+    }
+
+    private void offer(SessionOutbound outbound, List<WebSocketMessage<?>> eventFrames, boolean droppable) {
+        switch (outbound.offer(eventFrames, droppable)) {
+            case DROPPED -> {
+                droppedSessionMessageCounter.increment();
+                log.debug("Session {} outbound buffer full, dropped oldest progress event", outbound.session().getId());
+            }
+            case EVICTED -> {
+                if (outbounds.remove(outbound.session().getId(), outbound)) {
+                    evictedSessionCounter.increment();
                 }
-            } catch (Exception e) {
-                log.error("Failed to broadcast message to session {}: {}", session.getId(), e.getMessage(), e);
             }
+            default -> {
+                // QUEUED, SKIPPED
+            }
+        }
+    }
+
+    /**
+     * 세션별 송신 상태 (대기 메시지/바이트, 지연, 전송/버림/건너뜀 수, 저하 모드 여부)
+     */
+    public List<Map<String, Object>> sessionSnapshot() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (SessionOutbound outbound : outbounds.values()) {
+            result.add(outbound.snapshot());
         }
+        return result;
     }
 
     /**
      * Auto Read 완료 시 호출되어 결과를 콜백으로 전달
+     * @param deviceId 완료 이벤트를 보낸 판독기 시리얼 (판독기 지정 없이 등록된 전달기면 null)
      */
-    private void handleAutoReadComplete() {
+    private void handleAutoReadComplete(String deviceId) {
+        EPassportReader currentReader = deviceId != null ? currentReaders.get(deviceId) : null;
         if (currentReader != null && onReadCompleteCallback != null) {
             try {
+                long start = System.nanoTime();
                 DocumentReadResponse response = currentReader.getDocumentData();
+                stageMetrics.record(DeviceStageMetrics.Stage.DOCUMENT_DATA, "PASSPORT",
+                    DeviceStageMetrics.MODE_AUTO, System.nanoTime() - start);
                 if (response != null) {
                     // MRZ 데이터 확인
                     if (response.getMrzInfo() != null && response.getMrzInfo().getPassportNumber() != null) {
@@ -130,7 +536,7 @@ public class FastPassWebSocketHandler extends TextWebSocketHandler implements Me
                     } else {
                         log.warn("⚠ Auto Read completed but NO MRZ DATA - Check if passport was placed on reader");
                     }
-                    onReadCompleteCallback.accept(response);
+                    onReadCompleteCallback.accept(deviceId, response);
                 } else {
                     log.warn("⚠ Auto Read completed but getDocumentData() returned NULL - Passport may not have been detected");
                 }
@@ -138,11 +544,11 @@ public class FastPassWebSocketHandler extends TextWebSocketHandler implements Me
                 log.error("✗ Failed to retrieve Auto Read result: {}", e.getMessage(), e);
             } finally {
                 // Reader 정리
-                clearCurrentReader();
+                clearCurrentReader(deviceId, currentReader);
             }
         } else {
-            log.debug("Auto Read completed but no reader or callback registered (currentReader={}, callback={})",
-                currentReader != null ? "set" : "null",
+            log.debug("Auto Read completed but no reader or callback registered (device={}, currentReader={}, callback={})",
+                deviceId, currentReader != null ? "set" : "null",
                 onReadCompleteCallback != null ? "set" : "null");
         }
     }
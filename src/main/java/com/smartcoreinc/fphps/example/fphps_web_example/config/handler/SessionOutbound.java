@@ -0,0 +1,262 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 세션 1개의 송신 버퍼.
+ * 메시지를 고정 크기 큐에 넣고 송신 스레드 풀에서 순서대로 전송하여 느린 브라우저가
+ * 다른 세션이나 판독기 이벤트 처리 스레드를 막지 않도록 함.
+ * 이벤트 1건의 프레임(바이너리 형식의 JSON 헤더 + 첨부 프레임)은 한 단위로 넣고 버리거나 건너뛰어
+ * 클라이언트가 첨부를 다른 이벤트의 헤더와 짝짓지 않도록 함.
+ *
+ * - 버려도 되는 메시지는 뒤에 오는 같은 종류의 메시지로 대체되는 진행 이벤트(합치기 대상 이벤트)뿐임
+ * - 큐가 가득 차면 가장 오래된 진행 이벤트를 버리고, 버릴 진행 이벤트가 없으면(완료/결과/DG 이벤트만 대기 중)
+ *   어느 것도 버리지 않고 세션을 끊음 (브라우저는 lastSeq로 재연결하여 놓친 이벤트를 재전송 받음)
+ * - 대기 바이트가 bufferSizeLimit를 넘으면 저하(degraded) 모드: downgradeMaxMessageBytes보다 큰 진행 이벤트(프레임 이미지 등)는 건너뜀
+ * - 저하 모드에서도 한도를 넘거나, 전송 1건이 sendTimeLimit를 넘기면 세션을 끊음 (브라우저는 재연결)
+ */
+@Slf4j
+final class SessionOutbound {
+
+    /**
+     * 송신 버퍼 제한
+     * @param capacity 대기 메시지 수
+     * @param sendTimeLimitMillis 전송 1건 최대 시간
+     * @param bufferSizeLimitBytes 대기 바이트 한도 (초과 시 저하 모드, 저하 모드에서 초과 시 연결 종료)
+     * @param downgradeMaxMessageBytes 저하 모드에서 전송할 최대 메시지 크기
+     */
+    record Limits(int capacity, long sendTimeLimitMillis, long bufferSizeLimitBytes, int downgradeMaxMessageBytes) {}
+
+    /**
+     * 큐에 넣은 이벤트 1건의 프레임과 넣은 시각 (지연 계산용)
+     * @param bytes 프레임 크기 합
+     * @param droppable 버려도 되는 진행 이벤트인지 여부
+     */
+    private record Queued(List<WebSocketMessage<?>> frames, long bytes, boolean droppable, long enqueuedNanos) {}
+
+    /** 메시지 추가 결과 */
+    enum OfferResult {
+        QUEUED,     // 큐에 추가됨
+        DROPPED,    // 추가됨, 대신 오래된 진행 이벤트를 버림
+        SKIPPED,    // 저하 모드로 이 진행 이벤트를 건너뜀
+        EVICTED     // 뒤처진 세션으로 판단하여 연결 종료
+    }
+
+    private final WebSocketSession session;
+    private final Limits limits;
+    private final Executor sender;
+    // fastpass.binary 하위 프로토콜 협상 여부 (이미지/칩 데이터를 BinaryMessage로 전송)
+    private final boolean binary;
+    private final ConcurrentLinkedQueue<Queued> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    // 진행 중인 전송 시작 시각 (0이면 전송 중 아님)
+    private volatile long sendStartedNanos;
+    private volatile boolean degraded;
+    private volatile boolean evicted;
+
+    SessionOutbound(WebSocketSession session, Limits limits, Executor sender, boolean binary) {
+        this.session = session;
+        this.limits = limits;
+        this.sender = sender;
+        this.binary = binary;
+    }
+
+    WebSocketSession session() {
+        return session;
+    }
+
+    boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * 이벤트 1건의 프레임을 한 단위로 송신 큐에 추가 (블로킹하지 않음).
+     * 저하 모드의 크기 판단과 버림은 프레임 전체에 적용되어 헤더와 첨부가 함께 전송되거나 함께 빠짐
+     * @param droppable 뒤에 오는 메시지로 대체되는 진행 이벤트이면 true (버퍼가 가득 차면 버릴 수 있음)
+     */
+    OfferResult offer(List<WebSocketMessage<?>> frames, boolean droppable) {
+        if (evicted) {
+            return OfferResult.EVICTED;
+        }
+        long sendStarted = sendStartedNanos;
+        if (sendStarted != 0
+            && System.nanoTime() - sendStarted > TimeUnit.MILLISECONDS.toNanos(limits.sendTimeLimitMillis())) {
+            evict("send time limit " + limits.sendTimeLimitMillis() + " ms exceeded");
+            return OfferResult.EVICTED;
+        }
+
+        long size = 0;
+        for (WebSocketMessage<?> frame : frames) {
+            size += frame.getPayloadLength();
+        }
+        if (queuedBytes.get() + size > limits.bufferSizeLimitBytes()) {
+            if (degraded) {
+                evict("outbound buffer limit " + limits.bufferSizeLimitBytes() + " bytes exceeded while degraded");
+                return OfferResult.EVICTED;
+            }
+            degraded = true;
+            log.warn("Session {} is falling behind ({} bytes pending), skipping large messages", session.getId(), queuedBytes.get());
+        }
+        if (degraded && droppable && size > limits.downgradeMaxMessageBytes()) {
+            skipped.incrementAndGet();
+            return OfferResult.SKIPPED;
+        }
+
+        OfferResult result = OfferResult.QUEUED;
+        queue.add(new Queued(List.copyOf(frames), size, droppable, System.nanoTime()));
+        queuedBytes.addAndGet(size);
+        if (queuedCount.incrementAndGet() > Math.max(1, limits.capacity())) {
+            if (!dropOldestProgress()) {
+                // 버리면 클라이언트가 알 수 없는 공백이 생기므로 연결을 끊고 재연결 재전송에 맡김
+                evict("outbound buffer full of undroppable messages (" + limits.capacity() + ")");
+                return OfferResult.EVICTED;
+            }
+            result = OfferResult.DROPPED;
+        }
+        scheduleDrain();
+        return result;
+    }
+
+    /**
+     * 가장 오래된 진행 이벤트 1건 제거
+     * @return 제거했으면 true (대기 중인 진행 이벤트가 없으면 false)
+     */
+    private boolean dropOldestProgress() {
+        Iterator<Queued> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Queued queued = iterator.next();
+            // 송신 스레드가 같은 메시지를 먼저 꺼냈으면 remove()가 false이므로 다음 후보 확인
+            if (queued.droppable() && queue.remove(queued)) {
+                queuedCount.decrementAndGet();
+                queuedBytes.addAndGet(-queued.bytes());
+                dropped.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int pending() {
+        return queuedCount.get();
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * 지연 시간: 진행 중인 전송 또는 가장 오래된 대기 메시지가 기다린 시간 (ms)
+     */
+    long lagMillis() {
+        long now = System.nanoTime();
+        long oldest = now;
+        long sendStarted = sendStartedNanos;
+        if (sendStarted != 0) {
+            oldest = sendStarted;
+        }
+        Queued head = queue.peek();
+        if (head != null && head.enqueuedNanos() < oldest) {
+            oldest = head.enqueuedNanos();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(now - oldest);
+    }
+
+    /**
+     * 세션 송신 상태 (조회용)
+     */
+    Map<String, Object> snapshot() {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("sessionId", session.getId());
+        entry.put("remoteAddress", session.getRemoteAddress() != null ? session.getRemoteAddress().toString() : null);
+        entry.put("format", binary ? "binary" : "text");
+        entry.put("pending", queuedCount.get());
+        entry.put("pendingBytes", queuedBytes.get());
+        entry.put("lagMs", lagMillis());
+        entry.put("sent", sent.get());
+        entry.put("dropped", dropped.get());
+        entry.put("skipped", skipped.get());
+        entry.put("degraded", degraded);
+        return entry;
+    }
+
+    private void evict(String reason) {
+        if (evicted) {
+            return;
+        }
+        evicted = true;
+        queue.clear();
+        queuedCount.set(0);
+        queuedBytes.set(0);
+        log.warn("Evicting slow WebSocket session {}: {}", session.getId(), reason);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE.withReason("Slow consumer"));
+        } catch (Exception e) {
+            log.debug("Failed to close slow session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Queued queued;
+            while ((queued = queue.poll()) != null) {
+                queuedCount.decrementAndGet();
+                queuedBytes.addAndGet(-queued.bytes());
+                for (WebSocketMessage<?> frame : queued.frames()) {
+                    if (evicted || !session.isOpen()) {
+                        return;
+                    }
+                    sendStartedNanos = System.nanoTime();
+                    try {
+                        session.sendMessage(frame);
+                        sent.incrementAndGet();
+                    } catch (Exception e) {
+                        log.error("Failed to send message to session {}: {}", session.getId(), e.getMessage());
+                    } finally {
+                        sendStartedNanos = 0;
+                    }
+                }
+            }
+            if (degraded) {
+                // 대기 메시지를 모두 보냈으면 정상 모드로 복귀
+                degraded = false;
+                log.info("Session {} caught up, resuming full message delivery", session.getId());
+            }
+        } finally {
+            draining.set(false);
+            // 종료 직전에 들어온 메시지 처리
+            if (!queue.isEmpty() && session.isOpen() && !evicted) {
+                scheduleDrain();
+            }
+        }
+    }
+}
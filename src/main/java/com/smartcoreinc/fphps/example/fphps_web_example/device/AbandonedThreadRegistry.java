@@ -0,0 +1,144 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버려진 디바이스 작업 스레드 목록.
+ * 타임아웃/취소 후 executor를 교체할 때 네이티브 호출에서 돌아오지 않은 DeviceOp 스레드를 등록하고,
+ * 나중에 스스로 빠져나오면(스레드 종료) 회복된 것으로 집계.
+ *
+ * - 마지막 조치 이후 새로 쌓인 살아 있는 버려진 스레드 수가 device.abandoned-threads.max 이상이면 register()가 true 반환
+ *   (FPHPSService가 해당 판독기 리셋 또는 서비스 재시작 수행 후 acknowledge()로 기준 수를 갱신)
+ * - fphps.device.threads.blocked (현재 수), .abandoned / .recovered (누적) 지표로 노출
+ */
+@Slf4j
+@Component
+public class AbandonedThreadRegistry {
+
+    /** 조회 시 포함할 스택 프레임 수 */
+    private static final int STACK_DEPTH = 20;
+
+    /**
+     * 버려진 스레드 1건
+     * @param operation 작업 종류 키 (DeviceTimeoutPolicy 키)
+     */
+    private record AbandonedThread(String deviceId, String operation, Thread thread, long abandonedAt) {}
+
+    @Value("${device.abandoned-threads.max:8}")
+    private int maxAbandoned;
+
+    private final List<AbandonedThread> threads = new CopyOnWriteArrayList<>();
+    // 마지막 조치 시점에 살아 있던 버려진 스레드 수 (조치 후에도 남은 스레드로 상한이 바로 다시 차지 않도록)
+    private volatile int acknowledged;
+    private final Counter abandonedCounter;
+    private final Counter recoveredCounter;
+
+    public AbandonedThreadRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("fphps.device.threads.blocked", this, AbandonedThreadRegistry::aliveCount)
+            .description("Device threads abandoned after a timeout that are still blocked")
+            .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("fphps.device.threads.abandoned")
+            .description("Device threads abandoned after a timeout or cancel")
+            .register(meterRegistry);
+        this.recoveredCounter = Counter.builder("fphps.device.threads.recovered")
+            .description("Abandoned device threads that later returned from native code")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 버려진 스레드 등록
+     * @return 마지막 조치 이후 살아 있는 버려진 스레드 수가 상한에 도달했으면 true
+     */
+    public boolean register(String deviceId, String operation, Thread thread) {
+        threads.add(new AbandonedThread(deviceId, operation, thread, System.currentTimeMillis()));
+        abandonedCounter.increment();
+        int alive = aliveCount();
+        int pending = alive - acknowledged;
+        log.warn("Abandoned device thread {} on {} ({}). {} thread(s) still blocked, {} since last action (limit {})",
+            thread.getName(), deviceId, operation, alive, pending, maxAbandoned);
+        return pending >= maxAbandoned;
+    }
+
+    /**
+     * 상한 도달 조치 완료. 현재 살아 있는 스레드 수를 기준으로 삼아 이후 새로 버려진 스레드만 상한에 집계
+     */
+    public void acknowledge() {
+        acknowledged = aliveCount();
+    }
+
+    /**
+     * 살아 있는 버려진 스레드가 있는 판독기 시리얼
+     */
+    public Set<String> blockedDeviceIds() {
+        aliveCount();
+        Set<String> deviceIds = new LinkedHashSet<>();
+        for (AbandonedThread abandoned : threads) {
+            deviceIds.add(abandoned.deviceId());
+        }
+        return deviceIds;
+    }
+
+    /**
+     * 아직 살아 있는(네이티브 호출에 묶인) 버려진 스레드 수. 종료된 스레드는 회복으로 집계 후 제거
+     */
+    public int aliveCount() {
+        for (AbandonedThread abandoned : threads) {
+            if (!abandoned.thread().isAlive() && threads.remove(abandoned)) {
+                recoveredCounter.increment();
+                log.info("Abandoned device thread {} on {} has exited after {} ms",
+                    abandoned.thread().getName(), abandoned.deviceId(),
+                    System.currentTimeMillis() - abandoned.abandonedAt());
+            }
+        }
+        int alive = threads.size();
+        if (acknowledged > alive) {
+            // 조치 후 남아 있던 스레드가 빠져나오면 기준 수도 줄임
+            acknowledged = alive;
+        }
+        return alive;
+    }
+
+    public int getMaxAbandoned() {
+        return maxAbandoned;
+    }
+
+    /**
+     * 버려진 스레드 상세 (판독기, 작업, 경과 시간, 현재 스택)
+     */
+    public List<Map<String, Object>> snapshot() {
+        aliveCount();
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (AbandonedThread abandoned : threads) {
+            Thread thread = abandoned.thread();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("deviceId", abandoned.deviceId());
+            entry.put("operation", abandoned.operation());
+            entry.put("thread", thread.getName());
+            entry.put("state", thread.getState().name());
+            entry.put("ageSeconds", (now - abandoned.abandonedAt()) / 1000);
+            List<String> frames = new ArrayList<>();
+            StackTraceElement[] stack = thread.getStackTrace();
+            for (int i = 0; i < Math.min(STACK_DEPTH, stack.length); i++) {
+                frames.add(stack[i].toString());
+            }
+            entry.put("stackTrace", frames);
+            result.add(entry);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,128 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import com.smartcoreinc.fphps.dto.EventMessageData;
+
+/**
+ * 칩 읽기 1건의 DG 이벤트별 DG 번호 판별 (DG 스트리밍과 단계 지표가 공유).
+ * lParam에 번호가 있으면 사용하고, 없으면(벤더 라이브러리는 결과 설명 문자열을 넣음) 읽기 대상 DG 중
+ * 아직 판별되지 않았고 판독기에 데이터가 있는 첫 DG로 판별.
+ * 칩에 없는 DG(읽기 대상 목록의 빈자리)는 데이터가 없어 건너뛰므로 목록 순번으로 추정할 때처럼 이후 DG 번호가 밀리지 않음.
+ *
+ * - 판별과 DG 바이트 조회는 판독기 콜백 스레드에서 수행 (판독기 버퍼는 다음 읽기 전까지만 유효)
+ * - 같은 이벤트를 여러 래퍼가 조회하면 처음 판별한 결과를 반환
+ * - 데이터 조회 함수가 없거나 판별할 수 없으면 DG 번호 -1
+ */
+public final class DataGroupSequence {
+
+    /**
+     * 판별 결과
+     * @param dataGroup DG 번호 (판별할 수 없으면 -1)
+     * @param data DG 바이트 (조회하지 못했으면 null)
+     */
+    public record Resolved(int dataGroup, byte[] data) {
+        static final Resolved UNKNOWN = new Resolved(-1, null);
+
+        public boolean isKnown() {
+            return dataGroup > 0;
+        }
+
+        public String label() {
+            return isKnown() ? "DG" + dataGroup : "DG_UNKNOWN";
+        }
+    }
+
+    private volatile List<Integer> expectedDataGroups;
+    private volatile IntFunction<byte[]> dataGroupSource;
+    private final Set<Integer> resolvedDataGroups = new HashSet<>();
+    private EventMessageData lastMessage;
+    private Resolved lastResolved;
+
+    /**
+     * @param expectedDataGroups 읽기 대상 DG 번호 목록 (읽기 순서, 모르면 빈 목록)
+     */
+    public DataGroupSequence(List<Integer> expectedDataGroups) {
+        this.expectedDataGroups = expectedDataGroups == null ? List.of() : List.copyOf(expectedDataGroups);
+    }
+
+    public List<Integer> expectedDataGroups() {
+        return expectedDataGroups;
+    }
+
+    /**
+     * 읽기 대상 DG 번호 목록 지정 (문서를 인식한 뒤에야 알 수 있는 경우)
+     */
+    public void expect(List<Integer> dataGroups) {
+        this.expectedDataGroups = List.copyOf(dataGroups);
+    }
+
+    /**
+     * DG 바이트 조회 함수 연결
+     * @param dataGroupSource DG 번호 → DG 바이트 (아직 읽지 않았거나 없으면 null)
+     */
+    public void attach(IntFunction<byte[]> dataGroupSource) {
+        this.dataGroupSource = dataGroupSource;
+    }
+
+    /**
+     * 칩 읽기 시작 시 판별 상태 초기화
+     */
+    public synchronized void reset() {
+        resolvedDataGroups.clear();
+        lastMessage = null;
+        lastResolved = null;
+    }
+
+    /**
+     * DG 이벤트의 DG 번호와 바이트 판별 (판독기 콜백 스레드에서 호출)
+     */
+    public synchronized Resolved resolve(EventMessageData message) {
+        if (message == lastMessage) {
+            return lastResolved;
+        }
+        Resolved resolved = doResolve(message);
+        if (resolved.isKnown()) {
+            resolvedDataGroups.add(resolved.dataGroup());
+        }
+        lastMessage = message;
+        lastResolved = resolved;
+        return resolved;
+    }
+
+    private Resolved doResolve(EventMessageData message) {
+        IntFunction<byte[]> source = dataGroupSource;
+        int explicit = explicitNumber(message);
+        if (explicit > 0) {
+            return new Resolved(explicit, source != null ? source.apply(explicit) : null);
+        }
+        if (source == null) {
+            return Resolved.UNKNOWN;
+        }
+        for (int dataGroup : expectedDataGroups) {
+            if (resolvedDataGroups.contains(dataGroup)) {
+                continue;
+            }
+            byte[] data = source.apply(dataGroup);
+            if (data != null && data.length > 0) {
+                return new Resolved(dataGroup, data);
+            }
+        }
+        return Resolved.UNKNOWN;
+    }
+
+    /**
+     * lParam에 담긴 DG 번호 (1~16, 없으면 -1)
+     */
+    static int explicitNumber(EventMessageData message) {
+        String lParam = message.getLParam();
+        if (lParam == null || !lParam.matches("\\d{1,2}")) {
+            return -1;
+        }
+        int dataGroup = Integer.parseInt(lParam);
+        return dataGroup >= 1 && dataGroup <= 16 ? dataGroup : -1;
+    }
+}
@@ -0,0 +1,284 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.ParsedSODInfo;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_DATA_TYPE;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_EVENTS;
+import com.smartcoreinc.fphps.interfaces.MessageBroadcastable;
+import com.smartcoreinc.fphps.readers.AbstractReader;
+import com.smartcoreinc.fphps.sod.DigestUtil;
+import com.smartcoreinc.fphps.sod.ParsedSOD;
+import com.smartcoreinc.fphps.sod.SODParser;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 칩 읽기 결과 DG 단위 스트리밍.
+ * 판독기가 EF.SOD/DG를 하나 읽을 때마다(EPASS_READ_EF_SOD/EPASS_READ_DG 이벤트) 해당 파일을 즉시 브라우저로 전송하여
+ * 나머지 DG를 읽는 동안 MRZ 표시와 SOD/DG 해시 검증을 먼저 시작할 수 있도록 함.
+ *
+ * - 읽기 1건마다 readId와 1부터 증가하는 seq를 붙여 전송 (클라이언트는 seq 누락/역전으로 유실 판단)
+ * - EF.SOD가 먼저 도착하면 이후 DG마다 SOD 해시와 비교한 결과(hashValid)를 함께 전송
+ * - DG1은 MRZ 줄(mrzLines)을 함께 전송
+ * - 파일 바이트(data)는 텍스트 클라이언트에는 base64, 바이너리 프레임 클라이언트에는 BinaryMessage로 전달됨
+ * - 판독기 콜백 스레드에서는 DG 번호 판별(DataGroupSequence)과 파일 바이트 조회만 하고 SOD 파싱/해시 검증/전송은 전송 스레드에서 수행
+ * - 파일 조회/전송 실패는 로그만 남기고 원래 이벤트 전달과 읽기 결과에는 영향 없음
+ */
+@Slf4j
+@Component
+public class DataGroupStreamer {
+
+    public static final String SOD_READ_EVENT = "EPASS_SOD_READ";
+    public static final String DG_READ_EVENT = "EPASS_DG_READ";
+
+    private final FastPassWebSocketHandler fastPassWebSocketHandler;
+    // SOD 파싱/해시 검증/전송 (판독기 콜백 스레드에서는 파일 바이트 조회만 수행, 이벤트 순서 유지를 위해 단일 스레드)
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "DgStream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DataGroupStreamer(FastPassWebSocketHandler fastPassWebSocketHandler) {
+        this.fastPassWebSocketHandler = fastPassWebSocketHandler;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    /**
+     * 읽기 1건의 스트림 생성
+     * @param deviceId 판독기 시리얼
+     * @param readId 읽기 결과 저장소의 readId (스트리밍 이벤트로 결과를 바로 조회할 수 있도록 같은 값 사용, null이면 새로 발급)
+     * @param expectedDataGroups 읽기 대상 DG 번호 목록 (DG 이벤트에 번호가 없을 때 DG 판별용)
+     */
+    public Stream open(String deviceId, String readId, List<Integer> expectedDataGroups) {
+        return new Stream(readId != null ? readId : UUID.randomUUID().toString(), deviceId,
+            new DataGroupSequence(expectedDataGroups));
+    }
+
+    /**
+     * 읽기 1건의 DG 스트림 상태.
+     * 판독기 이벤트는 한 스레드(window-proc 또는 가상 판독기 작업 스레드)에서 순서대로 오며,
+     * 그 스레드에서는 DG 판별과 파일 바이트 조회만 하고 나머지는 전송 스레드(DgStream)에서 순서대로 수행.
+     * seq/SOD/전송 DG 상태는 전송 스레드에서만 접근
+     */
+    public final class Stream {
+        private final String readId;
+        private final String deviceId;
+        private final DataGroupSequence dataGroups;
+        private final List<Integer> sentDataGroups = new ArrayList<>();
+        private volatile Supplier<byte[]> sodSource;
+        private ParsedSOD parsedSOD;
+        private int seq;
+
+        private Stream(String readId, String deviceId, DataGroupSequence dataGroups) {
+            this.readId = readId;
+            this.deviceId = deviceId;
+            this.dataGroups = dataGroups;
+        }
+
+        public String getReadId() {
+            return readId;
+        }
+
+        /**
+         * DG 이벤트 → DG 번호 판별 (단계 지표와 공유하여 같은 이벤트를 같은 DG로 기록)
+         */
+        public DataGroupSequence dataGroups() {
+            return dataGroups;
+        }
+
+        /**
+         * 벤더 판독기에서 파일 조회 (판독기 생성 직후 호출)
+         */
+        public void attach(AbstractReader reader) {
+            attach(dg -> reader.getDGDataBytes(FPHPS_DATA_TYPE.FPHPS_DT_EPASS_DG1 + dg - 1, false),
+                () -> reader.getSODataBytes(false));
+        }
+
+        /**
+         * 파일 조회 함수 연결
+         * @param dataGroupSource DG 번호 → DG 바이트 (없으면 null)
+         * @param sodSource EF.SOD 바이트 (없으면 null)
+         */
+        public void attach(IntFunction<byte[]> dataGroupSource, Supplier<byte[]> sodSource) {
+            dataGroups.attach(dataGroupSource);
+            this.sodSource = sodSource;
+        }
+
+        /**
+         * 읽기 대상 DG 번호 목록 지정 (문서를 인식한 뒤에야 알 수 있는 경우)
+         */
+        public void expectDataGroups(List<Integer> dataGroups) {
+            this.dataGroups.expect(dataGroups);
+        }
+
+        /**
+         * 판독기에 넘길 MessageBroadcastable을 감싸 SOD/DG 이벤트마다 파일을 전송.
+         * 원래 이벤트를 먼저 전달하여 기존 이벤트 순서는 그대로 유지
+         */
+        public MessageBroadcastable wrap(MessageBroadcastable target) {
+            return message -> {
+                target.broadcast(message);
+                try {
+                    switch (message.getEventId()) {
+                        case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_START -> {
+                            dataGroups.reset();
+                            publish(this::reset);
+                        }
+                        case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_EF_SOD -> {
+                            Supplier<byte[]> source = sodSource;
+                            byte[] sod = source != null ? source.get() : null;
+                            if (sod != null && sod.length > 0) {
+                                publish(() -> publishSod(sod));
+                            }
+                        }
+                        case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DG -> {
+                            DataGroupSequence.Resolved resolved = dataGroups.resolve(message);
+                            if (!resolved.isKnown()) {
+                                log.debug("DG event could not be mapped to a data group: {}", message.getLParam());
+                            } else if (resolved.data() == null || resolved.data().length == 0) {
+                                log.debug("DG{} not available for streaming", resolved.dataGroup());
+                            } else {
+                                publish(() -> publishDataGroup(resolved.dataGroup(), resolved.data()));
+                            }
+                        }
+                        default -> {
+                            // 스트리밍 대상 아님
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to stream chip data for event {}: {}", message.getEventCodeString(), e.getMessage());
+                }
+            };
+        }
+
+        private void publish(ThrowingRunnable task) {
+            try {
+                publisher.execute(() -> {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.warn("Failed to stream chip data for read {}: {}", readId, e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.debug("Chip data streaming stopped, dropping update for read {}", readId);
+            }
+        }
+
+        private void reset() {
+            parsedSOD = null;
+            sentDataGroups.clear();
+        }
+
+        private void publishSod(byte[] sod) throws Exception {
+            parsedSOD = new SODParser().parse(sod);
+
+            Map<String, Object> payload = header();
+            payload.put("length", sod.length);
+            payload.put("data", sod);
+            payload.put("parsedSOD", ParsedSODInfo.from(parsedSOD));
+            fastPassWebSocketHandler.broadcastEvent(SOD_READ_EVENT, payload);
+        }
+
+        private void publishDataGroup(int dataGroup, byte[] data) throws Exception {
+            sentDataGroups.add(dataGroup);
+
+            Map<String, Object> payload = header();
+            payload.put("dataGroup", dataGroup);
+            payload.put("length", data.length);
+            payload.put("data", data);
+            List<Integer> expected = dataGroups.expectedDataGroups();
+            payload.put("expectedDataGroups", expected);
+            payload.put("remaining", expected.stream().filter(dg -> !sentDataGroups.contains(dg)).count());
+            payload.put("hashValid", verifyHash(dataGroup, data));
+            if (dataGroup == 1) {
+                payload.put("mrzLines", mrzLines(data));
+            }
+            fastPassWebSocketHandler.broadcastEvent(DG_READ_EVENT, payload);
+        }
+
+        private Map<String, Object> header() {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("readId", readId);
+            payload.put("deviceId", deviceId);
+            payload.put("seq", ++seq);
+            return payload;
+        }
+
+        /**
+         * SOD의 DG 해시와 비교. SOD가 아직 없거나 SOD에 해당 DG 해시가 없으면 null
+         */
+        private Boolean verifyHash(int dataGroup, byte[] data) throws Exception {
+            ParsedSOD sod = parsedSOD;
+            if (sod == null || sod.dgHashes() == null || !sod.dgHashes().containsKey(dataGroup)) {
+                return null;
+            }
+            MessageDigest digest = DigestUtil.createMessageDigest(sod.digestAlgorithmOid());
+            return MessageDigest.isEqual(sod.dgHashes().get(dataGroup), digest.digest(data));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * DG1(61 { 5F1F MRZ })에서 MRZ 줄 추출. TD3(2×44), TD2(2×36), TD1(3×30) 길이로 분할
+     */
+    static List<String> mrzLines(byte[] dg1) {
+        int offset = 0;
+        for (int i = 0; i + 2 < dg1.length; i++) {
+            if ((dg1[i] & 0xFF) == 0x5F && (dg1[i + 1] & 0xFF) == 0x1F) {
+                offset = i + 2;
+                break;
+            }
+        }
+        if (offset == 0) {
+            return List.of();
+        }
+        int length = dg1[offset] & 0xFF;
+        offset++;
+        if (length > 0x80) {
+            int lengthBytes = length & 0x7F;
+            length = 0;
+            for (int i = 0; i < lengthBytes && offset < dg1.length; i++) {
+                length = (length << 8) | (dg1[offset++] & 0xFF);
+            }
+        }
+        length = Math.min(length, dg1.length - offset);
+        String mrz = new String(dg1, offset, length, StandardCharsets.US_ASCII);
+
+        int lineLength = switch (mrz.length()) {
+            case 90 -> 30;
+            case 72 -> 36;
+            default -> 44;
+        };
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < mrz.length(); i += lineLength) {
+            lines.add(mrz.substring(i, Math.min(mrz.length(), i + lineLength)));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,26 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.Map;
+
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.manager.FPHPSDevice;
+
+/**
+ * 판독기 백엔드.
+ * 실제 FastPass 장치(네이티브 라이브러리)와 시뮬레이터를 Spring 프로필로 교체할 수 있도록 분리
+ */
+public interface DeviceBackend {
+
+    /**
+     * 연결된 판독기 열거
+     * @return 판독기 시리얼 → 디바이스 (열거 순서 유지)
+     */
+    Map<String, FPHPSDevice> discoverDevices();
+
+    /**
+     * 페이지 스캔 (열린 디바이스에서 호출)
+     * @param device 열린 디바이스
+     * @param lightType 조명 종류
+     */
+    FPHPSImage scanPage(FPHPSDevice device, int lightType);
+}
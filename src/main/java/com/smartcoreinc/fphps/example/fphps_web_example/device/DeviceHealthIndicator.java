@@ -0,0 +1,35 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.Services.FPHPSService;
+import com.smartcoreinc.fphps.example.fphps_web_example.Services.FPHPSService.DeviceReadiness;
+
+/**
+ * 판독기 준비 상태 health 기여자 (/actuator/health 의 "device").
+ * 판독기가 없거나 초기화 중이어도 웹 애플리케이션 자체는 동작하므로 DOWN 대신 UNKNOWN으로 보고하여
+ * 전체 health 상태를 떨어뜨리지 않음
+ */
+@Component("device")
+public class DeviceHealthIndicator implements HealthIndicator {
+
+    private final FPHPSService fphpsService;
+
+    public DeviceHealthIndicator(FPHPSService fphpsService) {
+        this.fphpsService = fphpsService;
+    }
+
+    @Override
+    public Health health() {
+        DeviceReadiness readiness = fphpsService.getDeviceReadiness();
+        Health.Builder builder = readiness == DeviceReadiness.READY ? Health.up() : Health.unknown();
+        builder.withDetail("readiness", readiness.name())
+            .withDetail("devices", fphpsService.getDeviceIds());
+        if (fphpsService.getReadinessMessage() != null) {
+            builder.withDetail("message", fphpsService.getReadinessMessage());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
+import com.smartcoreinc.fphps.exception.FPHPSException;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_PROPERTY_TYPE;
+import com.smartcoreinc.fphps.manager.FPHPSDevice;
+import com.smartcoreinc.fphps.settings.FPHPSDeviceSetting;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판독기 속성 적용기.
+ * 판독기별로 마지막에 적용한 속성을 기억하고, 바뀐 항목만 네이티브 호출로 전달.
+ *
+ * - 세션 식별: openDevice() 시마다 새 FPHPSDeviceSetting이 생성되므로 인스턴스가 바뀌면 새 세션으로 간주하고
+ *   open 시 판독기에서 읽어 둔 속성(FPHPSDevice.getDeviceProperties())을 기준값으로 사용
+ * - 적용한 속성은 복사본으로 보관 (공유 FPHPSDeviceProperties 객체를 벤더 라이브러리에 넘기지 않음)
+ * - 같은 설정으로 반복 읽기 시 네이티브 속성 호출 0회
+ */
+@Slf4j
+@Component
+public class DevicePropertyApplier {
+
+    /**
+     * 정수 속성 ID와 값 추출 함수 (FPHPSDeviceSetting.setDeviceProperties()가 적용하는 항목과 동일)
+     */
+    private record IntProperty(int propertyId, ToIntFunction<FPHPSDeviceProperties> getter) {}
+
+    private static final List<IntProperty> INT_PROPERTIES = List.of(
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_TIMEOUT, FPHPSDeviceProperties::getReadTimeout),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_DETECT_DELAY_TIME, FPHPSDeviceProperties::getDetectDelayTime),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_CHECK_REMOVE, FPHPSDeviceProperties::getCheckRemove),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_USERMODE_LED, FPHPSDeviceProperties::getUserModeLed),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_RF, FPHPSDeviceProperties::getEnableRF),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_METHOD, FPHPSDeviceProperties::getReadMethod),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_BARCODE, FPHPSDeviceProperties::getEnableBarcode),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_BUZZER, FPHPSDeviceProperties::getEnableBuzzer),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_IDCARD, FPHPSDeviceProperties::getEnableIDCard),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_RF_READ_SIZE, FPHPSDeviceProperties::getRfReadSize),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_RF_USE_SFI, FPHPSDeviceProperties::getRfUseSFI),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_EPASS_AUTH_BYPASS, FPHPSDeviceProperties::getAuthByPass),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ANTI_GLARE, FPHPSDeviceProperties::getAntiGlare),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_SECURITY_CHECK, FPHPSDeviceProperties::getSecurityCheck),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_ENHANCE_WH, FPHPSDeviceProperties::getEnableEnhanceWH),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_ENHANCE_UV, FPHPSDeviceProperties::getEnableEnhanceUV),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ANTI_GLARE_IR, FPHPSDeviceProperties::getAntiGlareIR),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ANTI_GLARE_IRHALF, FPHPSDeviceProperties::getAntiGlareIRHalf),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_ENHANCE_IR, FPHPSDeviceProperties::getEnableEnhanceIR),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_STRENGTH_WH, FPHPSDeviceProperties::getStrengthWH),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_STRENGTH_IR, FPHPSDeviceProperties::getStrengthIR),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_UVSUBSTRACT, FPHPSDeviceProperties::getEnableUVSubtract),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_CHANGE_SC, FPHPSDeviceProperties::getChangeSC),
+        new IntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_CROP, FPHPSDeviceProperties::getCrop)
+    );
+
+    /**
+     * 판독기별 마지막 적용 상태 (어느 세션의 FPHPSDeviceSetting에 적용했는지 함께 보관)
+     */
+    private record AppliedState(FPHPSDeviceSetting setting, FPHPSDeviceProperties properties) {}
+
+    private final Map<String, AppliedState> appliedStates = new ConcurrentHashMap<>();
+    private final Counter nativeWriteCounter;
+    private final Counter skippedApplyCounter;
+    private final DeviceStageMetrics stageMetrics;
+
+    public DevicePropertyApplier(MeterRegistry meterRegistry, DeviceStageMetrics stageMetrics) {
+        this.stageMetrics = stageMetrics;
+        this.nativeWriteCounter = Counter.builder("fphps.device.properties.writes")
+            .description("Native property write calls issued to readers")
+            .register(meterRegistry);
+        this.skippedApplyCounter = Counter.builder("fphps.device.properties.unchanged")
+            .description("Property applications that needed no native call")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 원하는 속성을 판독기에 적용 (변경된 항목만 전달).
+     * 전달받은 properties 객체는 보관하지 않으므로 호출자가 이후 수정해도 영향 없음
+     * @param device 열린 판독기
+     * @param desired 적용할 속성
+     * @return 실제 수행한 네이티브 호출 수
+     */
+    public int apply(FPHPSDevice device, FPHPSDeviceProperties desired) {
+        String deviceId = device.getDeviceInfo().getDeviceSerial();
+        FPHPSDeviceSetting setting = device.getDeviceSetting();
+
+        AppliedState state = appliedStates.get(deviceId);
+        FPHPSDeviceProperties current = (state != null && state.setting() == setting)
+            ? state.properties()
+            : device.getDeviceProperties(); // 새 세션: open 시 판독기에서 읽은 값
+
+        int writes = 0;
+        long start = System.nanoTime();
+        try {
+            for (IntProperty property : INT_PROPERTIES) {
+                int value = property.getter().applyAsInt(desired);
+                if (current == null || property.getter().applyAsInt(current) != value) {
+                    setting.setIntProperty(property.propertyId(), value);
+                    writes++;
+                }
+            }
+            if (desired.getBatchModeProperties() != null
+                    && (current == null || !Objects.equals(current.getBatchModeProperties(), desired.getBatchModeProperties()))) {
+                setting.setBatchModeProperties(desired.getBatchModeProperties());
+                writes++;
+            }
+            if (desired.getEPassportAuthProperties() != null
+                    && (current == null || !Objects.equals(current.getEPassportAuthProperties(), desired.getEPassportAuthProperties()))) {
+                setting.setEPassportAuthProperties(desired.getEPassportAuthProperties());
+                writes++;
+            }
+            if (desired.getEPassportDGProperties() != null
+                    && (current == null || !Objects.equals(current.getEPassportDGProperties(), desired.getEPassportDGProperties()))) {
+                setting.setEPassportDGProperties(desired.getEPassportDGProperties());
+                writes++;
+            }
+            if (desired.getBarcodeConfigProperties() != null
+                    && (current == null || !Objects.equals(current.getBarcodeConfigProperties(), desired.getBarcodeConfigProperties()))) {
+                setting.setBarcodeConfigProperties(desired.getBarcodeConfigProperties());
+                writes++;
+            }
+        } catch (FPHPSException e) {
+            // 일부만 적용되었을 수 있으므로 다음 호출에서 open 시 값 기준으로 다시 비교하도록 초기화
+            appliedStates.remove(deviceId);
+            nativeWriteCounter.increment(writes);
+            throw e;
+        }
+
+        appliedStates.put(deviceId, new AppliedState(setting, copyOf(desired)));
+        stageMetrics.record(DeviceStageMetrics.Stage.PROPERTIES, System.nanoTime() - start);
+        if (writes > 0) {
+            nativeWriteCounter.increment(writes);
+            log.debug("Applied {} changed properties to device {}", writes, deviceId);
+        } else {
+            skippedApplyCounter.increment();
+            log.debug("Device {} properties unchanged, no native call", deviceId);
+        }
+        return writes;
+    }
+
+    /**
+     * 판독기의 적용 상태 초기화 (재연결 등으로 판독기 상태를 알 수 없을 때)
+     */
+    public void invalidate(String deviceId) {
+        appliedStates.remove(deviceId);
+    }
+
+    /**
+     * FPHPSDeviceProperties 복사본 생성.
+     * 하위 속성 객체(BatchMode, DG, Auth, BarcodeConfig)는 불변이므로 참조를 공유
+     */
+    public static FPHPSDeviceProperties copyOf(FPHPSDeviceProperties source) {
+        FPHPSDeviceProperties copy = new FPHPSDeviceProperties();
+        copy.setReadMethod(source.getReadMethod());
+        copy.setReadTimeout(source.getReadTimeout());
+        copy.setDetectDelayTime(source.getDetectDelayTime());
+        copy.setCheckRemove(source.getCheckRemove());
+        copy.setUserModeLed(source.getUserModeLed());
+        copy.setEnableBuzzer(source.getEnableBuzzer());
+        copy.setAntiGlare(source.getAntiGlare());
+        copy.setAntiGlareIR(source.getAntiGlareIR());
+        copy.setAntiGlareIRHalf(source.getAntiGlareIRHalf());
+        copy.setEnableEnhanceIR(source.getEnableEnhanceIR());
+        copy.setEnableEnhanceUV(source.getEnableEnhanceUV());
+        copy.setEnableEnhanceWH(source.getEnableEnhanceWH());
+        copy.setStrengthWH(source.getStrengthWH());
+        copy.setStrengthIR(source.getStrengthIR());
+        copy.setEnableUVSubtract(source.getEnableUVSubtract());
+        copy.setChangeSC(source.getChangeSC());
+        copy.setCrop(source.getCrop());
+        copy.setCurrentActiveReadState(source.getCurrentActiveReadState());
+        copy.setBatchModeProperties(source.getBatchModeProperties());
+        copy.setEnableRF(source.getEnableRF());
+        copy.setRfReadSize(source.getRfReadSize());
+        copy.setRfUseSFI(source.getRfUseSFI());
+        copy.setEnableIDCard(source.getEnableIDCard());
+        copy.setSecurityCheck(source.getSecurityCheck());
+        copy.setEnableBarcode(source.getEnableBarcode());
+        copy.setBarcodeConfigProperties(source.getBarcodeConfigProperties());
+        copy.setAuthByPass(source.getAuthByPass());
+        copy.setEPassportDGProperties(source.getEPassportDGProperties());
+        copy.setEPassportAuthProperties(source.getEPassportAuthProperties());
+        return copy;
+    }
+}
@@ -0,0 +1,336 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.dto.EventMessageData;
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_EVENTS;
+import com.smartcoreinc.fphps.interfaces.MessageBroadcastable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 디바이스 작업 단계별 지연 히스토그램.
+ * 작업 1건(Trace)마다 문서 종류(docType)와 모드(auto/manual/diagnostic)를 태그로 붙여 단계별 시간을 기록.
+ *
+ * - 대기열/open/속성 적용/close/전체: 디바이스 작업 스레드에 바인딩된 Trace로 기록
+ * - MRZ/VIZ 캡처, RF 칩 읽기, DG별 읽기: 판독기 이벤트는 벤더 window-proc 스레드에서 오므로
+ *   판독기에 넘기는 MessageBroadcastable을 감싸(instrument) 이벤트 시각으로 구간을 계산
+ * - /actuator/prometheus (fphps_device_stage_seconds_bucket 등)와 /device-metrics 요약 화면으로 노출
+ */
+@Slf4j
+@Component
+public class DeviceStageMetrics {
+
+    public static final String STAGE_METRIC = "fphps.device.stage";
+    public static final String CHIP_STEP_METRIC = "fphps.device.chip.step";
+
+    /** 작업 모드 태그 값 */
+    public static final String MODE_AUTO = "auto";
+    public static final String MODE_MANUAL = "manual";
+    public static final String MODE_DIAGNOSTIC = "diagnostic";
+
+    /** 작업 단계 */
+    public enum Stage {
+        QUEUE_WAIT,     // 판독기 배정 대기
+        OPEN,           // openDevice()
+        PROPERTIES,     // 속성 적용 (setDeviceProperties)
+        CAPTURE,        // MRZ/VIZ 이미지 캡처 (CAPTURE_STARTED → 칩 감지/페이지 캡처)
+        CHIP,           // RF 칩 읽기 (EPASS_READ_START → EPASS_READ_DONE)
+        DOCUMENT_DATA,  // getDocumentData() - 결과 수집
+        CLOSE,          // closeDevice()
+        TOTAL;          // 대기열 포함 작업 전체
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 디바이스 작업 1건의 단계 기록 상태.
+     * 이벤트 시각 필드는 window-proc 스레드와 작업 스레드가 함께 접근하므로 volatile
+     */
+    public static final class Trace {
+        private final String docType;
+        private final String mode;
+        private final long startedAt = System.nanoTime();
+        private volatile long captureStartedAt;
+        private volatile boolean captureRecorded;
+        private volatile long chipStartedAt;
+        private volatile long chipStepAt;
+        private volatile long readDoneAt;
+        private volatile DataGroupSequence dataGroups;
+
+        private Trace(String docType, String mode) {
+            this.docType = docType == null ? "UNKNOWN" : docType.toUpperCase(Locale.ROOT);
+            this.mode = mode;
+        }
+
+        public String getDocType() {
+            return docType;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+    }
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public DeviceStageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 새 작업 Trace 생성 (아직 스레드에 바인딩하지 않음)
+     */
+    public Trace newTrace(String docType, String mode) {
+        return new Trace(docType, mode);
+    }
+
+    /**
+     * 디바이스 작업 스레드에 Trace 바인딩 (작업 종료 시 unbind() 필수)
+     */
+    public void bind(Trace trace) {
+        CURRENT.set(trace);
+    }
+
+    public void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 Trace로 단계 시간 기록. 바인딩된 Trace가 없으면 무시 (유휴 세션 정리 등)
+     */
+    public void record(Stage stage, long nanos) {
+        Trace trace = CURRENT.get();
+        if (trace != null) {
+            record(trace, stage, nanos);
+        }
+    }
+
+    public void record(Trace trace, Stage stage, long nanos) {
+        record(stage, trace.docType, trace.mode, nanos);
+    }
+
+    public void record(Stage stage, String docType, String mode, long nanos) {
+        stageTimer(stage.tag(), docType, mode).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * DG 이벤트의 DG 번호 판별기 지정 (DG 스트리밍과 같은 판별 결과로 DG별 시간 기록)
+     */
+    public void expectDataGroups(DataGroupSequence dataGroups) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return;
+        }
+        trace.dataGroups = dataGroups;
+    }
+
+    /**
+     * 읽기 대상으로 설정된 DG 번호 목록 (오름차순)
+     */
+    public static List<Integer> enabledDataGroups(EPassportDGProperties dgProperties) {
+        if (dgProperties == null) {
+            return List.of();
+        }
+        int[] flags = {
+            dgProperties.getDg1(), dgProperties.getDg2(), dgProperties.getDg3(), dgProperties.getDg4(),
+            dgProperties.getDg5(), dgProperties.getDg6(), dgProperties.getDg7(), dgProperties.getDg8(),
+            dgProperties.getDg9(), dgProperties.getDg10(), dgProperties.getDg11(), dgProperties.getDg12(),
+            dgProperties.getDg13(), dgProperties.getDg14(), dgProperties.getDg15(), dgProperties.getDg16()
+        };
+        List<Integer> dataGroups = new ArrayList<>();
+        for (int i = 0; i < flags.length; i++) {
+            if (flags[i] == 1) {
+                dataGroups.add(i + 1);
+            }
+        }
+        return List.copyOf(dataGroups);
+    }
+
+    /**
+     * 판독기에 넘길 MessageBroadcastable을 감싸 이벤트로 캡처/칩/DG 구간을 기록.
+     * 현재 스레드에 Trace가 없으면 원본을 그대로 반환
+     */
+    public MessageBroadcastable instrument(MessageBroadcastable target) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return target;
+        }
+        return message -> {
+            try {
+                onEvent(trace, message);
+            } catch (Exception e) {
+                log.debug("Failed to record stage for event {}: {}", message.getEventCodeString(), e.getMessage());
+            }
+            target.broadcast(message);
+        };
+    }
+
+    /**
+     * 판독기 read() 반환 시 호출. Manual 모드에서는 read() 안에서 getDocumentData()까지 수행되므로
+     * 마지막 완료 이벤트부터 반환까지를 결과 수집 시간으로 기록
+     */
+    public void readerReturned() {
+        Trace trace = CURRENT.get();
+        if (trace == null || !MODE_MANUAL.equals(trace.mode) || trace.readDoneAt == 0) {
+            return;
+        }
+        record(trace, Stage.DOCUMENT_DATA, System.nanoTime() - trace.readDoneAt);
+    }
+
+    /**
+     * Trace 시작부터 현재까지를 전체 시간으로 기록
+     */
+    public void complete(Trace trace) {
+        record(trace, Stage.TOTAL, System.nanoTime() - trace.startedAt);
+    }
+
+    private void onEvent(Trace trace, EventMessageData message) {
+        long now = System.nanoTime();
+        switch (message.getEventId()) {
+            case FPHPS_EVENTS.FPHPS_EV_CAPTURE_STARTED -> {
+                trace.captureStartedAt = now;
+                trace.captureRecorded = false;
+            }
+            case FPHPS_EVENTS.FPHPS_EV_EPASS_DETECTED, FPHPS_EVENTS.FPHPS_EV_BARCODE_FOUND -> finishCapture(trace, now);
+            case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_START -> {
+                finishCapture(trace, now);
+                trace.chipStartedAt = now;
+                trace.chipStepAt = now;
+            }
+            case FPHPS_EVENTS.FPHPS_EV_EPASS_BAC -> recordChipStep(trace, "BAC", now);
+            case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_EF_SOD -> recordChipStep(trace, "SOD", now);
+            case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DG -> recordChipStep(trace, dataGroupLabel(trace, message), now);
+            case FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DONE -> {
+                if (trace.chipStartedAt != 0) {
+                    record(trace, Stage.CHIP, now - trace.chipStartedAt);
+                    trace.chipStartedAt = 0;
+                }
+                trace.readDoneAt = now;
+            }
+            case FPHPS_EVENTS.FPHPS_EV_PAGE_CAPTURED -> {
+                finishCapture(trace, now);
+                trace.readDoneAt = now;
+            }
+            default -> {
+                // 단계 구분에 쓰지 않는 이벤트
+            }
+        }
+    }
+
+    private void finishCapture(Trace trace, long now) {
+        if (trace.captureStartedAt != 0 && !trace.captureRecorded) {
+            trace.captureRecorded = true;
+            record(trace, Stage.CAPTURE, now - trace.captureStartedAt);
+        }
+    }
+
+    private void recordChipStep(Trace trace, String step, long now) {
+        if (trace.chipStepAt == 0) {
+            return;
+        }
+        Timer.builder(CHIP_STEP_METRIC)
+            .description("RF chip read time per access step and data group")
+            .tag("step", step)
+            .tag("docType", trace.docType)
+            .tag("mode", trace.mode)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(now - trace.chipStepAt, TimeUnit.NANOSECONDS);
+        trace.chipStepAt = now;
+    }
+
+    /**
+     * DG 이벤트의 DG 태그 (판별기가 없으면 lParam의 번호만 사용)
+     */
+    private static String dataGroupLabel(Trace trace, EventMessageData message) {
+        DataGroupSequence dataGroups = trace.dataGroups;
+        if (dataGroups != null) {
+            return dataGroups.resolve(message).label();
+        }
+        int dataGroup = DataGroupSequence.explicitNumber(message);
+        return dataGroup > 0 ? "DG" + dataGroup : "DG_UNKNOWN";
+    }
+
+    private Timer stageTimer(String stage, String docType, String mode) {
+        return timers.computeIfAbsent(stage + '|' + docType + '|' + mode, key -> Timer.builder(STAGE_METRIC)
+            .description("Device operation latency per stage")
+            .tag("stage", stage)
+            .tag("docType", docType)
+            .tag("mode", mode)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    /**
+     * 단계별 요약 (요약 화면/JSON 조회용). 단위: 밀리초
+     */
+    public List<Map<String, Object>> summary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        meterRegistry.find(STAGE_METRIC).timers().forEach(timer -> rows.add(summarize(timer, "stage")));
+        meterRegistry.find(CHIP_STEP_METRIC).timers().forEach(timer -> rows.add(summarize(timer, "step")));
+        rows.sort(Comparator.comparing((Map<String, Object> row) -> String.valueOf(row.get("docType")))
+            .thenComparing(row -> String.valueOf(row.get("mode")))
+            .thenComparingInt(DeviceStageMetrics::rowOrder)
+            .thenComparing(row -> String.valueOf(row.get("stage")), Comparator.comparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder())));
+        return rows;
+    }
+
+    private static Map<String, Object> summarize(Timer timer, String stageTag) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("metric", timer.getId().getName());
+        row.put("stage", timer.getId().getTag(stageTag));
+        row.put("docType", timer.getId().getTag("docType"));
+        row.put("mode", timer.getId().getTag("mode"));
+        row.put("count", snapshot.count());
+        row.put("meanMs", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+        row.put("maxMs", round(snapshot.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            row.put("p" + Math.round(percentile.percentile() * 100) + "Ms",
+                round(percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        return row;
+    }
+
+    /**
+     * 요약 행 순서: 단계 순서대로, 칩 단계(BAC, SOD, DG번호)는 chip 바로 뒤
+     */
+    private static int rowOrder(Map<String, Object> row) {
+        if (CHIP_STEP_METRIC.equals(row.get("metric"))) {
+            return Stage.CHIP.ordinal() * 2 + 1;
+        }
+        for (Stage stage : Stage.values()) {
+            if (stage.tag().equals(row.get("stage"))) {
+                return stage.ordinal() * 2;
+            }
+        }
+        return Stage.values().length * 2;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
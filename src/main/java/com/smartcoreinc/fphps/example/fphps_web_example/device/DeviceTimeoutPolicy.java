@@ -0,0 +1,207 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 디바이스 작업 타임아웃 정책.
+ * 작업 종류(문서 종류/모드/읽을 DG 조합)별로 최근 성공한 작업 시간을 보관하고
+ * 분위수(기본 p99.9) × 안전 계수로 타임아웃을 계산. 항상 [floor, ceiling] 범위로 제한.
+ *
+ * - 표본이 min-samples 미만이면 ceiling 사용 (기존 고정 타임아웃과 동일)
+ * - 타임아웃이 연속 발생하면 해당 작업 종류의 타임아웃을 2배씩 늘려 느리지만 정상인 읽기가 계속 끊기지 않도록 함
+ * - Auto 모드는 floor와 ceiling 모두 문서 투입 대기 시간(판독기 READ_TIMEOUT)만큼 늘려 대기 시간이 끝나기 전에 끊지 않음
+ * - adaptive=false이면 항상 ceiling (Auto 모드 보정 없음, 기존 고정 타임아웃과 동일)
+ */
+@Slf4j
+@Component
+public class DeviceTimeoutPolicy {
+
+    /** 연속 타임아웃 시 최대 확장 단계 (2^n) */
+    private static final int MAX_BACKOFF_STEPS = 4;
+
+    /**
+     * 작업 1건에 적용할 타임아웃
+     * @param key 작업 종류 키 (예: PASSPORT/manual/DG1+DG2+DG14)
+     * @param millis 타임아웃 (ms)
+     * @param learned 관측값으로 계산되었는지 여부 (false면 ceiling)
+     */
+    public record OperationTimeout(String key, long millis, boolean learned) {}
+
+    @Value("${device.timeout.adaptive:true}")
+    private boolean adaptive;
+
+    @Value("${device.timeout.percentile:0.999}")
+    private double percentile;
+
+    @Value("${device.timeout.safety-factor:3.0}")
+    private double safetyFactor;
+
+    @Value("${device.timeout.min-samples:20}")
+    private int minSamples;
+
+    @Value("${device.timeout.window:500}")
+    private int windowSize;
+
+    @Value("${device.timeout.floor-seconds:5}")
+    private long floorSeconds;
+
+    @Value("${device.timeout.ceiling-seconds:60}")
+    private long ceilingSeconds;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public DeviceTimeoutPolicy(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 작업 종류별 최근 작업 시간 (고정 크기 순환 버퍼)
+     */
+    private final class LatencyWindow {
+        private final long[] samples;
+        private int size;
+        private int next;
+        private int consecutiveTimeouts;
+        private volatile long lastTimeoutMillis;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[Math.max(1, capacity)];
+        }
+
+        synchronized void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            consecutiveTimeouts = 0;
+        }
+
+        synchronized void timedOut() {
+            consecutiveTimeouts = Math.min(consecutiveTimeouts + 1, MAX_BACKOFF_STEPS);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized int consecutiveTimeouts() {
+            return consecutiveTimeouts;
+        }
+
+        synchronized long quantileNanos(double q) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(q * size) - 1;
+            return sorted[Math.max(0, Math.min(index, size - 1))];
+        }
+    }
+
+    /**
+     * 작업 종류 키. 여권 칩 읽기는 읽을 DG 조합에 따라 시간이 크게 달라지므로 DG 조합을 포함
+     */
+    public String operationKey(String docType, String mode, FPHPSDeviceProperties properties) {
+        StringBuilder key = new StringBuilder(docType == null ? "UNKNOWN" : docType.toUpperCase(Locale.ROOT))
+            .append('/').append(mode);
+        if ("PASSPORT".equalsIgnoreCase(docType) && properties != null) {
+            List<Integer> dataGroups = DeviceStageMetrics.enabledDataGroups(properties.getEPassportDGProperties());
+            key.append('/').append(dataGroups.isEmpty() ? "NO_DG"
+                : dataGroups.stream().map(dg -> "DG" + dg).collect(Collectors.joining("+")));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 작업에 적용할 타임아웃 계산
+     * @param properties 읽기에 사용할 속성 (Auto 모드의 문서 투입 대기 시간, DG 조합 판단용. 없으면 null)
+     */
+    public OperationTimeout timeoutFor(String docType, String mode, FPHPSDeviceProperties properties) {
+        String key = operationKey(docType, mode, properties);
+        long ceilingMillis = TimeUnit.SECONDS.toMillis(ceilingSeconds);
+        if (!adaptive) {
+            return new OperationTimeout(key, ceilingMillis, false);
+        }
+        LatencyWindow window = windows.get(key);
+        long floorMillis = TimeUnit.SECONDS.toMillis(floorSeconds);
+        if (DeviceStageMetrics.MODE_AUTO.equals(mode) && properties != null && properties.getReadTimeout() > 0) {
+            // 문서가 놓이기를 기다리는 시간은 판독기 속성으로 정해지므로 ceiling으로 자르지 않고 양쪽 모두 늘림
+            long documentWaitMillis = TimeUnit.SECONDS.toMillis(properties.getReadTimeout());
+            floorMillis += documentWaitMillis;
+            ceilingMillis += documentWaitMillis;
+        }
+        if (window == null || window.size() < minSamples) {
+            return new OperationTimeout(key, ceilingMillis, false);
+        }
+
+        long millis = (long) (TimeUnit.NANOSECONDS.toMillis(window.quantileNanos(percentile)) * safetyFactor);
+        millis <<= window.consecutiveTimeouts();
+        millis = Math.min(ceilingMillis, Math.max(floorMillis, millis));
+        window.lastTimeoutMillis = millis;
+        return new OperationTimeout(key, millis, true);
+    }
+
+    /**
+     * 정상 완료된 작업 시간 기록 (실패/타임아웃 작업은 기록하지 않음)
+     */
+    public void recordSuccess(String key, long nanos) {
+        window(key).add(nanos);
+    }
+
+    /**
+     * 타임아웃 기록. 연속 타임아웃 수만큼 다음 타임아웃을 늘림
+     */
+    public void recordTimeout(String key) {
+        LatencyWindow window = window(key);
+        window.timedOut();
+        log.warn("Device operation {} timed out ({} consecutive)", key, window.consecutiveTimeouts());
+    }
+
+    private LatencyWindow window(String key) {
+        return windows.computeIfAbsent(key, k -> {
+            LatencyWindow window = new LatencyWindow(windowSize);
+            window.lastTimeoutMillis = TimeUnit.SECONDS.toMillis(ceilingSeconds);
+            Gauge.builder("fphps.device.timeout.budget", window, w -> w.lastTimeoutMillis / 1000.0)
+                .description("Most recent adaptive timeout applied to a device operation type")
+                .tag("operation", k)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            return window;
+        });
+    }
+
+    /**
+     * 작업 종류별 타임아웃 상태 (조회용)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new TreeMap<>();
+        windows.forEach((key, window) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            int size = window.size();
+            entry.put("samples", size);
+            if (size > 0) {
+                entry.put("quantileMs", TimeUnit.NANOSECONDS.toMillis(window.quantileNanos(percentile)));
+            }
+            entry.put("consecutiveTimeouts", window.consecutiveTimeouts());
+            entry.put("learned", adaptive && size >= minSamples);
+            entry.put("timeoutMs", window.lastTimeoutMillis);
+            result.put(key, entry);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.manager.FPHPSDevice;
+import com.smartcoreinc.fphps.manager.FPHPSDeviceManager;
+import com.smartcoreinc.fphps.readers.PageScanner;
+
+/**
+ * FastPass 네이티브 라이브러리 기반 판독기 백엔드 (기본)
+ */
+@Component
+@Profile("!simulator")
+public class NativeDeviceBackend implements DeviceBackend {
+
+    private final FPHPSDeviceManager deviceManager;
+
+    public NativeDeviceBackend() {
+        this.deviceManager = FPHPSDeviceManager.getInstance();
+    }
+
+    @Override
+    public Map<String, FPHPSDevice> discoverDevices() {
+        deviceManager.enumerateDevices();
+        Map<String, FPHPSDevice> devices = new LinkedHashMap<>();
+        List<String> serials = deviceManager.getConnectedDevices();
+        if (serials != null) {
+            for (String serial : serials) {
+                devices.put(serial, deviceManager.getDevice(serial));
+            }
+        }
+        return devices;
+    }
+
+    @Override
+    public FPHPSImage scanPage(FPHPSDevice device, int lightType) {
+        PageScanner scanner = new PageScanner(device);
+        return scanner.scan(lightType);
+    }
+}
@@ -0,0 +1,32 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 업무별 DG 읽기 프로필을 영구 저장하기 위한 JPA 엔티티
+ * 예) gate: DG1,2,14 / enrolment: DG1~16. EF.SOD는 RF 읽기 시 항상 읽으므로 목록에 포함하지 않음
+ */
+@Entity
+@Table(name = "dg_read_profile")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DgReadProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, unique = true)
+    private String name;
+
+    @Column(name = "description")
+    private String description;
+
+    // 읽을 DG 번호 (쉼표 구분, 예: "1,2,14")
+    @Column(name = "data_groups", nullable = false)
+    private String dataGroups;
+}
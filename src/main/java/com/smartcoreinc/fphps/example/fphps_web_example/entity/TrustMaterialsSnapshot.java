@@ -0,0 +1,42 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 클라이언트 PA Trust Materials(CSCA/Link Certificate/CRL)를 국가별로 영구 저장하기 위한 JPA 엔티티
+ * 재시작 후나 PKD 서버 장애 시에도 마지막으로 받은 Trust Materials로 검증할 수 있도록 SQLite에 보관
+ */
+@Entity
+@Table(name = "trust_materials_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrustMaterialsSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ISO 3166-1 alpha-2 국가 코드 (예: KR)
+    @Column(name = "country_code", nullable = false, unique = true)
+    private String countryCode;
+
+    // CSCA/Link/CRL fingerprint 기반 내용 버전 (같은 내용이면 같은 값)
+    @Column(name = "version", nullable = false)
+    private String version;
+
+    // Trust Materials 응답 data (JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // 마지막으로 PKD 서버에서 받은 시각 (epoch ms)
+    @Column(name = "downloaded_at", nullable = false)
+    private long downloadedAt;
+
+    // 이 시각 이후에는 서버 장애 시에도 사용하지 않음 (epoch ms)
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.repository;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.entity.DgReadProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DG 읽기 프로필 영구 저장을 위한 JPA Repository
+ */
+@Repository
+public interface DgReadProfileRepository extends JpaRepository<DgReadProfile, Long> {
+
+    Optional<DgReadProfile> findByName(String name);
+
+    List<DgReadProfile> findAllByOrderByNameAsc();
+}
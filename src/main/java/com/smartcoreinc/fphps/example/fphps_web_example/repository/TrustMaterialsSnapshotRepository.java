@@ -0,0 +1,16 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.repository;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.entity.TrustMaterialsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 국가별 Trust Materials 영구 저장을 위한 JPA Repository
+ */
+@Repository
+public interface TrustMaterialsSnapshotRepository extends JpaRepository<TrustMaterialsSnapshot, Long> {
+
+    Optional<TrustMaterialsSnapshot> findByCountryCode(String countryCode);
+}
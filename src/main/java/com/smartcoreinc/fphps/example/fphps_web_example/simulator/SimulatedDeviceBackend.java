@@ -0,0 +1,56 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.dto.DeviceInfo;
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.exception.FPHPSException;
+import com.smartcoreinc.fphps.manager.FPHPSDevice;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceBackend;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 판독기 백엔드 (simulator 프로필).
+ * simulator.device-count 만큼 SIM-0001, SIM-0002 ... 시리얼의 가상 장치를 제공
+ */
+@Slf4j
+@Component
+@Profile("simulator")
+public class SimulatedDeviceBackend implements DeviceBackend {
+
+    private final SimulatorSettings settings;
+    private final SimulatedDocumentSource documentSource;
+    private final Map<String, FPHPSDevice> devices = new LinkedHashMap<>();
+
+    public SimulatedDeviceBackend(SimulatorSettings settings, SimulatedDocumentSource documentSource) {
+        this.settings = settings;
+        this.documentSource = documentSource;
+    }
+
+    @Override
+    public synchronized Map<String, FPHPSDevice> discoverDevices() {
+        // 재탐색 시 같은 인스턴스를 반환하여 기존 슬롯이 유지되도록 함
+        for (int i = 1; i <= Math.max(1, settings.getDeviceCount()); i++) {
+            String serial = String.format("SIM-%04d", i);
+            devices.computeIfAbsent(serial,
+                s -> new SimulatedFPHPSDevice(new DeviceInfo(0, "FastPass Simulator", s), settings));
+        }
+        log.info("Simulator discovered {} device(s)", devices.size());
+        return new LinkedHashMap<>(devices);
+    }
+
+    @Override
+    public FPHPSImage scanPage(FPHPSDevice device, int lightType) {
+        if (!device.isDeviceOpened()) {
+            throw new FPHPSException("Device is not opened: " + device.getDeviceInfo().getDeviceSerial());
+        }
+        settings.pause(settings.getScanLatencyMs());
+        SimulatedDocument document = documentSource.next();
+        return document.getWhImage();
+    }
+}
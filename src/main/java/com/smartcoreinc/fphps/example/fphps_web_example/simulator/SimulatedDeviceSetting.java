@@ -0,0 +1,151 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.smartcoreinc.fphps.dto.properties.BarcodeConfigProperties;
+import com.smartcoreinc.fphps.dto.properties.BatchModeProperties;
+import com.smartcoreinc.fphps.dto.properties.EPassportAuthProperties;
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
+import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_PROPERTY_TYPE;
+import com.smartcoreinc.fphps.settings.FPHPSDeviceSetting;
+
+/**
+ * 메모리에 속성을 보관하는 가상 디바이스 설정 (네이티브 호출 없음)
+ */
+public class SimulatedDeviceSetting extends FPHPSDeviceSetting {
+
+    private final Map<Integer, Integer> intProperties = new ConcurrentHashMap<>();
+    private volatile BatchModeProperties batchModeProperties;
+    private volatile EPassportDGProperties ePassportDGProperties;
+    private volatile EPassportAuthProperties ePassportAuthProperties;
+    private volatile BarcodeConfigProperties barcodeConfigProperties;
+
+    public SimulatedDeviceSetting() {
+        super(null);
+        setDeviceProperties(defaultProperties());
+    }
+
+    /**
+     * 실제 장치의 공장 기본값에 가까운 초기 속성
+     */
+    private static FPHPSDeviceProperties defaultProperties() {
+        FPHPSDeviceProperties properties = new FPHPSDeviceProperties();
+        properties.setReadTimeout(30);
+        properties.setDetectDelayTime(500);
+        properties.setCheckRemove(1);
+        properties.setEnableRF(1);
+        properties.setEnableBuzzer(1);
+        properties.setBatchModeProperties(BatchModeProperties.builder().ir(1).uv(1).wh(1).build());
+        properties.setEPassportDGProperties(EPassportDGProperties.builder().dg1(1).dg2(1).dg14(1).build());
+        properties.setEPassportAuthProperties(EPassportAuthProperties.builder().pa(1).sac(1).build());
+        return properties;
+    }
+
+    @Override
+    public FPHPSDeviceProperties getCurrentDeviceProperties() {
+        FPHPSDeviceProperties properties = new FPHPSDeviceProperties();
+        properties.setReadTimeout(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_TIMEOUT));
+        properties.setDetectDelayTime(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_DETECT_DELAY_TIME));
+        properties.setCheckRemove(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_CHECK_REMOVE));
+        properties.setUserModeLed(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_USERMODE_LED));
+        properties.setEnableRF(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_RF));
+        properties.setReadMethod(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_METHOD));
+        properties.setEnableBarcode(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_BARCODE));
+        properties.setEnableBuzzer(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_BUZZER));
+        properties.setEnableIDCard(getIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_IDCARD));
+        properties.setBatchModeProperties(batchModeProperties);
+        properties.setEPassportDGProperties(ePassportDGProperties);
+        properties.setEPassportAuthProperties(ePassportAuthProperties);
+        properties.setBarcodeConfigProperties(barcodeConfigProperties);
+        return properties;
+    }
+
+    @Override
+    public void setDeviceProperties(FPHPSDeviceProperties properties) {
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_TIMEOUT, properties.getReadTimeout());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_DETECT_DELAY_TIME, properties.getDetectDelayTime());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_CHECK_REMOVE, properties.getCheckRemove());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_USERMODE_LED, properties.getUserModeLed());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_RF, properties.getEnableRF());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_READ_METHOD, properties.getReadMethod());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_BARCODE, properties.getEnableBarcode());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_BUZZER, properties.getEnableBuzzer());
+        setIntProperty(FPHPS_PROPERTY_TYPE.FPHPS_PT_ENABLE_IDCARD, properties.getEnableIDCard());
+        this.batchModeProperties = properties.getBatchModeProperties();
+        this.ePassportDGProperties = properties.getEPassportDGProperties();
+        this.ePassportAuthProperties = properties.getEPassportAuthProperties();
+        this.barcodeConfigProperties = properties.getBarcodeConfigProperties();
+    }
+
+    @Override
+    public int getIntProperty(int type) {
+        return intProperties.getOrDefault(type, 0);
+    }
+
+    @Override
+    public void setIntProperty(int type, int value) {
+        intProperties.put(type, value);
+    }
+
+    @Override
+    public BatchModeProperties getBatchModeProperties() {
+        return batchModeProperties;
+    }
+
+    @Override
+    public void setBatchModeProperties(BatchModeProperties batchModeProperties) {
+        this.batchModeProperties = batchModeProperties;
+    }
+
+    @Override
+    public EPassportDGProperties getEPassportDGProperties() {
+        return ePassportDGProperties;
+    }
+
+    @Override
+    public void setEPassportDGProperties(EPassportDGProperties ePassportDGProperties) {
+        this.ePassportDGProperties = ePassportDGProperties;
+    }
+
+    @Override
+    public EPassportAuthProperties getEPassportAuthProperties() {
+        return ePassportAuthProperties;
+    }
+
+    @Override
+    public void setEPassportAuthProperties(EPassportAuthProperties ePassportAuthProperties) {
+        this.ePassportAuthProperties = ePassportAuthProperties;
+    }
+
+    @Override
+    public BarcodeConfigProperties getBarcodeConfigProperties() {
+        return barcodeConfigProperties;
+    }
+
+    @Override
+    public void setBarcodeConfigProperties(BarcodeConfigProperties barcodeConfigProperties) {
+        this.barcodeConfigProperties = barcodeConfigProperties;
+    }
+
+    @Override
+    public void setLED(int led, int color, int mode) {
+        // 가상 장치 - 동작 없음
+    }
+
+    @Override
+    public void resetLEDs() {
+        // 가상 장치 - 동작 없음
+    }
+
+    @Override
+    public void setExtLED(int led, int mode) {
+        // 가상 장치 - 동작 없음
+    }
+
+    @Override
+    public void buzzer(int duration) {
+        // 가상 장치 - 동작 없음
+    }
+}
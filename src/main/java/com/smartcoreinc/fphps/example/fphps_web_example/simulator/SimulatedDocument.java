@@ -0,0 +1,88 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.smartcoreinc.fphps.dto.DocumentReadResponse;
+import com.smartcoreinc.fphps.dto.EPassResults;
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.dto.mrz.MrzInfo;
+import com.smartcoreinc.fphps.dto.mrz.MrzLines;
+import com.smartcoreinc.fphps.sod.ParsedSOD;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시뮬레이터가 재생하는 문서 1건 (VIZ + 칩 데이터)
+ */
+@Getter
+@Builder
+public class SimulatedDocument {
+
+    private final MrzInfo mrzInfo;
+    private final MrzLines mrzLines;
+    private final FPHPSImage vizPhotoImage;
+    private final FPHPSImage ePassPhotoImage;
+    private final FPHPSImage mrzImage;
+    private final FPHPSImage irImage;
+    private final FPHPSImage uvImage;
+    private final FPHPSImage whImage;
+    private final byte[] sodDataBytes;
+    private final Map<Integer, byte[]> dgDataMap;
+    private final ParsedSOD parsedSOD;
+
+    public boolean hasChipData() {
+        return sodDataBytes != null && dgDataMap != null && !dgDataMap.isEmpty();
+    }
+
+    /**
+     * 실제 판독기 결과와 같은 형태의 DocumentReadResponse 생성
+     * @param includeChip false이면 칩 읽기 실패처럼 VIZ 데이터만 포함
+     */
+    public DocumentReadResponse toResponse(boolean includeChip) {
+        DocumentReadResponse response = new DocumentReadResponse();
+        response.setMrzInfo(mrzInfo);
+        response.setMrzLines(mrzLines);
+        response.setVizPhotoImage(vizPhotoImage);
+        response.setMrzImage(mrzImage);
+        response.setIrImage(irImage);
+        response.setUvImage(uvImage);
+        response.setWhImage(whImage);
+        response.setEPassResults(ePassResults(includeChip));
+        if (includeChip && hasChipData()) {
+            response.setEPassMrzLines(mrzLines);
+            response.setEPassPhotoImage(ePassPhotoImage);
+            response.setSodDataBytes(sodDataBytes);
+            response.setDgDataMap(dgDataMap);
+            response.setParsedSOD(parsedSOD);
+        }
+        return response;
+    }
+
+    /**
+     * 칩 읽기 결과 요약 (DG1~DG16 존재 여부 및 인증 결과)
+     */
+    public EPassResults ePassResults(boolean includeChip) {
+        boolean chipRead = includeChip && hasChipData();
+        List<Boolean> dgs = new ArrayList<>(Collections.nCopies(16, Boolean.FALSE));
+        if (chipRead) {
+            for (Integer dg : dgDataMap.keySet()) {
+                if (dg >= 1 && dg <= 16) {
+                    dgs.set(dg - 1, Boolean.TRUE);
+                }
+            }
+        }
+        return EPassResults.builder()
+            .bac(chipRead).bacResultDesc(chipRead ? "Simulated" : "Chip not read")
+            .pa(chipRead && parsedSOD != null).paResultDesc(chipRead ? "Simulated" : "Chip not read")
+            .aa(false).aaResultDesc("Not performed")
+            .ca(false).caResultDesc("Not performed")
+            .ta(false).taResultDesc("Not performed")
+            .sac(false).sacResultDesc("Not performed")
+            .dgs(dgs)
+            .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.dto.mrz.MrzInfo;
+import com.smartcoreinc.fphps.dto.mrz.MrzLines;
+import com.smartcoreinc.fphps.sod.ParsedSOD;
+import com.smartcoreinc.fphps.sod.SODParser;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시뮬레이터 문서 공급원.
+ * - simulator.replay-dir 지정 시: DocumentDataExporter로 내보낸 폴더들을 순환 재생
+ *   (images/*.png, data/sod.bin, data/DGxx.bin, mrz/viz_mrz.txt)
+ * - 미지정 시: SyntheticDocumentFactory로 합성 문서 생성
+ */
+@Slf4j
+@Component
+@Profile("simulator")
+public class SimulatedDocumentSource {
+
+    private static final Pattern DG_FILE = Pattern.compile("DG(\\d{2})\\.bin");
+    private static final Pattern MRZ_LINE = Pattern.compile("Line (\\d):\\s*(\\S*)");
+
+    private final SimulatorSettings settings;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<SimulatedDocument> replayDocuments = new ArrayList<>();
+    private SyntheticDocumentFactory syntheticFactory;
+
+    public SimulatedDocumentSource(SimulatorSettings settings) {
+        this.settings = settings;
+    }
+
+    @PostConstruct
+    public void loadDocuments() {
+        String replayDir = settings.getReplayDir();
+        if (replayDir != null && !replayDir.isBlank()) {
+            Path root = Paths.get(replayDir);
+            try (Stream<Path> folders = Files.list(root)) {
+                folders.filter(Files::isDirectory).sorted().forEach(folder -> {
+                    try {
+                        replayDocuments.add(loadExportedFolder(folder));
+                    } catch (Exception e) {
+                        log.warn("Skipping replay folder {}: {}", folder, e.getMessage());
+                    }
+                });
+                // 루트 자체가 내보내기 폴더인 경우
+                if (replayDocuments.isEmpty() && Files.isDirectory(root.resolve("mrz"))) {
+                    replayDocuments.add(loadExportedFolder(root));
+                }
+            } catch (IOException e) {
+                log.error("Failed to read replay directory {}: {}", replayDir, e.getMessage());
+            }
+            log.info("Simulator loaded {} replay document(s) from {}", replayDocuments.size(), replayDir);
+        }
+
+        if (replayDocuments.isEmpty()) {
+            syntheticFactory = new SyntheticDocumentFactory(settings.getIssuingState());
+            log.info("Simulator will generate synthetic documents");
+        }
+    }
+
+    /**
+     * 다음 문서 (재생 모드는 라운드 로빈, 합성 모드는 일련번호 증가)
+     */
+    public SimulatedDocument next() {
+        long n = sequence.getAndIncrement();
+        if (!replayDocuments.isEmpty()) {
+            return replayDocuments.get((int) (n % replayDocuments.size()));
+        }
+        return syntheticFactory.create(n + 1);
+    }
+
+    private SimulatedDocument loadExportedFolder(Path folder) throws IOException {
+        Path images = folder.resolve("images");
+        Path data = folder.resolve("data");
+        Path mrz = folder.resolve("mrz");
+
+        Map<String, String> parsed = new HashMap<>();
+        String[] lines = new String[3];
+        Path mrzFile = Files.exists(mrz.resolve("viz_mrz.txt")) ? mrz.resolve("viz_mrz.txt") : mrz.resolve("epass_mrz.txt");
+        if (!Files.exists(mrzFile)) {
+            throw new IOException("MRZ text file not found");
+        }
+        for (String line : Files.readAllLines(mrzFile, StandardCharsets.UTF_8)) {
+            Matcher m = MRZ_LINE.matcher(line.trim());
+            if (m.matches()) {
+                int index = Integer.parseInt(m.group(1)) - 1;
+                if (index >= 0 && index < 3) {
+                    lines[index] = m.group(2);
+                }
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                parsed.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+
+        MrzLines mrzLines = MrzLines.builder()
+            .line1(nvl(lines[0])).line2(nvl(lines[1])).line3(nvl(lines[2]))
+            .line1Length(nvl(lines[0]).length()).line2Length(nvl(lines[1]).length()).line3Length(nvl(lines[2]).length())
+            .build();
+        MrzInfo mrzInfo = MrzInfo.builder()
+            .docType(parsed.get("Document Type"))
+            .issuingState(parsed.get("Issuing State"))
+            .passportNumber(parsed.get("Passport Number"))
+            .name(parsed.get("Name"))
+            .nationality(parsed.get("Nationality"))
+            .birth(parsed.get("Date of Birth"))
+            .sex(parsed.get("Sex"))
+            .expiryDate(parsed.get("Expiry Date"))
+            .opt(parsed.get("Optional Data"))
+            .build();
+
+        Map<Integer, byte[]> dgDataMap = new TreeMap<>();
+        byte[] sod = null;
+        if (Files.isDirectory(data)) {
+            try (Stream<Path> files = Files.list(data)) {
+                for (Path file : files.toList()) {
+                    String name = file.getFileName().toString();
+                    Matcher m = DG_FILE.matcher(name);
+                    if (m.matches()) {
+                        dgDataMap.put(Integer.parseInt(m.group(1)), Files.readAllBytes(file));
+                    } else if ("sod.bin".equals(name)) {
+                        sod = Files.readAllBytes(file);
+                    }
+                }
+            }
+        }
+
+        ParsedSOD parsedSOD = null;
+        if (sod != null) {
+            try {
+                parsedSOD = new SODParser().parse(sod);
+            } catch (Exception e) {
+                log.warn("Failed to parse replay SOD in {}: {}", folder, e.getMessage());
+            }
+        }
+
+        FPHPSImage wh = readImage(images.resolve("wh.png"));
+        return SimulatedDocument.builder()
+            .mrzInfo(mrzInfo)
+            .mrzLines(mrzLines)
+            .vizPhotoImage(readImage(images.resolve("viz_photo.png")))
+            .ePassPhotoImage(readImage(images.resolve("epass_photo.png")))
+            .mrzImage(readImage(images.resolve("mrz.png")))
+            .irImage(readImage(images.resolve("ir.png")))
+            .uvImage(readImage(images.resolve("uv.png")))
+            .whImage(wh)
+            .sodDataBytes(sod)
+            .dgDataMap(dgDataMap.isEmpty() ? null : dgDataMap)
+            .parsedSOD(parsedSOD)
+            .build();
+    }
+
+    private static FPHPSImage readImage(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        int width = image != null ? image.getWidth() : 0;
+        int height = image != null ? image.getHeight() : 0;
+        return new FPHPSImage(width, height, bytes.length, Base64.getEncoder().encodeToString(bytes));
+    }
+
+    private static String nvl(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,111 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import com.smartcoreinc.fphps.dto.DeviceInfo;
+import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
+import com.smartcoreinc.fphps.exception.FPHPSException;
+import com.smartcoreinc.fphps.manager.FPHPSDevice;
+import com.smartcoreinc.fphps.settings.FPHPSDeviceSetting;
+import com.sun.jna.Pointer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이티브 라이브러리 없이 동작하는 가상 FastPass 판독기.
+ * open/close 지연과 open 실패를 SimulatorSettings에 따라 재현
+ */
+@Slf4j
+public class SimulatedFPHPSDevice extends FPHPSDevice {
+
+    private final SimulatorSettings settings;
+    private final SimulatedDeviceSetting deviceSetting = new SimulatedDeviceSetting();
+    private volatile boolean opened;
+
+    public SimulatedFPHPSDevice(DeviceInfo deviceInfo, SimulatorSettings settings) {
+        super(deviceInfo);
+        this.settings = settings;
+    }
+
+    @Override
+    public synchronized void openDevice() {
+        settings.pause(settings.getOpenLatencyMs());
+        if (settings.roll(settings.getOpenFailureRate())) {
+            throw new FPHPSException("Simulated open failure on " + getDeviceInfo().getDeviceSerial());
+        }
+        opened = true;
+    }
+
+    @Override
+    public boolean isDeviceOpened() {
+        return opened;
+    }
+
+    @Override
+    public synchronized void closeDevice() {
+        if (!opened) {
+            return;
+        }
+        opened = false;
+        settings.pause(settings.getCloseLatencyMs());
+    }
+
+    @Override
+    public FPHPSDeviceProperties getDeviceProperties() {
+        requireOpened();
+        return deviceSetting.getCurrentDeviceProperties();
+    }
+
+    @Override
+    public void setDeviceProperties(FPHPSDeviceProperties properties) {
+        requireOpened();
+        deviceSetting.setDeviceProperties(properties);
+    }
+
+    @Override
+    public FPHPSDeviceSetting getDeviceSetting() {
+        requireOpened();
+        return deviceSetting;
+    }
+
+    @Override
+    public Pointer getDeviceHandle() {
+        throw new FPHPSException("Simulated device has no native handle");
+    }
+
+    @Override
+    public void manualRead(int readType) {
+        throw new FPHPSException("Direct reads are not supported by the simulated device. Use SimulatedReadStrategy.");
+    }
+
+    @Override
+    public void autoRead(int readType) {
+        throw new FPHPSException("Direct reads are not supported by the simulated device. Use SimulatedReadStrategy.");
+    }
+
+    @Override
+    public void cancelRead() {
+        // 가상 장치 - 진행 중인 네이티브 읽기 없음
+    }
+
+    @Override
+    public void scanPage(int lightType) {
+        throw new FPHPSException("Direct scans are not supported by the simulated device. Use SimulatedDeviceBackend.");
+    }
+
+    @Override
+    public void scanPageEx(int lightType, int option) {
+        throw new FPHPSException("Direct scans are not supported by the simulated device. Use SimulatedDeviceBackend.");
+    }
+
+    @Override
+    public void close() {
+        closeDevice();
+    }
+
+    private void requireOpened() {
+        if (!opened) {
+            String message = "Device is not opened: " + getDeviceInfo().getDeviceSerial();
+            log.error(message);
+            throw new FPHPSException(message);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.smartcoreinc.fphps.dto.DocumentReadResponse;
+import com.smartcoreinc.fphps.dto.EventMessageData;
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.dto.barcode.BarCode;
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
+import com.smartcoreinc.fphps.exception.FPHPSException;
+import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_EVENTS;
+import com.smartcoreinc.fphps.manager.FPHPSDevice;
+import com.smartcoreinc.fphps.interfaces.MessageBroadcastable;
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DataGroupStreamer;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
+import com.smartcoreinc.fphps.example.fphps_web_example.strategies.DocumentReadStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 판독기용 읽기 전략.
+ * 실제 EPassportReader와 같은 순서로 WebSocket 이벤트를 발행하고 단계별 지연/장애를 재현.
+ * Auto/Manual 모두 결과를 직접 반환 (FPHPSService.read()가 저장)
+ */
+@Slf4j
+public class SimulatedReadStrategy implements DocumentReadStrategy {
+
+    private static final String EVENT_PREFIX = "FPHPS_EVENTS.";
+
+    private final String docType;
+    private final SimulatorSettings settings;
+    private final SimulatedDocumentSource documentSource;
+    private final DeviceStageMetrics stageMetrics;
+    private final DataGroupStreamer dataGroupStreamer;
+
+    public SimulatedReadStrategy(String docType, SimulatorSettings settings, SimulatedDocumentSource documentSource,
+                                 DeviceStageMetrics stageMetrics, DataGroupStreamer dataGroupStreamer) {
+        this.docType = docType;
+        this.settings = settings;
+        this.documentSource = documentSource;
+        this.stageMetrics = stageMetrics;
+        this.dataGroupStreamer = dataGroupStreamer;
+    }
+
+    @Override
+    public boolean supports(String docType) {
+        return this.docType.equalsIgnoreCase(docType);
+    }
+
+    @Override
+    public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto) {
+        return read(device, fastPassWebSocketHandler, isAuto, null);
+    }
+
+    @Override
+    public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto,
+                                     EPassportDGProperties dataGroups) {
+        return read(device, fastPassWebSocketHandler, isAuto, dataGroups, null);
+    }
+
+    @Override
+    public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto,
+                                     EPassportDGProperties dataGroups, String readId) {
+        // 읽기 대상 DG는 가상 문서를 고른 뒤 지정
+        DataGroupStreamer.Stream stream = dataGroupStreamer.open(device.getDeviceInfo().getDeviceSerial(), readId, null);
+        stageMetrics.expectDataGroups(stream.dataGroups());
+        List<Integer> selected = dataGroups != null ? DeviceStageMetrics.enabledDataGroups(dataGroups) : null;
+        DocumentReadResponse response = simulateRead(device, stream,
+            stageMetrics.instrument(stream.wrap(fastPassWebSocketHandler.forDevice(device.getDeviceInfo().getDeviceSerial()))),
+            isAuto, selected);
+        stageMetrics.readerReturned();
+        return response;
+    }
+
+    private DocumentReadResponse simulateRead(FPHPSDevice device, DataGroupStreamer.Stream stream,
+                                              MessageBroadcastable handler, boolean isAuto, List<Integer> selected) {
+        if (!device.isDeviceOpened()) {
+            throw new FPHPSException("Device is not opened: " + device.getDeviceInfo().getDeviceSerial());
+        }
+        log.info("📖 Simulated {} Read Started - Mode: {}, Device: {}",
+            docType, isAuto ? "AUTO" : "MANUAL", device.getDeviceInfo().getDeviceSerial());
+
+        if (isAuto) {
+            send(handler, FPHPS_EVENTS.FPHPS_EV_AUTO_READ_START, "FPHPS_EV_AUTO_READ_START");
+        }
+
+        // 문서 감지
+        settings.pause(settings.getDetectLatencyMs());
+        if (settings.roll(settings.getNoDocumentRate())) {
+            log.info("Simulated read: no document detected");
+            if (isAuto) {
+                send(handler, FPHPS_EVENTS.FPHPS_EV_AUTO_READ_TIMEOUT, "FPHPS_EV_AUTO_READ_TIMEOUT");
+            }
+            return null;
+        }
+
+        SimulatedDocument document = documentSource.next();
+        Map<Integer, byte[]> chipDataGroups = selectDataGroups(document.getDgDataMap(), selected);
+        if (chipDataGroups != null) {
+            stream.expectDataGroups(List.copyOf(chipDataGroups.keySet()));
+            stream.attach(chipDataGroups::get, document::getSodDataBytes);
+        }
+        send(handler, FPHPS_EVENTS.FPHPS_EV_DOC_DETECTED, "FPHPS_EV_DOC_DETECTED");
+        send(handler, FPHPS_EVENTS.FPHPS_EV_CAPTURE_STARTED, "FPHPS_EV_CAPTURE_STARTED");
+
+        // 이미지 캡처 (WH → IR → UV)
+        long captureStep = settings.getCaptureLatencyMs() / 3;
+        settings.pause(captureStep);
+        sendImage(handler, FPHPS_EVENTS.FPHPS_EV_WH_IMAGE_CAPTURED, "FPHPS_EV_WH_IMAGE_CAPTURED", document.getWhImage());
+        settings.pause(captureStep);
+        sendImage(handler, FPHPS_EVENTS.FPHPS_EV_IR_IMAGE_CAPTURED, "FPHPS_EV_IR_IMAGE_CAPTURED", document.getIrImage());
+        settings.pause(captureStep);
+        sendImage(handler, FPHPS_EVENTS.FPHPS_EV_UV_IMAGE_CAPTURED, "FPHPS_EV_UV_IMAGE_CAPTURED", document.getUvImage());
+
+        if ("BARCODE".equalsIgnoreCase(docType)) {
+            return finishBarcode(handler, document);
+        }
+
+        sendImage(handler, FPHPS_EVENTS.FPHPS_EV_IR_MRZ_IMAGE_CAPTURED, "FPHPS_EV_IR_MRZ_IMAGE_CAPTURED", document.getMrzImage());
+        sendImage(handler, FPHPS_EVENTS.FPHPS_EV_VIZ_PHOTO_CAPTURED, "FPHPS_EV_VIZ_PHOTO_CAPTURED", document.getVizPhotoImage());
+
+        EventMessageData frame = event(FPHPS_EVENTS.FPHPS_EV_DOC_FRAME_FOUND, "FPHPS_EV_DOC_FRAME_FOUND");
+        frame.setMrzLines(document.getMrzLines());
+        frame.setMrzInfo(document.getMrzInfo());
+        handler.broadcast(frame);
+
+        boolean readChip = "PASSPORT".equalsIgnoreCase(docType) && document.hasChipData();
+        boolean chipFailed = false;
+        if (readChip) {
+            chipFailed = readChip(handler, document, chipDataGroups);
+        }
+        boolean includeChip = readChip && !chipFailed;
+
+        DocumentReadResponse response = document.toResponse(includeChip);
+        if (includeChip) {
+            response.setDgDataMap(chipDataGroups);
+        }
+
+        EventMessageData page = event(FPHPS_EVENTS.FPHPS_EV_PAGE_CAPTURED, "FPHPS_EV_PAGE_CAPTURED");
+        page.setMrzLines(document.getMrzLines());
+        page.setMrzInfo(document.getMrzInfo());
+        page.setEPassResults(response.getEPassResults());
+        if (includeChip) {
+            page.setParsedSOD(document.getParsedSOD());
+        }
+        handler.broadcast(page);
+
+        EventMessageData done = event(FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DONE, "FPHPS_EV_EPASS_READ_DONE");
+        if (chipFailed) {
+            done.setChipReadFailed(true);
+            done.setChipReadErrorMessage("Simulated RF communication failure");
+        }
+        handler.broadcast(done);
+
+        if (isAuto) {
+            send(handler, FPHPS_EVENTS.FPHPS_EV_AUTO_READ_DONE, "FPHPS_EV_AUTO_READ_DONE");
+        }
+        return response;
+    }
+
+    /**
+     * 칩 읽기 재현 (DG별 지연 분배)
+     * @return 칩 읽기 실패 여부
+     */
+    private boolean readChip(MessageBroadcastable handler, SimulatedDocument document, Map<Integer, byte[]> dgs) {
+        send(handler, FPHPS_EVENTS.FPHPS_EV_EPASS_DETECTED, "FPHPS_EV_EPASS_DETECTED");
+        send(handler, FPHPS_EVENTS.FPHPS_EV_EPASS_READ_START, "FPHPS_EV_EPASS_READ_START");
+
+        // RF 통신 멈춤 재현 - 네이티브 호출처럼 인터럽트로 깨어나지 않으며 작업 타임아웃 후 버려짐
+        if (settings.roll(settings.getHangRate())) {
+            log.warn("Simulated chip read hang for {} ms", settings.getHangMs());
+            settings.pauseUninterruptibly(settings.getHangMs());
+        }
+
+        long perStep = settings.getChipLatencyMs() / (dgs.size() + 2);
+        settings.pause(perStep);
+        send(handler, FPHPS_EVENTS.FPHPS_EV_EPASS_BAC, "FPHPS_EV_EPASS_BAC");
+
+        if (settings.roll(settings.getChipFailureRate())) {
+            log.info("Simulated chip read failure");
+            return true;
+        }
+
+        settings.pause(perStep);
+        send(handler, FPHPS_EVENTS.FPHPS_EV_EPASS_READ_EF_SOD, "FPHPS_EV_EPASS_READ_EF_SOD");
+        for (Integer dg : dgs.keySet()) {
+            settings.pause(perStep);
+            EventMessageData dgEvent = event(FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DG, "FPHPS_EV_EPASS_READ_DG");
+            dgEvent.setLParam(String.valueOf(dg));
+            handler.broadcast(dgEvent);
+        }
+        sendImage(handler, FPHPS_EVENTS.FPHPS_EV_EPASS_READ_FACE, "FPHPS_EV_EPASS_READ_FACE", document.getEPassPhotoImage());
+        return false;
+    }
+
+    /**
+     * 읽기 대상 DG만 남김 (selected가 null이면 문서의 모든 DG)
+     */
+    private static Map<Integer, byte[]> selectDataGroups(Map<Integer, byte[]> dgDataMap, List<Integer> selected) {
+        if (dgDataMap == null || selected == null) {
+            return dgDataMap;
+        }
+        Map<Integer, byte[]> result = new TreeMap<>();
+        dgDataMap.forEach((dg, data) -> {
+            if (selected.contains(dg)) {
+                result.put(dg, data);
+            }
+        });
+        return result;
+    }
+
+    private DocumentReadResponse finishBarcode(MessageBroadcastable handler, SimulatedDocument document) {
+        String data = document.getMrzLines() != null ? document.getMrzLines().getLine2() : "SIMULATED";
+        BarCode barCode = BarCode.builder()
+            .index(0)
+            .type(0)
+            .typeString("QR")
+            .length(data.length())
+            .data(data)
+            .build();
+
+        EventMessageData found = event(FPHPS_EVENTS.FPHPS_EV_BARCODE_FOUND, "FPHPS_EV_BARCODE_FOUND");
+        found.setBarCode(barCode);
+        handler.broadcast(found);
+
+        DocumentReadResponse response = new DocumentReadResponse();
+        response.setWhImage(document.getWhImage());
+        response.setIrImage(document.getIrImage());
+        response.setUvImage(document.getUvImage());
+        response.setBarCode(barCode);
+        return response;
+    }
+
+    private void send(MessageBroadcastable handler, int eventId, String eventName) {
+        handler.broadcast(event(eventId, eventName));
+    }
+
+    private void sendImage(MessageBroadcastable handler, int eventId, String eventName, FPHPSImage image) {
+        if (image == null) {
+            return;
+        }
+        EventMessageData message = event(eventId, eventName);
+        message.setImage(image);
+        handler.broadcast(message);
+    }
+
+    private static EventMessageData event(int eventId, String eventName) {
+        EventMessageData message = new EventMessageData();
+        message.setEventId(eventId);
+        message.setEventCodeString(EVENT_PREFIX + eventName);
+        return message;
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DataGroupStreamer;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
+import com.smartcoreinc.fphps.example.fphps_web_example.strategies.DocumentReadStrategy;
+
+/**
+ * simulator 프로필 활성화 시 실제 읽기 전략 대신 가상 읽기 전략 등록.
+ * 실행: --spring.profiles.active=simulator
+ */
+@Configuration
+@Profile("simulator")
+public class SimulatorConfig {
+
+    @Bean
+    public DocumentReadStrategy simulatedPassportReadStrategy(SimulatorSettings settings, SimulatedDocumentSource documentSource,
+                                                            DeviceStageMetrics stageMetrics, DataGroupStreamer dataGroupStreamer) {
+        return new SimulatedReadStrategy("PASSPORT", settings, documentSource, stageMetrics, dataGroupStreamer);
+    }
+
+    @Bean
+    public DocumentReadStrategy simulatedIdCardReadStrategy(SimulatorSettings settings, SimulatedDocumentSource documentSource,
+                                                            DeviceStageMetrics stageMetrics, DataGroupStreamer dataGroupStreamer) {
+        return new SimulatedReadStrategy("IDCARD", settings, documentSource, stageMetrics, dataGroupStreamer);
+    }
+
+    @Bean
+    public DocumentReadStrategy simulatedBarcodeReadStrategy(SimulatorSettings settings, SimulatedDocumentSource documentSource,
+                                                            DeviceStageMetrics stageMetrics, DataGroupStreamer dataGroupStreamer) {
+        return new SimulatedReadStrategy("BARCODE", settings, documentSource, stageMetrics, dataGroupStreamer);
+    }
+}
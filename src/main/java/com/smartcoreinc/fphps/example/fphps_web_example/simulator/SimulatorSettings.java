@@ -0,0 +1,117 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.smartcoreinc.fphps.exception.FPHPSException;
+
+import lombok.Getter;
+
+/**
+ * 시뮬레이터 설정 (simulator 프로필 전용).
+ * 단계별 지연 시간과 장애 주입 확률을 application.properties에서 조정
+ */
+@Getter
+@Component
+@Profile("simulator")
+public class SimulatorSettings {
+
+    // 가상 판독기 수
+    @Value("${simulator.device-count:1}")
+    private int deviceCount;
+
+    // DocumentDataExporter 출력 폴더 (비어 있으면 합성 문서 생성)
+    @Value("${simulator.replay-dir:}")
+    private String replayDir;
+
+    // 합성 문서 발급 국가
+    @Value("${simulator.issuing-state:UTO}")
+    private String issuingState;
+
+    // 단계별 지연 (ms)
+    @Value("${simulator.latency.open-ms:80}")
+    private long openLatencyMs;
+
+    @Value("${simulator.latency.close-ms:30}")
+    private long closeLatencyMs;
+
+    @Value("${simulator.latency.detect-ms:500}")
+    private long detectLatencyMs;
+
+    @Value("${simulator.latency.capture-ms:400}")
+    private long captureLatencyMs;
+
+    @Value("${simulator.latency.chip-ms:1500}")
+    private long chipLatencyMs;
+
+    @Value("${simulator.latency.scan-ms:300}")
+    private long scanLatencyMs;
+
+    // 지연 시간 변동 폭 (0.2 = ±20%)
+    @Value("${simulator.latency.jitter:0.2}")
+    private double jitter;
+
+    // 장애 주입 확률 (0.0 ~ 1.0)
+    @Value("${simulator.failure.open-rate:0.0}")
+    private double openFailureRate;
+
+    @Value("${simulator.failure.no-document-rate:0.0}")
+    private double noDocumentRate;
+
+    @Value("${simulator.failure.chip-rate:0.0}")
+    private double chipFailureRate;
+
+    // RF 통신 멈춤 재현 (작업 타임아웃 검증용)
+    @Value("${simulator.failure.hang-rate:0.0}")
+    private double hangRate;
+
+    @Value("${simulator.failure.hang-ms:90000}")
+    private long hangMs;
+
+    /**
+     * 지연 시간만큼 대기 (jitter 적용). 인터럽트 시 네이티브 호출 중단과 같이 FPHPSException 발생
+     */
+    public void pause(long baseMillis) {
+        if (baseMillis <= 0) {
+            return;
+        }
+        double factor = 1.0 + (jitter > 0 ? ThreadLocalRandom.current().nextDouble(-jitter, jitter) : 0.0);
+        try {
+            Thread.sleep(Math.max(0, Math.round(baseMillis * factor)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FPHPSException("Simulated device operation interrupted", e);
+        }
+    }
+
+    /**
+     * 네이티브 호출처럼 인터럽트에 반응하지 않는 대기 (RF 통신 멈춤 재현용).
+     * 인터럽트 상태는 대기 후 복원
+     */
+    public void pauseUninterruptibly(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 주어진 확률로 장애 발생 여부 결정
+     */
+    public boolean roll(double rate) {
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,353 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.simulator;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.DERTaggedObject;
+import org.bouncycastle.asn1.icao.DataGroupHash;
+import org.bouncycastle.asn1.icao.ICAOObjectIdentifiers;
+import org.bouncycastle.asn1.icao.LDSSecurityObject;
+import org.bouncycastle.asn1.nist.NISTObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cms.CMSProcessableByteArray;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.jcajce.JcaSignerInfoGeneratorBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+import com.smartcoreinc.fphps.dto.mrz.MrzInfo;
+import com.smartcoreinc.fphps.dto.mrz.MrzLines;
+import com.smartcoreinc.fphps.sod.ParsedSOD;
+import com.smartcoreinc.fphps.sod.SODParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 여권 문서 생성기.
+ * - 체크 디지트가 맞는 TD3 MRZ
+ * - DG1(MRZ), DG2(얼굴 이미지) 바이너리와 해시를 담은 SOD를 시뮬레이터 DSC로 서명
+ * - 시뮬레이터 CSCA는 실제 Trust Chain에 없으므로 PA 서버 검증은 Trust Chain 단계에서 실패함
+ */
+@Slf4j
+public class SyntheticDocumentFactory {
+
+    private static final String[] SURNAMES = {"KIM", "LEE", "PARK", "SMITH", "GARCIA", "MULLER", "TANAKA", "NGUYEN"};
+    private static final String[] GIVEN_NAMES = {"MINJUN", "SEOYEON", "JOHN", "MARIA", "HANS", "YUKI", "LINH", "ALEX"};
+    private static final DateTimeFormatter MRZ_DATE = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private final String issuingState;
+    private final KeyPair dscKeyPair;
+    private final X509Certificate dscCertificate;
+    private final X509Certificate cscaCertificate;
+
+    // 이미지는 한 번만 생성하여 재사용 (부하 테스트 시 CPU 절약)
+    private final FPHPSImage facePhoto;
+    private final FPHPSImage pageImage;
+    private final FPHPSImage mrzStripImage;
+    private final byte[] faceImageBytes;
+
+    public SyntheticDocumentFactory(String issuingState) {
+        this.issuingState = issuingState;
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair cscaKeyPair = generator.generateKeyPair();
+            this.dscKeyPair = generator.generateKeyPair();
+
+            X500Name cscaName = new X500Name("C=" + issuingState + ",O=FPHPS Simulator,CN=Simulator CSCA");
+            X500Name dscName = new X500Name("C=" + issuingState + ",O=FPHPS Simulator,CN=Simulator DSC");
+            this.cscaCertificate = issueCertificate(cscaName, cscaKeyPair, cscaName, cscaKeyPair.getPrivate(), null, true);
+            this.dscCertificate = issueCertificate(dscName, dscKeyPair, cscaName, cscaKeyPair.getPrivate(),
+                cscaCertificate, false);
+
+            BufferedImage face = drawFace();
+            this.faceImageBytes = toPng(face);
+            this.facePhoto = toImage(face, faceImageBytes);
+            BufferedImage page = drawPage();
+            this.pageImage = toImage(page, toPng(page));
+            BufferedImage mrz = drawMrzStrip();
+            this.mrzStripImage = toImage(mrz, toPng(mrz));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialize synthetic document factory: " + e.getMessage(), e);
+        }
+        log.info("Synthetic document factory ready (issuing state {}, DSC {})",
+            issuingState, dscCertificate.getSubjectX500Principal().getName());
+    }
+
+    public X509Certificate getCscaCertificate() {
+        return cscaCertificate;
+    }
+
+    public FPHPSImage getPageImage() {
+        return pageImage;
+    }
+
+    /**
+     * 일련번호 기반 합성 문서 생성 (같은 번호는 같은 인적사항)
+     */
+    public SimulatedDocument create(long serial) {
+        String surname = SURNAMES[(int) (serial % SURNAMES.length)];
+        String givenName = GIVEN_NAMES[(int) ((serial / SURNAMES.length) % GIVEN_NAMES.length)];
+        String documentNumber = String.format("S%08d", serial % 100_000_000L);
+        String sex = serial % 2 == 0 ? "M" : "F";
+        String birth = LocalDate.of(1960, 1, 1).plusDays((serial * 7919) % 15000).format(MRZ_DATE);
+        String expiry = LocalDate.now().plusYears(5).format(MRZ_DATE);
+
+        String line1 = pad("P<" + issuingState + surname + "<<" + givenName, 44);
+        String docField = pad(documentNumber, 9);
+        String optField = pad("", 14);
+        String docCd = checkDigit(docField);
+        String birthCd = checkDigit(birth);
+        String expiryCd = checkDigit(expiry);
+        String optCd = checkDigit(optField);
+        String composite = checkDigit(docField + docCd + birth + birthCd + expiry + expiryCd + optField + optCd);
+        String line2 = docField + docCd + issuingState + birth + birthCd + sex + expiry + expiryCd + optField + optCd + composite;
+
+        MrzLines mrzLines = MrzLines.builder()
+            .line1(line1).line2(line2).line3("")
+            .line1Length(line1.length()).line2Length(line2.length()).line3Length(0)
+            .build();
+        MrzInfo mrzInfo = MrzInfo.builder()
+            .docType("P")
+            .issuingState(issuingState)
+            .name(surname + " " + givenName)
+            .passportNumber(documentNumber)
+            .passportNumberCheckDigit(docCd).passportNumberCheckDigitR(docCd)
+            .nationality(issuingState)
+            .birth(birth)
+            .birthCheckDigit(birthCd).birthCheckDigitR(birthCd)
+            .sex(sex)
+            .expiryDate(expiry)
+            .expiryDateCheckDigit(expiryCd)
+            .opt("")
+            .optCheckDigit(optCd).optCheckDigitR(optCd)
+            .compositeCheckDigit(composite).compositeCheckDigitR(composite)
+            .build();
+
+        Map<Integer, byte[]> dgDataMap = new LinkedHashMap<>();
+        dgDataMap.put(1, encodeDg1(line1 + line2));
+        dgDataMap.put(2, encodeDg2(faceImageBytes));
+        byte[] sod = signSod(dgDataMap);
+
+        ParsedSOD parsedSOD = null;
+        try {
+            parsedSOD = new SODParser().parse(sod);
+        } catch (Exception e) {
+            log.warn("Failed to parse synthetic SOD: {}", e.getMessage());
+        }
+
+        return SimulatedDocument.builder()
+            .mrzInfo(mrzInfo)
+            .mrzLines(mrzLines)
+            .vizPhotoImage(facePhoto)
+            .ePassPhotoImage(facePhoto)
+            .mrzImage(mrzStripImage)
+            .irImage(pageImage)
+            .uvImage(pageImage)
+            .whImage(pageImage)
+            .sodDataBytes(sod)
+            .dgDataMap(dgDataMap)
+            .parsedSOD(parsedSOD)
+            .build();
+    }
+
+    /**
+     * LDSSecurityObject(DG 해시 목록)를 DSC로 서명하여 EF.SOD([APPLICATION 23]) 생성
+     */
+    private byte[] signSod(Map<Integer, byte[]> dgDataMap) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            DataGroupHash[] hashes = dgDataMap.entrySet().stream()
+                .map(e -> new DataGroupHash(e.getKey(), new DEROctetString(sha256.digest(e.getValue()))))
+                .toArray(DataGroupHash[]::new);
+            LDSSecurityObject lds = new LDSSecurityObject(new AlgorithmIdentifier(NISTObjectIdentifiers.id_sha256), hashes);
+
+            CMSSignedDataGenerator generator = new CMSSignedDataGenerator();
+            generator.addSignerInfoGenerator(
+                new JcaSignerInfoGeneratorBuilder(new JcaDigestCalculatorProviderBuilder().build())
+                    .build(new JcaContentSignerBuilder("SHA256withRSA").build(dscKeyPair.getPrivate()), dscCertificate));
+            generator.addCertificate(new JcaX509CertificateHolder(dscCertificate));
+            CMSSignedData signedData = generator.generate(
+                new CMSProcessableByteArray(ICAOObjectIdentifiers.id_icao_ldsSecurityObject, lds.getEncoded(ASN1Encoding.DER)),
+                true);
+
+            return new DERTaggedObject(true, BERTags.APPLICATION, 23,
+                ASN1Primitive.fromByteArray(signedData.getEncoded())).getEncoded(ASN1Encoding.DER);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to sign synthetic SOD: " + e.getMessage(), e);
+        }
+    }
+
+    private static X509Certificate issueCertificate(X500Name subject, KeyPair subjectKeyPair, X500Name issuer,
+                                                    PrivateKey issuerKey, X509Certificate issuerCert,
+                                                    boolean ca) throws Exception {
+        Date notBefore = new Date();
+        Date notAfter = Date.from(notBefore.toInstant().plus(3650, ChronoUnit.DAYS));
+        JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+        X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+            issuer, BigInteger.valueOf(System.nanoTime()), notBefore, notAfter, subject, subjectKeyPair.getPublic());
+        builder.addExtension(Extension.subjectKeyIdentifier, false,
+            extensionUtils.createSubjectKeyIdentifier(subjectKeyPair.getPublic()));
+        builder.addExtension(Extension.authorityKeyIdentifier, false, issuerCert != null
+            ? extensionUtils.createAuthorityKeyIdentifier(issuerCert)
+            : extensionUtils.createAuthorityKeyIdentifier(subjectKeyPair.getPublic()));
+        if (ca) {
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(0));
+        }
+        return new JcaX509CertificateConverter().getCertificate(
+            builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(issuerKey)));
+    }
+
+    /** DG1: 61 { 5F1F MRZ } */
+    private static byte[] encodeDg1(String mrz) {
+        byte[] mrzBytes = mrz.getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        inner.write(0x5F);
+        inner.write(0x1F);
+        writeLength(inner, mrzBytes.length);
+        inner.writeBytes(mrzBytes);
+        return wrap(0x61, inner.toByteArray());
+    }
+
+    /** DG2: 75 { 얼굴 이미지 } - 해시 검증용 최소 구조 (ISO 19794-5 헤더 생략) */
+    private static byte[] encodeDg2(byte[] faceImage) {
+        return wrap(0x75, faceImage);
+    }
+
+    private static byte[] wrap(int tag, byte[] value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(tag);
+        writeLength(out, value.length);
+        out.writeBytes(value);
+        return out.toByteArray();
+    }
+
+    private static void writeLength(ByteArrayOutputStream out, int length) {
+        if (length < 0x80) {
+            out.write(length);
+        } else if (length <= 0xFF) {
+            out.write(0x81);
+            out.write(length);
+        } else if (length <= 0xFFFF) {
+            out.write(0x82);
+            out.write(length >> 8);
+            out.write(length & 0xFF);
+        } else {
+            out.write(0x83);
+            out.write(length >> 16);
+            out.write((length >> 8) & 0xFF);
+            out.write(length & 0xFF);
+        }
+    }
+
+    /**
+     * ICAO 9303 체크 디지트 (가중치 7, 3, 1)
+     */
+    static String checkDigit(String value) {
+        int[] weights = {7, 3, 1};
+        int sum = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int v;
+            if (c >= '0' && c <= '9') {
+                v = c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                v = c - 'A' + 10;
+            } else {
+                v = 0;
+            }
+            sum += v * weights[i % 3];
+        }
+        return String.valueOf(sum % 10);
+    }
+
+    private static String pad(String value, int length) {
+        StringBuilder sb = new StringBuilder(value.length() > length ? value.substring(0, length) : value);
+        while (sb.length() < length) {
+            sb.append('<');
+        }
+        return sb.toString();
+    }
+
+    private static BufferedImage drawFace() {
+        BufferedImage image = new BufferedImage(240, 320, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(220, 230, 240));
+        g.fillRect(0, 0, 240, 320);
+        g.setColor(new Color(230, 190, 160));
+        g.fillOval(60, 60, 120, 160);
+        g.fillRect(90, 210, 60, 50);
+        g.setColor(new Color(70, 90, 120));
+        g.fillRect(30, 250, 180, 70);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage drawPage() {
+        BufferedImage image = new BufferedImage(640, 440, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(235, 240, 235));
+        g.fillRect(0, 0, 640, 440);
+        g.setColor(Color.DARK_GRAY);
+        g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 24));
+        g.drawString("SIMULATED DOCUMENT", 180, 60);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage drawMrzStrip() {
+        BufferedImage image = new BufferedImage(640, 80, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 640, 80);
+        g.setColor(Color.BLACK);
+        g.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 14));
+        g.drawString("P<SIMULATED<<MRZ<<<<<<<<<<<<<<<<<<<<<<<<<<<", 10, 30);
+        g.dispose();
+        return image;
+    }
+
+    private static byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static FPHPSImage toImage(BufferedImage image, byte[] png) {
+        return new FPHPSImage(image.getWidth(), image.getHeight(), png.length, Base64.getEncoder().encodeToString(png));
+    }
+}
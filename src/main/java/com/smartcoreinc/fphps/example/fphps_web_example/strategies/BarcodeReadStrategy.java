@@ -4,18 +4,28 @@ import com.smartcoreinc.fphps.dto.DocumentReadResponse;
 import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.DevicePropertiesService;
 import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DevicePropertyApplier;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
 import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_READ_TYPES;
 import com.smartcoreinc.fphps.manager.FPHPSDevice;
 import com.smartcoreinc.fphps.readers.BarcodeReader;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!simulator")
 public class BarcodeReadStrategy implements DocumentReadStrategy {
 
     private final DevicePropertiesService devicePropertiesService;
+    private final DevicePropertyApplier devicePropertyApplier;
+    private final DeviceStageMetrics stageMetrics;
 
-    public BarcodeReadStrategy(DevicePropertiesService devicePropertiesService) {
+    public BarcodeReadStrategy(DevicePropertiesService devicePropertiesService,
+                               DevicePropertyApplier devicePropertyApplier,
+                               DeviceStageMetrics stageMetrics) {
         this.devicePropertiesService = devicePropertiesService;
+        this.devicePropertyApplier = devicePropertyApplier;
+        this.stageMetrics = stageMetrics;
     }
 
     @Override
@@ -25,16 +35,21 @@ public class BarcodeReadStrategy implements DocumentReadStrategy {
 
     @Override
     public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto) {
-        FPHPSDeviceProperties properties = devicePropertiesService.getProperties();
+        // 공유 설정 객체는 수정하지 않고 복사본에 읽기 모드 설정
+        FPHPSDeviceProperties properties = DevicePropertyApplier.copyOf(devicePropertiesService.getProperties());
 
         // Ensure properties are set for Barcode reading
         properties.setEnableBarcode(1);
         properties.setEnableRF(0); // Explicitly disable RF
         properties.setEnableIDCard(0); // Explicitly disable ID Card reading
 
-        device.getDeviceSetting().setDeviceProperties(properties);
+        devicePropertyApplier.apply(device, properties);
 
-        BarcodeReader reader = new BarcodeReader(device, fastPassWebSocketHandler);
-        return reader.read(FPHPS_READ_TYPES.FPHPS_RT_BARCODE, isAuto);
+        // 판독기별 STOMP 토픽으로도 발행
+        BarcodeReader reader = new BarcodeReader(device,
+            stageMetrics.instrument(fastPassWebSocketHandler.forDevice(device.getDeviceInfo().getDeviceSerial())));
+        DocumentReadResponse response = reader.read(FPHPS_READ_TYPES.FPHPS_RT_BARCODE, isAuto);
+        stageMetrics.readerReturned();
+        return response;
     }
 }
\ No newline at end of file
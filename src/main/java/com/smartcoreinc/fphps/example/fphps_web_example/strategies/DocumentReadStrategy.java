@@ -1,10 +1,29 @@
 package com.smartcoreinc.fphps.example.fphps_web_example.strategies;
 
 import com.smartcoreinc.fphps.dto.DocumentReadResponse;
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
 import com.smartcoreinc.fphps.manager.FPHPSDevice;
 import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
 
 public interface DocumentReadStrategy {
     boolean supports(String docType);
     DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto);
+
+    /**
+     * 이번 읽기에만 적용할 DG 선택을 지정하여 읽기 (null이면 전역 설정).
+     * DG를 읽지 않는 전략은 무시하고 기본 읽기 수행
+     */
+    default DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto,
+                                      EPassportDGProperties dataGroups) {
+        return read(device, fastPassWebSocketHandler, isAuto);
+    }
+
+    /**
+     * 읽기 결과 저장소의 readId를 지정하여 읽기. 칩 데이터 스트리밍 이벤트가 같은 readId를 사용하도록 함.
+     * 스트리밍하지 않는 전략은 무시하고 DG 선택만 적용
+     */
+    default DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto,
+                                      EPassportDGProperties dataGroups, String readId) {
+        return read(device, fastPassWebSocketHandler, isAuto, dataGroups);
+    }
 }
\ No newline at end of file
@@ -4,18 +4,28 @@ import com.smartcoreinc.fphps.dto.DocumentReadResponse;
 import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.DevicePropertiesService;
 import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DevicePropertyApplier;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
 import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_READ_TYPES;
 import com.smartcoreinc.fphps.manager.FPHPSDevice;
 import com.smartcoreinc.fphps.readers.IDCardReader;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!simulator")
 public class IDCardReadStrategy implements DocumentReadStrategy {
 
     private final DevicePropertiesService devicePropertiesService;
+    private final DevicePropertyApplier devicePropertyApplier;
+    private final DeviceStageMetrics stageMetrics;
 
-    public IDCardReadStrategy(DevicePropertiesService devicePropertiesService) {
+    public IDCardReadStrategy(DevicePropertiesService devicePropertiesService,
+                              DevicePropertyApplier devicePropertyApplier,
+                              DeviceStageMetrics stageMetrics) {
         this.devicePropertiesService = devicePropertiesService;
+        this.devicePropertyApplier = devicePropertyApplier;
+        this.stageMetrics = stageMetrics;
     }
 
     @Override
@@ -25,18 +35,23 @@ public class IDCardReadStrategy implements DocumentReadStrategy {
 
     @Override
     public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto) {
-        FPHPSDeviceProperties properties = devicePropertiesService.getProperties();
+        // 공유 설정 객체는 수정하지 않고 복사본에 읽기 모드 설정
+        FPHPSDeviceProperties properties = DevicePropertyApplier.copyOf(devicePropertiesService.getProperties());
 
         // Ensure properties are set for ID Card reading
         properties.setEnableIDCard(1);
         properties.setEnableRF(1); // Keep RF enabled for e-ID cards
         properties.setEnableBarcode(0); // Explicitly disable Barcode reading
 
-        device.getDeviceSetting().setDeviceProperties(properties);
+        devicePropertyApplier.apply(device, properties);
         
-        IDCardReader reader = new IDCardReader(device, fastPassWebSocketHandler);
+        // 판독기별 STOMP 토픽으로도 발행
+        IDCardReader reader = new IDCardReader(device,
+            stageMetrics.instrument(fastPassWebSocketHandler.forDevice(device.getDeviceInfo().getDeviceSerial())));
         // NOTE: Original code used FPHPS_READ_TYPES.FPHPS_RT_PASSPORT.
         // Assuming this is still the intended value if no specific FPHPS_RT_IDCARD exists.
-        return reader.read(FPHPS_READ_TYPES.FPHPS_RT_PASSPORT, isAuto);
+        DocumentReadResponse response = reader.read(FPHPS_READ_TYPES.FPHPS_RT_PASSPORT, isAuto);
+        stageMetrics.readerReturned();
+        return response;
     }
 }
\ No newline at end of file
@@ -2,24 +2,39 @@ package com.smartcoreinc.fphps.example.fphps_web_example.strategies;
 
 import com.smartcoreinc.fphps.dto.DocumentReadResponse;
 import com.smartcoreinc.fphps.dto.properties.EPassportAuthProperties;
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
 import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
 import com.smartcoreinc.fphps.example.fphps_web_example.Services.DevicePropertiesService;
 import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.FastPassWebSocketHandler;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DataGroupStreamer;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DevicePropertyApplier;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceStageMetrics;
 import com.smartcoreinc.fphps.infrastructure.FPHPSLibrary.FPHPS_READ_TYPES;
 import com.smartcoreinc.fphps.manager.FPHPSDevice;
 import com.smartcoreinc.fphps.readers.EPassportReader;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@Profile("!simulator")
 public class PassportReadStrategy implements DocumentReadStrategy {
 
     private final DevicePropertiesService devicePropertiesService;
-
-    public PassportReadStrategy(DevicePropertiesService devicePropertiesService) {
+    private final DevicePropertyApplier devicePropertyApplier;
+    private final DeviceStageMetrics stageMetrics;
+    private final DataGroupStreamer dataGroupStreamer;
+
+    public PassportReadStrategy(DevicePropertiesService devicePropertiesService,
+                                DevicePropertyApplier devicePropertyApplier,
+                                DeviceStageMetrics stageMetrics,
+                                DataGroupStreamer dataGroupStreamer) {
         this.devicePropertiesService = devicePropertiesService;
+        this.devicePropertyApplier = devicePropertyApplier;
+        this.stageMetrics = stageMetrics;
+        this.dataGroupStreamer = dataGroupStreamer;
     }
 
     @Override
@@ -29,9 +44,28 @@ public class PassportReadStrategy implements DocumentReadStrategy {
 
     @Override
     public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto) {
-        log.info("📖 Passport Read Started - Mode: {}, RF Enabled", isAuto ? "AUTO" : "MANUAL");
+        return read(device, fastPassWebSocketHandler, isAuto, null);
+    }
+
+    @Override
+    public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto,
+                                     EPassportDGProperties dataGroups) {
+        return read(device, fastPassWebSocketHandler, isAuto, dataGroups, null);
+    }
+
+    @Override
+    public DocumentReadResponse read(FPHPSDevice device, FastPassWebSocketHandler fastPassWebSocketHandler, boolean isAuto,
+                                     EPassportDGProperties dataGroups, String readId) {
+        log.info("📖 Passport Read Started - Mode: {}, RF Enabled, DG: {}", isAuto ? "AUTO" : "MANUAL",
+            dataGroups != null ? "DG" + DeviceStageMetrics.enabledDataGroups(dataGroups) : "global settings");
 
-        FPHPSDeviceProperties properties = devicePropertiesService.getProperties();
+        // 공유 설정 객체는 수정하지 않고 복사본에 읽기 모드 설정
+        FPHPSDeviceProperties properties = DevicePropertyApplier.copyOf(devicePropertiesService.getProperties());
+
+        // DG 읽기 프로필 지정 시 이번 읽기에만 적용 (저장된 전역 설정은 그대로)
+        if (dataGroups != null) {
+            properties.setEPassportDGProperties(dataGroups);
+        }
 
         // Ensure properties are set for Passport reading
         properties.setEnableRF(1);
@@ -40,8 +74,8 @@ public class PassportReadStrategy implements DocumentReadStrategy {
 
         // SAC(PACE) 항상 활성화 - PACE-only 여권(BAC 미지원) 호환을 위해 필수
         // SAC는 BAC와 하위 호환되므로 BAC 여권에서도 정상 동작
-        if (properties.getEPassportAuthProperties() != null) {
-            EPassportAuthProperties auth = properties.getEPassportAuthProperties();
+        EPassportAuthProperties auth = properties.getEPassportAuthProperties();
+        if (auth != null && auth.getSac() != 1) {
             properties.setEPassportAuthProperties(
                 EPassportAuthProperties.builder()
                     .pa(auth.getPa())
@@ -53,20 +87,37 @@ public class PassportReadStrategy implements DocumentReadStrategy {
             );
         }
 
-        log.debug("Device properties set: RF=1, IDCard=0, Barcode=0, SAC=1");
-        device.getDeviceSetting().setDeviceProperties(properties);
-
-        EPassportReader reader = new EPassportReader(device, fastPassWebSocketHandler);
-
-        // Auto Read 시 WebSocketHandler에 현재 Reader 설정
-        // (Auto Read 완료 이벤트 시 getDocumentData() 호출을 위해)
+        int writes = devicePropertyApplier.apply(device, properties);
+        log.debug("Device properties set: RF=1, IDCard=0, Barcode=0, SAC=1 ({} native writes)", writes);
+
+        // DG를 하나 읽을 때마다 브라우저로 바로 전송 (MRZ 표시/해시 검증을 나머지 DG 읽기와 병행)
+        DataGroupStreamer.Stream stream = dataGroupStreamer.open(device.getDeviceInfo().getDeviceSerial(), readId,
+            DeviceStageMetrics.enabledDataGroups(properties.getEPassportDGProperties()));
+        // 판독기 이벤트로 캡처/칩/DG별 시간 기록 (DG 번호는 스트리밍과 같은 판별 결과 사용)
+        stageMetrics.expectDataGroups(stream.dataGroups());
+        EPassportReader reader = new EPassportReader(device,
+            stageMetrics.instrument(stream.wrap(fastPassWebSocketHandler.forDevice(device.getDeviceInfo().getDeviceSerial()))));
+        stream.attach(reader);
+
+        // Auto Read 시 WebSocketHandler에 이 판독기의 Reader 설정
+        // (이 판독기가 보낸 Auto Read 완료 이벤트 시 getDocumentData() 호출을 위해)
+        String deviceSerial = device.getDeviceInfo().getDeviceSerial();
         if (isAuto) {
-            log.info("Setting currentReader for Auto Read");
-            fastPassWebSocketHandler.setCurrentReader(reader);
+            log.info("Setting currentReader for Auto Read on device {}", deviceSerial);
+            fastPassWebSocketHandler.setCurrentReader(deviceSerial, reader);
         }
 
         log.info("Calling EPassportReader.read() - isAuto: {}", isAuto);
-        DocumentReadResponse response = reader.read(FPHPS_READ_TYPES.FPHPS_RT_PASSPORT, isAuto);
+        DocumentReadResponse response;
+        try {
+            response = reader.read(FPHPS_READ_TYPES.FPHPS_RT_PASSPORT, isAuto);
+        } finally {
+            if (isAuto) {
+                // 완료 이벤트 없이 끝난 경우(타임아웃/취소) 다음 읽기가 이 Reader를 조회하지 않도록 정리
+                fastPassWebSocketHandler.clearCurrentReader(deviceSerial, reader);
+            }
+        }
+        stageMetrics.readerReturned();
 
         if (response != null) {
             log.info("✓ EPassportReader.read() returned response - MRZ: {}",
@@ -30,9 +30,9 @@ async function exportPassportData(btnId) {
     // Send POST request to export endpoint
     const response = await fetch('/passport/export-data', {
       method: 'POST',
-      headers: {
+      headers: ReadContext.headers({
         'Content-Type': 'application/json'
-      }
+      })
     });
 
     if (!response.ok) {
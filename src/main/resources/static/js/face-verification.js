@@ -16,10 +16,10 @@ async function verifyFace(btnId, containerId, emptyStateId) {
   try {
     const response = await fetch('/passport/verify-face', {
       method: 'POST',
-      headers: {
+      headers: ReadContext.headers({
         'Content-Type': 'application/json',
         'Accept': 'application/json'
-      }
+      })
     });
 
     let data;
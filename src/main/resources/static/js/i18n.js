@@ -46,6 +46,7 @@ const I18N = {
   idCard:             _t('신분증', 'ID Card'),
   barcode:            _t('바코드', 'Barcode'),
   scanPage:           _t('페이지 스캔', 'Scan Page'),
+  deviceMetrics:      _t('단계별 지연 시간', 'Stage Latency'),
   deviceSettings:     _t('디바이스 설정', 'Device Settings'),
   manualRead:         _t('수동 판독', 'Manual Read'),
   automaticRead:      _t('자동 판독', 'Automatic Read'),
@@ -121,6 +122,7 @@ const I18N = {
   ePassAutoTitle:     _t('전자여권 자동 판독', 'E-Passport Auto Read'),
   ePassAutoDesc:      _t('자동 여권 스캔 및 칩 데이터 추출', 'Automatic passport scanning and chip data extraction'),
   runAutoRead:        _t('자동 판독 시작', 'RUN AUTO READ'),
+  dgProfileGlobal:    _t('DG: 전역 설정', 'DG: Global settings'),
   reading:            _t('판독 중...', 'Reading...'),
   eventLog:           _t('이벤트 로그', 'Event Log'),
   autoScrollOn:       _t('자동 스크롤: 켜짐', 'Auto-scroll: ON'),
@@ -153,6 +155,10 @@ const I18N = {
   uvLight:            _t('자외선 (UV)', 'Ultraviolet (UV)'),
   captureImage:       _t('이미지 촬영', 'Capture Image'),
   capturedImage:      _t('촬영된 이미지', 'Captured Image'),
+
+  // ── Device Metrics ──
+  deviceMetricsDesc:  _t('디바이스 작업 단계별 지연 시간 분포 (문서 종류/모드별)', 'Latency distribution per device operation stage (by document type and mode)'),
+  noMetricsYet:       _t('아직 기록된 작업이 없습니다', 'No device operations recorded yet'),
   security:           _t('보안', 'Security'),
   standard:           _t('표준', 'Standard'),
   fluorescence:       _t('형광', 'Fluorescence'),
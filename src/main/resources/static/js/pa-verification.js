@@ -263,10 +263,10 @@ async function verifyPassportPA(btnId, containerId, emptyStateId) {
     // PA API 호출 (API Gateway)
     const response = await fetch('/passport/verify-pa-v2', {
       method: 'POST',
-      headers: {
+      headers: ReadContext.headers({
         'Content-Type': 'application/json',
         'Accept': 'application/json'
-      }
+      })
     });
 
     // JSON으로 파싱 시도
@@ -1166,10 +1166,10 @@ async function paLookup(btnId, containerId, emptyStateId) {
   try {
     const response = await fetch('/passport/pa-lookup', {
       method: 'POST',
-      headers: {
+      headers: ReadContext.headers({
         'Content-Type': 'application/json',
         'Accept': 'application/json'
-      }
+      })
     });
 
     let data;
@@ -1663,10 +1663,10 @@ async function clientPaVerify(btnId, containerId, emptyStateId) {
   try {
     const response = await fetch('/passport/verify-pa-client', {
       method: 'POST',
-      headers: {
+      headers: ReadContext.headers({
         'Content-Type': 'application/json',
         'Accept': 'application/json'
-      }
+      })
     });
 
     let data;
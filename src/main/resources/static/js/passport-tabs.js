@@ -27,9 +27,9 @@ async function verifyPassportPA(btnId, containerId, emptyStateId) {
   try {
     const response = await fetch('/passport/verify-pa-v2', {
       method: 'POST',
-      headers: {
+      headers: ReadContext.headers({
         'Content-Type': 'application/json'
-      }
+      })
     });
 
     if (!response.ok) {
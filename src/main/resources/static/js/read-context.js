@@ -0,0 +1,39 @@
+/**
+ * Read Context
+ * 화면에 표시 중인 읽기 결과의 readId를 보관하고 검증/내보내기 요청에 X-Read-Id 헤더로 전달
+ * (여러 운영자/탭이 같은 서버를 사용해도 각 요청이 자신이 읽은 문서를 참조하도록 함)
+ */
+
+const ReadContext = {
+  readId: null,
+
+  /**
+   * 현재 읽기 지정
+   * @param {string} readId - 서버가 발급한 readId
+   */
+  set(readId) {
+    this.readId = readId || null;
+  },
+
+  /**
+   * 요청 헤더에 X-Read-Id 추가 (readId가 없으면 서버가 세션의 최근 읽기를 사용)
+   * @param {Object} headers - 기존 헤더
+   * @returns {Object} 헤더
+   */
+  headers(headers = {}) {
+    if (this.readId) {
+      headers['X-Read-Id'] = this.readId;
+    }
+    return headers;
+  }
+};
+
+// Manual Read 결과 조각(data-read-id)이 교체될 때 readId 갱신
+document.addEventListener('htmx:afterSwap', (event) => {
+  const target = event.detail && event.detail.target;
+  if (!target) return;
+  const holder = target.matches && target.matches('[data-read-id]') ? target : target.querySelector('[data-read-id]');
+  if (holder) {
+    ReadContext.set(holder.getAttribute('data-read-id'));
+  }
+});
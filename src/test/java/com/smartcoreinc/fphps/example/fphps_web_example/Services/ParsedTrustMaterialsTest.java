@@ -0,0 +1,218 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509CRLHolder;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.Services.ParsedTrustMaterials.ChainVerdict;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse.CrlEntry;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse.CscaCert;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse.LinkCert;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse.TrustMaterialsData;
+
+class ParsedTrustMaterialsTest {
+
+	private static final long DAY = 24L * 60 * 60 * 1000;
+	private static final AtomicLong SERIALS = new AtomicLong(1);
+
+	private static CertificateFactory cf;
+	private static KeyPair cscaKeys;
+	private static KeyPair rolloverKeys;
+	private static KeyPair otherKeys;
+	private static X509Certificate csca;
+	private static X509Certificate rolloverCsca;
+	private static X509Certificate otherCsca;
+	private static X509Certificate link;
+	private static X509Certificate dsc;
+	private static X509Certificate rolloverDsc;
+	private static X509Certificate foreignDsc;
+	private static X509CRL crl;
+
+	@BeforeAll
+	static void createCertificates() throws Exception {
+		cf = CertificateFactory.getInstance("X.509");
+		cscaKeys = keyPair();
+		rolloverKeys = keyPair();
+		otherKeys = keyPair();
+		KeyPair dscKeys = keyPair();
+
+		// 같은 DN으로 키를 교체한 CSCA와 Link Certificate (AKI로만 구분 가능)
+		csca = certificate("CN=CSCA,C=KR", cscaKeys, "CN=CSCA,C=KR", cscaKeys, true);
+		rolloverCsca = certificate("CN=CSCA,C=KR", rolloverKeys, "CN=CSCA,C=KR", rolloverKeys, true);
+		link = certificate("CN=CSCA,C=KR", rolloverKeys, "CN=CSCA,C=KR", cscaKeys, false);
+		otherCsca = certificate("CN=CSCA,C=JP", otherKeys, "CN=CSCA,C=JP", otherKeys, true);
+		dsc = certificate("CN=DSC,C=KR", dscKeys, "CN=CSCA,C=KR", cscaKeys, false);
+		rolloverDsc = certificate("CN=DSC 2,C=KR", dscKeys, "CN=CSCA,C=KR", rolloverKeys, false);
+		foreignDsc = certificate("CN=DSC,C=US", dscKeys, "CN=CSCA,C=US", keyPair(), false);
+
+		X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(new X500Name("CN=CSCA,C=KR"), new Date());
+		crlBuilder.setNextUpdate(new Date(System.currentTimeMillis() + DAY));
+		crlBuilder.addCRLEntry(dsc.getSerialNumber(), new Date(), 0);
+		X509CRLHolder crlHolder = crlBuilder.build(signer(cscaKeys));
+		crl = (X509CRL) cf.generateCRL(new ByteArrayInputStream(crlHolder.getEncoded()));
+	}
+
+	private static KeyPair keyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(256);
+		return generator.generateKeyPair();
+	}
+
+	private static ContentSigner signer(KeyPair keys) throws Exception {
+		return new JcaContentSignerBuilder("SHA256withECDSA").build(keys.getPrivate());
+	}
+
+	private static X509Certificate certificate(String subject, KeyPair subjectKeys, String issuer, KeyPair issuerKeys,
+											   boolean selfSigned) throws Exception {
+		long now = System.currentTimeMillis();
+		X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(new X500Name(issuer),
+			BigInteger.valueOf(SERIALS.getAndIncrement()), new Date(now - DAY), new Date(now + 365 * DAY),
+			new X500Name(subject), subjectKeys.getPublic());
+		JcaX509ExtensionUtils utils = new JcaX509ExtensionUtils();
+		builder.addExtension(Extension.subjectKeyIdentifier, false, utils.createSubjectKeyIdentifier(subjectKeys.getPublic()));
+		if (!selfSigned) {
+			builder.addExtension(Extension.authorityKeyIdentifier, false,
+				utils.createAuthorityKeyIdentifier(issuerKeys.getPublic()));
+		}
+		X509CertificateHolder holder = builder.build(signer(issuerKeys));
+		return (X509Certificate) cf.generateCertificate(new ByteArrayInputStream(holder.getEncoded()));
+	}
+
+	private static String base64(byte[] der) {
+		return Base64.getEncoder().encodeToString(der);
+	}
+
+	private static TrustMaterialsData data(List<X509Certificate> cscas, List<X509Certificate> links, List<X509CRL> crls)
+		throws Exception {
+		List<CscaCert> cscaEntries = new ArrayList<>();
+		for (X509Certificate cert : cscas) {
+			cscaEntries.add(new CscaCert(cert.getSubjectX500Principal().getName(), null, base64(cert.getEncoded()), null, null));
+		}
+		List<LinkCert> linkEntries = new ArrayList<>();
+		for (X509Certificate cert : links) {
+			linkEntries.add(new LinkCert(cert.getSubjectX500Principal().getName(), null, base64(cert.getEncoded()), null, null));
+		}
+		List<CrlEntry> crlEntries = new ArrayList<>();
+		for (X509CRL entry : crls) {
+			crlEntries.add(new CrlEntry(entry.getIssuerX500Principal().getName(), base64(entry.getEncoded()), null, null));
+		}
+		return new TrustMaterialsData("req", "KR", cscaEntries, linkEntries, crlEntries, 0, null);
+	}
+
+	private static ParsedTrustMaterials build(TrustMaterialsData data, ParsedTrustMaterials previous) {
+		return ParsedTrustMaterials.build("KR", data, previous, cf);
+	}
+
+	@Test
+	void unparsableEntriesAreSkipped() throws Exception {
+		TrustMaterialsData data = new TrustMaterialsData("req", "KR",
+			List.of(new CscaCert("CN=Broken", null, base64(new byte[] {1, 2, 3}), null, null),
+				new CscaCert("CN=CSCA,C=KR", null, base64(csca.getEncoded()), null, null)),
+			null, null, 0, null);
+
+		ParsedTrustMaterials parsed = build(data, null);
+
+		assertThat(parsed.cscas()).containsExactly(csca);
+		assertThat(parsed.parsedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void refreshReusesEntriesWithSameFingerprint() throws Exception {
+		ParsedTrustMaterials first = build(data(List.of(csca), List.of(link), List.of(crl)), null);
+		assertThat(first.parsedCount()).isEqualTo(3);
+
+		ParsedTrustMaterials refreshed = build(data(List.of(csca, otherCsca), List.of(link), List.of(crl)), first);
+
+		assertThat(refreshed.reusedCount()).isEqualTo(3);
+		assertThat(refreshed.parsedCount()).isEqualTo(1);
+		assertThat(refreshed.cscas()).containsExactly(csca, otherCsca);
+		assertThat(refreshed.linkCertificates()).singleElement().isSameAs(first.linkCertificates().iterator().next());
+	}
+
+	@Test
+	void issuerCandidatesAreFoundByAuthorityKeyId() throws Exception {
+		ParsedTrustMaterials parsed = build(data(List.of(csca, rolloverCsca, otherCsca), List.of(link), List.of()), null);
+
+		assertThat(parsed.cscaCandidates(dsc)).containsExactly(csca);
+		assertThat(parsed.cscaCandidates(rolloverDsc)).containsExactly(rolloverCsca);
+		assertThat(parsed.linkCandidates(rolloverDsc)).containsExactly(link);
+	}
+
+	@Test
+	void unknownIssuerFallsBackToAllCandidates() throws Exception {
+		ParsedTrustMaterials parsed = build(data(List.of(csca, otherCsca), List.of(), List.of()), null);
+
+		assertThat(parsed.cscaCandidates(foreignDsc)).containsExactlyInAnyOrder(csca, otherCsca);
+		assertThat(parsed.linkCandidates(foreignDsc)).isEmpty();
+	}
+
+	@Test
+	void verdictCacheSurvivesRefreshWithSameContent() throws Exception {
+		TrustMaterialsData data = data(List.of(csca), List.of(link), List.of(crl));
+		ParsedTrustMaterials first = build(data, null);
+		long now = System.currentTimeMillis();
+		first.cacheVerdict("dsc-fp", new ChainVerdict(csca, 0, now + DAY));
+
+		ParsedTrustMaterials refreshed = build(data(List.of(csca), List.of(link), List.of(crl)), first);
+
+		assertThat(refreshed.version()).isEqualTo(first.version());
+		assertThat(refreshed.cachedVerdict("dsc-fp", now)).isNotNull();
+	}
+
+	@Test
+	void verdictCacheIsDroppedWhenContentChanges() throws Exception {
+		ParsedTrustMaterials first = build(data(List.of(csca), List.of(), List.of()), null);
+		long now = System.currentTimeMillis();
+		first.cacheVerdict("dsc-fp", new ChainVerdict(csca, 0, now + DAY));
+
+		ParsedTrustMaterials changed = build(data(List.of(csca), List.of(), List.of(crl)), first);
+
+		assertThat(changed.version()).isNotEqualTo(first.version());
+		assertThat(changed.cachedVerdict("dsc-fp", now)).isNull();
+	}
+
+	@Test
+	void expiredVerdictIsNotReturned() throws Exception {
+		ParsedTrustMaterials parsed = build(data(List.of(csca), List.of(), List.of()), null);
+		long now = System.currentTimeMillis();
+		parsed.cacheVerdict("dsc-fp", new ChainVerdict(csca, 0, now - 1));
+
+		assertThat(parsed.cachedVerdict("dsc-fp", now)).isNull();
+	}
+
+	@Test
+	void revocationListsAreLookedUpByIssuer() throws Exception {
+		ParsedTrustMaterials parsed = build(data(List.of(csca), List.of(), List.of(crl)), null);
+
+		assertThat(parsed.revocationLists(dsc)).singleElement().satisfies(list -> {
+			assertThat(list.isRevoked(dsc.getSerialNumber())).isTrue();
+			assertThat(list.isRevoked(rolloverDsc.getSerialNumber())).isFalse();
+			assertThat(list.isStale(System.currentTimeMillis())).isFalse();
+		});
+		assertThat(parsed.revocationLists(foreignDsc)).isEmpty();
+	}
+}
@@ -0,0 +1,135 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.smartcoreinc.fphps.dto.DocumentReadResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadResultStoreTest {
+
+	private ReadResultStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new ReadResultStore(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(store, "maxEntries", 3);
+		ReflectionTestUtils.setField(store, "maxAgeMinutes", 30L);
+	}
+
+	@Test
+	void completedReadIsFoundByReadIdAndAsClientLatest() {
+		String readId = store.reserve("client-a");
+		assertThat(store.find(readId, null)).isNull();
+
+		DocumentReadResponse response = new DocumentReadResponse();
+		store.complete(readId, response, "DEV-1");
+
+		assertThat(store.get(readId)).isSameAs(response);
+		assertThat(store.find(null, "client-a")).isSameAs(response);
+		assertThat(store.findRead("", "client-a").deviceId()).isEqualTo("DEV-1");
+		assertThat(store.find(null, "client-b")).isNull();
+		assertThat(store.clientOf(readId)).isEqualTo("client-a");
+	}
+
+	@Test
+	void unknownReadIdIsDiscarded() {
+		assertThat(store.complete("not-reserved", new DocumentReadResponse())).isFalse();
+
+		assertThat(store.size()).isZero();
+		assertThat(store.get("not-reserved")).isNull();
+		assertThat(store.clientOf("not-reserved")).isNull();
+	}
+
+	@Test
+	void readWithoutClientIsOnlyFoundByReadId() {
+		String readId = store.reserve(null);
+		DocumentReadResponse response = new DocumentReadResponse();
+		store.complete(readId, response);
+
+		assertThat(store.find(readId, "client-a")).isSameAs(response);
+		assertThat(store.find(null, "client-a")).isNull();
+		assertThat(store.find(null, null)).isNull();
+	}
+
+	@Test
+	void oldestCompletedEntriesAreEvictedOverMaxEntries() {
+		String first = store.reserve("client-a");
+		store.complete(first, new DocumentReadResponse());
+		String second = store.reserve("client-b");
+		store.complete(second, new DocumentReadResponse());
+		store.complete(store.reserve("client-c"), new DocumentReadResponse());
+		store.complete(store.reserve("client-d"), new DocumentReadResponse());
+
+		assertThat(store.size()).isEqualTo(3);
+		assertThat(store.get(first)).isNull();
+		assertThat(store.find(null, "client-a")).isNull();
+		assertThat(store.clientOf(second)).isEqualTo("client-b");
+
+		// 제거된 읽기의 늦은 완료는 다시 저장되지 않음
+		assertThat(store.complete(first, new DocumentReadResponse())).isFalse();
+		assertThat(store.get(first)).isNull();
+	}
+
+	@Test
+	void pendingReservationsAreNotEvictedByCount() {
+		String slow = store.reserve("client-a");
+		String early = store.reserve("client-b");
+		store.complete(early, new DocumentReadResponse());
+		store.complete(store.reserve("client-c"), new DocumentReadResponse());
+		store.complete(store.reserve("client-d"), new DocumentReadResponse());
+
+		// 진행 중인 읽기는 상한에 포함되지 않고 결과를 받을 때까지 유지
+		assertThat(store.size()).isEqualTo(4);
+		DocumentReadResponse response = new DocumentReadResponse();
+		assertThat(store.complete(slow, response)).isTrue();
+
+		// 오래 진행된 읽기의 결과는 먼저 완료된 결과보다 나중에 제거됨
+		assertThat(store.size()).isEqualTo(3);
+		assertThat(store.get(early)).isNull();
+		assertThat(store.find(null, "client-a")).isSameAs(response);
+	}
+
+	@Test
+	void releaseDropsOnlyPendingReservations() {
+		String pending = store.reserve("client-a");
+		String completed = store.reserve("client-b");
+		DocumentReadResponse response = new DocumentReadResponse();
+		store.complete(completed, response);
+
+		store.release(pending);
+		store.release(completed);
+
+		assertThat(store.size()).isEqualTo(1);
+		assertThat(store.clientOf(pending)).isNull();
+		assertThat(store.find(completed, null)).isSameAs(response);
+	}
+
+	@Test
+	void clearClientKeepsResultReachableByReadId() {
+		String readId = store.reserve("client-a");
+		DocumentReadResponse response = new DocumentReadResponse();
+		store.complete(readId, response);
+
+		store.clearClient("client-a");
+
+		assertThat(store.find(null, "client-a")).isNull();
+		assertThat(store.find(readId, "client-a")).isSameAs(response);
+	}
+
+	@Test
+	void latestResultFollowsMostRecentCompletion() {
+		String older = store.reserve("client-a");
+		String newer = store.reserve("client-a");
+		DocumentReadResponse newerResponse = new DocumentReadResponse();
+		store.complete(newer, newerResponse);
+		store.complete(older, new DocumentReadResponse());
+
+		assertThat(store.findRead(null, "client-a").readId()).isEqualTo(older);
+		assertThat(store.find(newer, null)).isSameAs(newerResponse);
+	}
+}
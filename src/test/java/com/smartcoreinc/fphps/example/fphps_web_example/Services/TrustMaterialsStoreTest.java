@@ -0,0 +1,129 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.Services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.CertificateFactory;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse.CscaCert;
+import com.smartcoreinc.fphps.example.fphps_web_example.dto.pa.TrustMaterialsResponse.TrustMaterialsData;
+import com.smartcoreinc.fphps.example.fphps_web_example.entity.TrustMaterialsSnapshot;
+import com.smartcoreinc.fphps.example.fphps_web_example.repository.TrustMaterialsSnapshotRepository;
+
+class TrustMaterialsStoreTest {
+
+	private static final long HOUR = 60L * 60 * 1000;
+
+	private static CertificateFactory cf;
+	private static TrustMaterialsData data;
+	private static String version;
+
+	// 저장소에 보관된 국가 1개의 스냅샷
+	private final AtomicReference<TrustMaterialsSnapshot> stored = new AtomicReference<>();
+	private TrustMaterialsStore store;
+
+	@BeforeAll
+	static void createTrustMaterials() throws Exception {
+		cf = CertificateFactory.getInstance("X.509");
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(256);
+		KeyPair keys = generator.generateKeyPair();
+		long now = System.currentTimeMillis();
+		X500Name name = new X500Name("CN=CSCA,C=KR");
+		byte[] der = new JcaX509v3CertificateBuilder(name, BigInteger.ONE, new Date(now - HOUR), new Date(now + 24 * HOUR),
+			name, keys.getPublic()).build(new JcaContentSignerBuilder("SHA256withECDSA").build(keys.getPrivate())).getEncoded();
+
+		data = new TrustMaterialsData("request-1", "KR",
+			List.of(new CscaCert("CN=CSCA,C=KR", "CN=CSCA,C=KR", Base64.getEncoder().encodeToString(der), null, null)),
+			List.of(), List.of(), 4, "2026-01-01T00:00:00Z");
+		version = ParsedTrustMaterials.build("KR", data, null, cf).version();
+	}
+
+	@BeforeEach
+	void setUp() {
+		TrustMaterialsSnapshotRepository repository = mock(TrustMaterialsSnapshotRepository.class);
+		when(repository.findByCountryCode(anyString())).thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+		when(repository.save(any(TrustMaterialsSnapshot.class))).thenAnswer(invocation -> {
+			stored.set(invocation.getArgument(0));
+			return stored.get();
+		});
+		store = new TrustMaterialsStore(repository, new ObjectMapper());
+	}
+
+	@Test
+	void savedSnapshotIsRestored() {
+		long downloadedAt = System.currentTimeMillis();
+		store.save("KR", data, version, downloadedAt, 72 * HOUR);
+
+		TrustMaterialsStore.Restored restored = store.load("KR", cf, downloadedAt + HOUR);
+
+		assertThat(restored).isNotNull();
+		assertThat(restored.parsed().version()).isEqualTo(version);
+		assertThat(restored.parsed().cscas()).hasSize(1);
+		assertThat(restored.downloadedAt()).isEqualTo(downloadedAt);
+		assertThat(restored.expiresAt()).isEqualTo(downloadedAt + 72 * HOUR);
+		// requestId는 요청마다 새로 발급되므로 저장하지 않음
+		assertThat(restored.data().requestId()).isNull();
+		assertThat(restored.data().csca()).isEqualTo(data.csca());
+	}
+
+	@Test
+	void missingSnapshotIsNotRestored() {
+		assertThat(store.load("KR", cf, System.currentTimeMillis())).isNull();
+	}
+
+	@Test
+	void snapshotPastMaxAgeIsNotRestored() {
+		long downloadedAt = System.currentTimeMillis();
+		store.save("KR", data, version, downloadedAt, 72 * HOUR);
+
+		assertThat(store.load("KR", cf, downloadedAt + 72 * HOUR)).isNotNull();
+		assertThat(store.load("KR", cf, downloadedAt + 72 * HOUR + 1)).isNull();
+	}
+
+	@Test
+	void snapshotWithMismatchedVersionIsNotRestored() {
+		long downloadedAt = System.currentTimeMillis();
+		store.save("KR", data, "0000000000000000", downloadedAt, 72 * HOUR);
+
+		assertThat(store.load("KR", cf, downloadedAt)).isNull();
+	}
+
+	@Test
+	void unreadablePayloadIsNotRestored() {
+		long downloadedAt = System.currentTimeMillis();
+		store.save("KR", data, version, downloadedAt, 72 * HOUR);
+		stored.get().setPayload("{not json");
+
+		assertThat(store.load("KR", cf, downloadedAt)).isNull();
+	}
+
+	@Test
+	void olderDownloadDoesNotOverwriteNewerSnapshot() {
+		long downloadedAt = System.currentTimeMillis();
+		store.save("KR", data, version, downloadedAt, 72 * HOUR);
+		store.save("KR", data, "stale", downloadedAt - HOUR, 72 * HOUR);
+
+		assertThat(stored.get().getVersion()).isEqualTo(version);
+		assertThat(stored.get().getDownloadedAt()).isEqualTo(downloadedAt);
+	}
+}
@@ -0,0 +1,73 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.smartcoreinc.fphps.dto.EventMessageData;
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+
+class EventFramesTest {
+
+	private static final byte[] IMAGE = {(byte) 0xFF, (byte) 0xD8, 1};
+	private static final byte[] SOD = {0x77, 1, 2};
+	private static final byte[] DG1 = {0x61, 3};
+	private static final byte[] DG2 = {0x75, 4, 5};
+
+	private final Gson gson = new Gson();
+
+	private EventMessageData readDoneEvent() {
+		EventMessageData message = new EventMessageData();
+		message.setEventCodeString("FPHPS_EVENTS.FPHPS_EV_EPASS_READ_DONE");
+		message.setImage(FPHPSImage.builder().width(1).imageData(Base64.getEncoder().encodeToString(IMAGE)).build());
+		message.setSodDataBytes(SOD);
+		Map<Integer, byte[]> dataGroups = new HashMap<>();
+		dataGroups.put(2, DG2);
+		dataGroups.put(1, DG1);
+		message.setDgDataMap(dataGroups);
+		return message;
+	}
+
+	@Test
+	void chipDataIsSentAsBinaryAttachments() {
+		List<WebSocketMessage<?>> frames = EventFrames.ofDeviceEvent(gson, readDoneEvent()).binaryFrames();
+
+		JsonObject header = JsonParser.parseString(((TextMessage) frames.get(0)).getPayload()).getAsJsonObject();
+		assertThat(header.has("sodDataBytes")).isFalse();
+		assertThat(header.has("dgDataMap")).isFalse();
+		assertThat(header.getAsJsonObject("image").has("imageData")).isFalse();
+		JsonArray descriptors = header.getAsJsonArray("binaryAttachments");
+		assertThat(descriptors).hasSize(4);
+		assertThat(descriptors.asList()).extracting(descriptor -> descriptor.getAsJsonObject().get("field").getAsString())
+			.containsExactly("sodDataBytes", "dgDataMap.1", "dgDataMap.2", "image.imageData");
+
+		assertThat(frames).hasSize(5);
+		assertThat(((BinaryMessage) frames.get(1)).getPayload().array()).isEqualTo(SOD);
+		assertThat(((BinaryMessage) frames.get(2)).getPayload().array()).isEqualTo(DG1);
+		assertThat(((BinaryMessage) frames.get(3)).getPayload().array()).isEqualTo(DG2);
+		assertThat(((BinaryMessage) frames.get(4)).getPayload().array()).isEqualTo(IMAGE);
+	}
+
+	@Test
+	void textFrameKeepsOriginalRepresentation() {
+		EventMessageData message = readDoneEvent();
+		String expected = gson.toJson(message);
+
+		TextMessage frame = EventFrames.ofDeviceEvent(gson, message).textFrame();
+
+		// 필드 순서만 다를 뿐 직접 직렬화한 결과와 같음 (칩 데이터는 숫자 배열, 이미지는 base64)
+		assertThat(JsonParser.parseString(frame.getPayload())).isEqualTo(JsonParser.parseString(expected));
+	}
+}
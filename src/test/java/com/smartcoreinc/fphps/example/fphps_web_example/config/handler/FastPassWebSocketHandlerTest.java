@@ -0,0 +1,43 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.smartcoreinc.fphps.dto.EventMessageData;
+import com.smartcoreinc.fphps.dto.FPHPSImage;
+
+class FastPassWebSocketHandlerTest {
+
+	@Test
+	void snapshotCopiesFieldReferencesWithoutCloningBytes() {
+		EventMessageData message = new EventMessageData();
+		message.setEventId(7);
+		message.setEventCodeString("FPHPS_EVENTS.FPHPS_EV_EPASS_DG_READ");
+		message.setLParam("2");
+		message.setImage(FPHPSImage.builder().build());
+		byte[] sod = {1, 2, 3};
+		message.setSodDataBytes(sod);
+		Map<Integer, byte[]> dataGroups = new HashMap<>();
+		dataGroups.put(1, new byte[] {4, 5});
+		message.setDgDataMap(dataGroups);
+		message.setChipReadFailed(true);
+		message.setChipReadErrorMessage("BAC failed");
+
+		EventMessageData snapshot = FastPassWebSocketHandler.snapshot(message);
+
+		assertThat(snapshot).isNotSameAs(message).isEqualTo(message);
+		assertThat(snapshot.getImage()).isSameAs(message.getImage());
+		assertThat(snapshot.getSodDataBytes()).isSameAs(sod);
+		assertThat(snapshot.getDgDataMap().get(1)).isSameAs(dataGroups.get(1));
+
+		// 콜백 반환 후 원본을 바꿔도 전송 스레드가 직렬화하는 내용은 그대로
+		message.setEventCodeString("changed");
+		dataGroups.put(2, new byte[] {6});
+		assertThat(snapshot.getEventCodeString()).isEqualTo("FPHPS_EVENTS.FPHPS_EV_EPASS_DG_READ");
+		assertThat(snapshot.getDgDataMap()).containsOnlyKeys(1);
+	}
+}
@@ -0,0 +1,112 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.config.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.smartcoreinc.fphps.example.fphps_web_example.config.handler.SessionOutbound.OfferResult;
+
+class SessionOutboundTest {
+
+	private WebSocketSession session;
+	// 송신 작업을 바로 실행하지 않고 보관하여 큐가 쌓인 상태를 만듦
+	private final List<Runnable> pendingDrains = new ArrayList<>();
+	private final Executor sender = pendingDrains::add;
+
+	@BeforeEach
+	void setUp() {
+		session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn("s1");
+		when(session.isOpen()).thenReturn(true);
+	}
+
+	private SessionOutbound outbound(int capacity, long bufferSizeLimitBytes, int downgradeMaxMessageBytes) {
+		return new SessionOutbound(session,
+			new SessionOutbound.Limits(capacity, 10_000, bufferSizeLimitBytes, downgradeMaxMessageBytes), sender, false);
+	}
+
+	private static List<WebSocketMessage<?>> text(String payload) {
+		return List.of(new TextMessage(payload));
+	}
+
+	private void drain() {
+		List<Runnable> drains = new ArrayList<>(pendingDrains);
+		pendingDrains.clear();
+		drains.forEach(Runnable::run);
+	}
+
+	@Test
+	void oldestProgressEventIsDroppedWhenFull() throws Exception {
+		SessionOutbound outbound = outbound(2, 1 << 20, 1024);
+
+		assertThat(outbound.offer(text("progress-1"), true)).isEqualTo(OfferResult.QUEUED);
+		assertThat(outbound.offer(text("result"), false)).isEqualTo(OfferResult.QUEUED);
+		assertThat(outbound.offer(text("progress-2"), true)).isEqualTo(OfferResult.DROPPED);
+
+		assertThat(outbound.pending()).isEqualTo(2);
+		assertThat(outbound.dropped()).isEqualTo(1);
+
+		drain();
+		InOrder order = inOrder(session);
+		order.verify(session).sendMessage(new TextMessage("result"));
+		order.verify(session).sendMessage(new TextMessage("progress-2"));
+	}
+
+	@Test
+	void sessionIsEvictedWhenOnlyUndroppableEventsAreQueued() throws Exception {
+		SessionOutbound outbound = outbound(2, 1 << 20, 1024);
+
+		outbound.offer(text("result-1"), false);
+		outbound.offer(text("result-2"), false);
+
+		assertThat(outbound.offer(text("result-3"), false)).isEqualTo(OfferResult.EVICTED);
+		assertThat(outbound.isEvicted()).isTrue();
+		assertThat(outbound.pending()).isZero();
+		assertThat(outbound.offer(text("progress"), true)).isEqualTo(OfferResult.EVICTED);
+		verify(session).close(any(CloseStatus.class));
+	}
+
+	@Test
+	void degradedModeSkipsOnlyLargeProgressEvents() {
+		SessionOutbound outbound = outbound(16, 20, 4);
+
+		outbound.offer(text("0123456789"), false);
+		outbound.offer(text("0123456789"), false);
+
+		// 한도를 넘어 저하 모드로 전환: 큰 진행 이벤트는 건너뛰고, 완료 이벤트로 다시 한도를 넘으면 연결 종료
+		assertThat(outbound.offer(text("large progress"), true)).isEqualTo(OfferResult.SKIPPED);
+		assertThat(outbound.pending()).isEqualTo(2);
+		assertThat(outbound.offer(text("done"), false)).isEqualTo(OfferResult.EVICTED);
+	}
+
+	@Test
+	void framesOfOneEventAreSentTogether() throws Exception {
+		SessionOutbound outbound = outbound(1, 1 << 20, 1024);
+		TextMessage header = new TextMessage("{\"attachments\":1}");
+		BinaryMessage attachment = new BinaryMessage(new byte[] {1, 2, 3});
+
+		outbound.offer(List.of(header, attachment), true);
+		assertThat(outbound.offer(text("next"), true)).isEqualTo(OfferResult.DROPPED);
+
+		drain();
+		verify(session).sendMessage(new TextMessage("next"));
+		verify(session, never()).sendMessage(attachment);
+	}
+}
@@ -0,0 +1,97 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AbandonedThreadRegistryTest {
+
+	// 네이티브 호출에 묶인 스레드 대신 래치에서 기다리는 스레드
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final List<Thread> blocked = new ArrayList<>();
+	private AbandonedThreadRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new AbandonedThreadRegistry(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(registry, "maxAbandoned", 2);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		release.countDown();
+		for (Thread thread : blocked) {
+			thread.join(1000);
+		}
+	}
+
+	private Thread blockedThread() {
+		return blockedThread(release);
+	}
+
+	private Thread blockedThread(CountDownLatch latch) {
+		Thread thread = new Thread(() -> {
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+		blocked.add(thread);
+		return thread;
+	}
+
+	@Test
+	void limitCountsOnlyThreadsSinceLastAcknowledge() {
+		assertThat(registry.register("DEV-1", "op", blockedThread())).isFalse();
+		assertThat(registry.register("DEV-1", "op", blockedThread())).isTrue();
+
+		registry.acknowledge();
+
+		// 조치 후에도 남은 스레드만으로는 상한에 다시 도달하지 않음
+		assertThat(registry.register("DEV-2", "op", blockedThread())).isFalse();
+		assertThat(registry.register("DEV-2", "op", blockedThread())).isTrue();
+		assertThat(registry.aliveCount()).isEqualTo(4);
+	}
+
+	@Test
+	void blockedDeviceIdsListsDevicesWithLiveThreads() throws InterruptedException {
+		Thread finished = new Thread(() -> { });
+		finished.start();
+		finished.join();
+
+		registry.register("DEV-1", "op", blockedThread());
+		registry.register("DEV-2", "op", finished);
+
+		assertThat(registry.blockedDeviceIds()).containsExactly("DEV-1");
+	}
+
+	@Test
+	void exitedThreadsLowerTheAcknowledgedBaseline() throws InterruptedException {
+		CountDownLatch firstRelease = new CountDownLatch(1);
+		registry.register("DEV-1", "op", blockedThread(firstRelease));
+		registry.register("DEV-1", "op", blockedThread(firstRelease));
+		registry.acknowledge();
+
+		firstRelease.countDown();
+		for (Thread thread : blocked) {
+			thread.join(1000);
+		}
+		assertThat(registry.aliveCount()).isZero();
+
+		// 기준 수가 0으로 줄었으므로 새로 버려진 스레드는 처음부터 상한에 집계
+		assertThat(registry.register("DEV-1", "op", blockedThread())).isFalse();
+		assertThat(registry.register("DEV-1", "op", blockedThread())).isTrue();
+	}
+}
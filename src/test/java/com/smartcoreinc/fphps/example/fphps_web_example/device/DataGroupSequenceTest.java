@@ -0,0 +1,76 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.smartcoreinc.fphps.dto.EventMessageData;
+
+class DataGroupSequenceTest {
+
+	private static EventMessageData event(String lParam) {
+		EventMessageData message = new EventMessageData();
+		message.setLParam(lParam);
+		return message;
+	}
+
+	@Test
+	void explicitNumberIsUsedWhenPresent() {
+		DataGroupSequence sequence = new DataGroupSequence(List.of(1, 2));
+		sequence.attach(dg -> new byte[] {(byte) dg});
+
+		DataGroupSequence.Resolved resolved = sequence.resolve(event("14"));
+
+		assertThat(resolved.dataGroup()).isEqualTo(14);
+		assertThat(resolved.data()).containsExactly(14);
+	}
+
+	@Test
+	void missingDataGroupDoesNotShiftLaterNumbers() {
+		// DG3은 칩에 없어 이벤트 없이 건너뜀
+		Map<Integer, byte[]> chip = Map.of(1, new byte[] {1}, 2, new byte[] {2}, 14, new byte[] {14});
+		DataGroupSequence sequence = new DataGroupSequence(List.of(1, 2, 3, 14));
+		sequence.attach(chip::get);
+
+		assertThat(sequence.resolve(event("OK")).label()).isEqualTo("DG1");
+		assertThat(sequence.resolve(event("OK")).label()).isEqualTo("DG2");
+		assertThat(sequence.resolve(event("OK")).label()).isEqualTo("DG14");
+		assertThat(sequence.resolve(event("OK")).isKnown()).isFalse();
+	}
+
+	@Test
+	void sameEventResolvesOnce() {
+		DataGroupSequence sequence = new DataGroupSequence(List.of(1, 2));
+		sequence.attach(dg -> new byte[] {(byte) dg});
+		EventMessageData message = event(null);
+
+		assertThat(sequence.resolve(message).dataGroup()).isEqualTo(1);
+		assertThat(sequence.resolve(message).dataGroup()).isEqualTo(1);
+		assertThat(sequence.resolve(event(null)).dataGroup()).isEqualTo(2);
+	}
+
+	@Test
+	void resetStartsOverAndUnattachedSourceIsUnknown() {
+		DataGroupSequence sequence = new DataGroupSequence(List.of(1));
+		assertThat(sequence.resolve(event(null))).isEqualTo(DataGroupSequence.Resolved.UNKNOWN);
+
+		sequence.attach(dg -> new byte[] {1});
+		assertThat(sequence.resolve(event(null)).dataGroup()).isEqualTo(1);
+		assertThat(sequence.resolve(event(null)).isKnown()).isFalse();
+
+		sequence.reset();
+		assertThat(sequence.resolve(event(null)).dataGroup()).isEqualTo(1);
+	}
+
+	@Test
+	void explicitNumberAcceptsOnlyDataGroupRange() {
+		assertThat(DataGroupSequence.explicitNumber(event("1"))).isEqualTo(1);
+		assertThat(DataGroupSequence.explicitNumber(event("16"))).isEqualTo(16);
+		assertThat(DataGroupSequence.explicitNumber(event("0"))).isEqualTo(-1);
+		assertThat(DataGroupSequence.explicitNumber(event("17"))).isEqualTo(-1);
+		assertThat(DataGroupSequence.explicitNumber(event("Read OK"))).isEqualTo(-1);
+	}
+}
@@ -0,0 +1,128 @@
+package com.smartcoreinc.fphps.example.fphps_web_example.device;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.smartcoreinc.fphps.dto.properties.EPassportDGProperties;
+import com.smartcoreinc.fphps.dto.properties.FPHPSDeviceProperties;
+import com.smartcoreinc.fphps.example.fphps_web_example.device.DeviceTimeoutPolicy.OperationTimeout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DeviceTimeoutPolicyTest {
+
+	private static final String KEY = "IDCARD/manual";
+
+	private SimpleMeterRegistry meterRegistry;
+	private DeviceTimeoutPolicy policy;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		policy = new DeviceTimeoutPolicy(meterRegistry);
+		ReflectionTestUtils.setField(policy, "adaptive", true);
+		ReflectionTestUtils.setField(policy, "percentile", 0.999);
+		ReflectionTestUtils.setField(policy, "safetyFactor", 3.0);
+		ReflectionTestUtils.setField(policy, "minSamples", 5);
+		ReflectionTestUtils.setField(policy, "windowSize", 100);
+		ReflectionTestUtils.setField(policy, "floorSeconds", 5L);
+		ReflectionTestUtils.setField(policy, "ceilingSeconds", 60L);
+	}
+
+	private void recordSeconds(String key, long seconds, int count) {
+		for (int i = 0; i < count; i++) {
+			policy.recordSuccess(key, TimeUnit.SECONDS.toNanos(seconds));
+		}
+	}
+
+	@Test
+	void usesCeilingUntilMinSamples() {
+		recordSeconds(KEY, 2, 4);
+
+		OperationTimeout timeout = policy.timeoutFor("IDCARD", "manual", null);
+
+		assertThat(timeout.learned()).isFalse();
+		assertThat(timeout.millis()).isEqualTo(60_000);
+	}
+
+	@Test
+	void learnedTimeoutIsQuantileTimesSafetyFactor() {
+		recordSeconds(KEY, 2, 10);
+		recordSeconds(KEY, 4, 1);
+
+		OperationTimeout timeout = policy.timeoutFor("IDCARD", "manual", null);
+
+		assertThat(timeout.learned()).isTrue();
+		assertThat(timeout.millis()).isEqualTo(12_000);
+		assertThat(meterRegistry.get("fphps.device.timeout.budget").tag("operation", KEY).gauge().value())
+			.isEqualTo(12.0);
+	}
+
+	@Test
+	void learnedTimeoutIsClampedToFloorAndCeiling() {
+		recordSeconds(KEY, 1, 5);
+		assertThat(policy.timeoutFor("IDCARD", "manual", null).millis()).isEqualTo(5_000);
+
+		recordSeconds("IDCARD/auto", 30, 5);
+		assertThat(policy.timeoutFor("IDCARD", "auto", null).millis()).isEqualTo(60_000);
+	}
+
+	@Test
+	void consecutiveTimeoutsDoubleUntilNextSuccess() {
+		recordSeconds(KEY, 2, 5);
+
+		policy.recordTimeout(KEY);
+		assertThat(policy.timeoutFor("IDCARD", "manual", null).millis()).isEqualTo(12_000);
+		policy.recordTimeout(KEY);
+		assertThat(policy.timeoutFor("IDCARD", "manual", null).millis()).isEqualTo(24_000);
+
+		recordSeconds(KEY, 2, 1);
+		assertThat(policy.timeoutFor("IDCARD", "manual", null).millis()).isEqualTo(6_000);
+	}
+
+	@Test
+	void autoModeFloorIncludesReadTimeout() {
+		FPHPSDeviceProperties properties = new FPHPSDeviceProperties();
+		properties.setReadTimeout(20);
+		recordSeconds("IDCARD/auto", 1, 5);
+
+		assertThat(policy.timeoutFor("IDCARD", DeviceStageMetrics.MODE_AUTO, properties).millis()).isEqualTo(25_000);
+	}
+
+	@Test
+	void autoModeCeilingIncludesReadTimeout() {
+		FPHPSDeviceProperties properties = new FPHPSDeviceProperties();
+		properties.setReadTimeout(58);
+		assertThat(policy.timeoutFor("IDCARD", DeviceStageMetrics.MODE_AUTO, properties).millis()).isEqualTo(118_000);
+
+		// floor(5s) + READ_TIMEOUT(58s)가 ceiling(60s)을 넘어도 문서 대기 시간 전에 끊지 않음
+		recordSeconds("IDCARD/auto", 1, 5);
+		assertThat(policy.timeoutFor("IDCARD", DeviceStageMetrics.MODE_AUTO, properties).millis()).isEqualTo(63_000);
+
+		recordSeconds("IDCARD/auto", 50, 5);
+		assertThat(policy.timeoutFor("IDCARD", DeviceStageMetrics.MODE_AUTO, properties).millis()).isEqualTo(118_000);
+	}
+
+	@Test
+	void passportKeyIncludesDataGroups() {
+		FPHPSDeviceProperties properties = new FPHPSDeviceProperties();
+		properties.setEPassportDGProperties(EPassportDGProperties.builder().dg1(1).dg2(1).dg14(1).build());
+
+		assertThat(policy.operationKey("passport", "manual", properties)).isEqualTo("PASSPORT/manual/DG1+DG2+DG14");
+		assertThat(policy.operationKey("idcard", "manual", properties)).isEqualTo("IDCARD/manual");
+		assertThat(policy.operationKey(null, "manual", null)).isEqualTo("UNKNOWN/manual");
+	}
+
+	@Test
+	void nonAdaptiveAlwaysUsesCeiling() {
+		ReflectionTestUtils.setField(policy, "adaptive", false);
+		recordSeconds(KEY, 2, 10);
+
+		assertThat(policy.timeoutFor("IDCARD", "manual", null)).isEqualTo(new OperationTimeout(KEY, 60_000, false));
+	}
+}